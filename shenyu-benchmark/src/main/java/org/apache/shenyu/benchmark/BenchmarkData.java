@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.PluginData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+import org.apache.shenyu.common.enums.TrieTypeEnum;
+import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.trie.CompactShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The gateway data shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Register the beans which the plugins get from {@link SpringBeanUtils}.
+     *
+     * @param trie the shenyu trie
+     */
+    public static void registerBeans(final ShenyuTrie trie) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ShenyuConfig.class, ShenyuConfig::new);
+        context.registerBean(ShenyuTrie.class, () -> trie);
+        context.registerBean(ShenyuSelectorTrie.class, ShenyuSelectorTrie::new);
+        context.refresh();
+        SpringBeanUtils.getInstance().setApplicationContext(context);
+    }
+
+    /**
+     * Create the trie in the default ant path mode.
+     *
+     * @return the trie
+     */
+    public static ShenyuTrie newTrie() {
+        return newTrie(TrieTypeEnum.CAFFEINE.getType());
+    }
+
+    /**
+     * Create the trie of the type in the default ant path mode.
+     *
+     * @param type the trie type
+     * @return the trie
+     */
+    public static ShenyuTrie newTrie(final String type) {
+        if (TrieTypeEnum.COMPACT.getType().equals(type)) {
+            return new CompactShenyuTrie(TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+        }
+        return new ShenyuTrie(10000L, 1000L, 1000L, TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+    }
+
+    /**
+     * Cache the plugin, {@code selectorCount} selectors of {@code /service-i/**},
+     * and {@code ruleCount} rules of {@code /service-i/api-j} for each selector.
+     *
+     * @param pluginName the plugin name
+     * @param selectorCount the selector count
+     * @param ruleCount the rule count of each selector
+     * @param trie the trie to put the rules into, as the trie listener does
+     */
+    public static void cacheRoutes(final String pluginName, final int selectorCount, final int ruleCount, final ShenyuTrie trie) {
+        BaseDataCache.getInstance().cleanPluginData();
+        BaseDataCache.getInstance().cleanSelectorData();
+        BaseDataCache.getInstance().cleanRuleData();
+        BaseDataCache.getInstance().cachePluginData(PluginData.builder().name(pluginName).enabled(true).build());
+        final ShenyuSelectorTrie selectorTrie = SpringBeanUtils.getInstance().getBean(ShenyuSelectorTrie.class);
+        selectorTrie.clear();
+        for (int i = 0; i < selectorCount; i++) {
+            String selectorId = String.valueOf(i);
+            SelectorData selectorData = SelectorData.builder()
+                    .id(selectorId)
+                    .pluginName(pluginName)
+                    .enabled(true)
+                    .logged(false)
+                    .matchRestful(false)
+                    .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                    .matchMode(MatchModeEnum.AND.getCode())
+                    .sort(i)
+                    .conditionList(uriCondition(OperatorEnum.MATCH.getAlias(), "/service-" + i + "/**"))
+                    .build();
+            BaseDataCache.getInstance().cacheSelectData(selectorData);
+            selectorTrie.putSelector(selectorData);
+            for (int j = 0; j < ruleCount; j++) {
+                String path = rulePath(i, j);
+                RuleData ruleData = RuleData.builder()
+                        .id(selectorId + "-" + j)
+                        .name(path)
+                        .pluginName(pluginName)
+                        .selectorId(selectorId)
+                        .enabled(true)
+                        .loged(false)
+                        .matchRestful(false)
+                        .matchMode(MatchModeEnum.AND.getCode())
+                        .sort(j)
+                        .conditionDataList(uriCondition(OperatorEnum.EQ.getAlias(), path))
+                        .build();
+                BaseDataCache.getInstance().cacheRuleData(ruleData);
+                trie.putNode(path, ruleData, ruleData.getId());
+            }
+        }
+    }
+
+    /**
+     * The path of the rule.
+     *
+     * @param selector the selector index
+     * @param rule the rule index
+     * @return the path
+     */
+    public static String rulePath(final int selector, final int rule) {
+        return "/service-" + selector + "/api-" + rule;
+    }
+
+    /**
+     * The uri condition list.
+     *
+     * @param operator the operator
+     * @param value the param value
+     * @return the condition list
+     */
+    public static List<ConditionData> uriCondition(final String operator, final String value) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(ParamTypeEnum.URI.getName());
+        conditionData.setParamName("/");
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(value);
+        return new ArrayList<>(Collections.singletonList(conditionData));
+    }
+}
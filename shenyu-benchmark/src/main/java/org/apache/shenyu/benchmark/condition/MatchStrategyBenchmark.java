@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.condition;
+
+import org.apache.shenyu.benchmark.BenchmarkData;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link MatchStrategyFactory#match} of one uri condition, for each {@code PredicateJudge}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchStrategyBenchmark {
+
+    private static final String PATH = "/http/order/findById";
+
+    @Param({"match", "=", "regex", "contains", "startsWith", "endsWith", "exclude", "pathPattern", "TimeBefore", "TimeAfter"})
+    private String operator;
+
+    private List<ConditionData> conditions;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Create the condition of the operator, which matches the path.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        conditions = BenchmarkData.uriCondition(operator, paramValue());
+        if (operator.startsWith("Time")) {
+            // compare with the current time
+            conditions.get(0).setParamName(null);
+        }
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH).build());
+    }
+
+    /**
+     * Match the conditions.
+     *
+     * @return true when matched
+     */
+    @Benchmark
+    public boolean match() {
+        return MatchStrategyFactory.match(MatchModeEnum.AND.getCode(), conditions, exchange);
+    }
+
+    private String paramValue() {
+        switch (operator) {
+            case "match":
+            case "pathPattern":
+                return "/http/order/**";
+            case "=":
+                return PATH;
+            case "regex":
+                return "/http/.*/findBy[A-Z][a-z]+";
+            case "contains":
+                return "order";
+            case "startsWith":
+                return "/http/";
+            case "endsWith":
+                return "findById";
+            case "exclude":
+                return "/admin/**";
+            case "TimeBefore":
+                return "2099-01-01 00:00:00";
+            default:
+                return "2000-01-01 00:00:00";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.loadbalancer;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The upstream selection of every {@code LoadBalancer} SPI.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBalancerBenchmark {
+
+    private static final int IP_COUNT = 1024;
+
+    @Param({"hash", "random", "roundRobin", "leastActive", "p2c", "shortestResponse"})
+    private String algorithm;
+
+    @Param({"3", "50"})
+    private int upstreamCount;
+
+    private List<Upstream> upstreams;
+
+    private String[] ips;
+
+    private int next;
+
+    /**
+     * Create the upstreams with different weights.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        upstreams = new ArrayList<>(upstreamCount);
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreams.add(Upstream.builder()
+                    .url("10.0.0." + i + ":8080")
+                    .weight(50 + i % 5 * 10)
+                    .warmup(0)
+                    .build());
+        }
+        ips = new String[IP_COUNT];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < IP_COUNT; i++) {
+            ips[i] = "192.168." + random.nextInt(256) + "." + random.nextInt(256);
+        }
+    }
+
+    /**
+     * Select an upstream.
+     *
+     * @return the upstream
+     */
+    @Benchmark
+    public Upstream select() {
+        next = (next + 1) & (IP_COUNT - 1);
+        return LoadBalancerFactory.selector(upstreams, algorithm, ips[next]);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.benchmark.BenchmarkData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
+import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The selector and rule matching of {@link AbstractShenyuPlugin#execute}, the requests are spread over all the rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbstractShenyuPluginBenchmark {
+
+    private static final String PLUGIN_NAME = "benchmark";
+
+    private static final int REQUEST_COUNT = 1024;
+
+    private static final ShenyuPluginChain CHAIN = exchange -> Mono.empty();
+
+    @Param({"10", "100", "1000"})
+    private int selectorCount;
+
+    @Param({"10", "50"})
+    private int ruleCount;
+
+    private final BenchmarkPlugin plugin = new BenchmarkPlugin();
+
+    private ServerWebExchange[] exchanges;
+
+    private int next;
+
+    /**
+     * Cache the routes, and the requests of random rules.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShenyuTrie trie = BenchmarkData.newTrie();
+        BenchmarkData.registerBeans(trie);
+        MatchDataCache.getInstance().removeRuleData(PLUGIN_NAME);
+        BenchmarkData.cacheRoutes(PLUGIN_NAME, selectorCount, ruleCount, trie);
+        exchanges = new ServerWebExchange[REQUEST_COUNT];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String path = BenchmarkData.rulePath(random.nextInt(selectorCount), random.nextInt(ruleCount));
+            exchanges[i] = MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+        }
+    }
+
+    /**
+     * Execute the plugin.
+     */
+    @Benchmark
+    public void execute() {
+        next = (next + 1) & (REQUEST_COUNT - 1);
+        plugin.execute(exchanges[next], CHAIN).block();
+    }
+
+    static final class BenchmarkPlugin extends AbstractShenyuPlugin {
+
+        @Override
+        protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+
+        @Override
+        public String named() {
+            return PLUGIN_NAME;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.plugin;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.web.handler.ShenyuWebHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The plugin chain traversal of {@link ShenyuWebHandler}, every third plugin is skipped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShenyuWebHandlerBenchmark {
+
+    @Param({"10", "40"})
+    private int pluginCount;
+
+    private ShenyuWebHandler webHandler;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Create the handler with the pass-through plugins.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ShenyuPlugin> plugins = new ArrayList<>(pluginCount);
+        for (int i = 0; i < pluginCount; i++) {
+            plugins.add(new PassPlugin(i, i % 3 == 2));
+        }
+        webHandler = new ShenyuWebHandler(plugins, null, new ShenyuConfig());
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/order/findById").build());
+    }
+
+    /**
+     * Traverse the chain.
+     */
+    @Benchmark
+    public void handle() {
+        webHandler.handle(exchange).block();
+    }
+
+    private static final class PassPlugin implements ShenyuPlugin {
+
+        private final int order;
+
+        private final boolean skip;
+
+        PassPlugin(final int order, final boolean skip) {
+            this.order = order;
+            this.skip = skip;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return "pass-" + order;
+        }
+
+        @Override
+        public boolean skip(final ServerWebExchange exchange) {
+            return skip;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.trie;
+
+import org.apache.shenyu.benchmark.BenchmarkData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ShenyuTrie#matchRules} of the plain, path variable and wildcard paths, on both trie types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShenyuTrieBenchmark {
+
+    private static final String SELECTOR_ID = "1";
+
+    private static final int REQUEST_COUNT = 1024;
+
+    @Param({"100", "1000", "10000"})
+    private int pathCount;
+
+    @Param({"plain", "variable", "wildcard"})
+    private String pathType;
+
+    @Param({"caffeine", "compact"})
+    private String trieType;
+
+    private ShenyuTrie trie;
+
+    private String[] paths;
+
+    private int next;
+
+    /**
+     * Put the paths of the type into the trie.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        trie = BenchmarkData.newTrie(trieType);
+        for (int i = 0; i < pathCount; i++) {
+            RuleData ruleData = RuleData.builder().id(String.valueOf(i)).selectorId(SELECTOR_ID).sort(i).build();
+            trie.putNode(pattern(i), ruleData, ruleData.getId());
+        }
+        paths = new String[REQUEST_COUNT];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            paths[i] = "/service-" + random.nextInt(pathCount) + "/order/" + random.nextInt(1000) + "/detail";
+        }
+    }
+
+    /**
+     * Match the trie.
+     *
+     * @return the matched rules
+     */
+    @Benchmark
+    public List<RuleData> match() {
+        next = (next + 1) & (REQUEST_COUNT - 1);
+        return trie.matchRules(paths[next], SELECTOR_ID);
+    }
+
+    private String pattern(final int i) {
+        switch (pathType) {
+            case "variable":
+                return "/service-" + i + "/order/{id}/detail";
+            case "wildcard":
+                return "/service-" + i + "/**";
+            default:
+                return "/service-" + i + "/order/" + i % 1000 + "/detail";
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark.utils;
+
+import org.apache.shenyu.benchmark.BenchmarkData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link GsonUtils} serialization of the selector and rule data, as the data sync does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonUtilsBenchmark {
+
+    private SelectorData selectorData;
+
+    private RuleData ruleData;
+
+    private String selectorJson;
+
+    private String ruleJson;
+
+    /**
+     * Create the data and their json.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        selectorData = SelectorData.builder()
+                .id("1")
+                .pluginId("5")
+                .pluginName("divide")
+                .name("/http")
+                .enabled(true)
+                .logged(false)
+                .continued(true)
+                .matchRestful(false)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                .matchMode(MatchModeEnum.AND.getCode())
+                .sort(1)
+                .conditionList(BenchmarkData.uriCondition(OperatorEnum.MATCH.getAlias(), "/http/**"))
+                .handle("[{\"upstreamHost\":\"localhost\",\"protocol\":\"http://\",\"upstreamUrl\":\"127.0.0.1:8189\",\"weight\":50}]")
+                .build();
+        ruleData = RuleData.builder()
+                .id("1")
+                .name("/http/order/findById")
+                .pluginName("divide")
+                .selectorId("1")
+                .enabled(true)
+                .loged(false)
+                .matchRestful(false)
+                .matchMode(MatchModeEnum.AND.getCode())
+                .sort(1)
+                .conditionDataList(BenchmarkData.uriCondition(OperatorEnum.EQ.getAlias(), "/http/order/findById"))
+                .handle("{\"loadBalance\":\"random\",\"retry\":3,\"timeout\":3000}")
+                .build();
+        selectorJson = GsonUtils.getInstance().toJson(selectorData);
+        ruleJson = GsonUtils.getInstance().toJson(ruleData);
+    }
+
+    /**
+     * Serialize the selector.
+     *
+     * @return the json
+     */
+    @Benchmark
+    public String selectorToJson() {
+        return GsonUtils.getInstance().toJson(selectorData);
+    }
+
+    /**
+     * Deserialize the selector.
+     *
+     * @return the selector
+     */
+    @Benchmark
+    public SelectorData selectorFromJson() {
+        return GsonUtils.getInstance().fromJson(selectorJson, SelectorData.class);
+    }
+
+    /**
+     * Serialize the rule.
+     *
+     * @return the json
+     */
+    @Benchmark
+    public String ruleToJson() {
+        return GsonUtils.getInstance().toJson(ruleData);
+    }
+
+    /**
+     * Deserialize the rule.
+     *
+     * @return the rule
+     */
+    @Benchmark
+    public RuleData ruleFromJson() {
+        return GsonUtils.getInstance().fromJson(ruleJson, RuleData.class);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * the load balancer config.
+ * hashVirtualNodeNum is the virtual node number of each upstream on the hash ring, hashAlgorithm is md5 or murmur3.
+ */
+public class LoadBalancerConfig {
+
+    private Integer hashVirtualNodeNum = 5;
+
+    private String hashAlgorithm = "md5";
+
+    /**
+     * get hash virtual node num.
+     *
+     * @return hash virtual node num
+     */
+    public Integer getHashVirtualNodeNum() {
+        return hashVirtualNodeNum;
+    }
+
+    /**
+     * set hash virtual node num.
+     *
+     * @param hashVirtualNodeNum hash virtual node num
+     */
+    public void setHashVirtualNodeNum(final Integer hashVirtualNodeNum) {
+        this.hashVirtualNodeNum = hashVirtualNodeNum;
+    }
+
+    /**
+     * get hash algorithm.
+     *
+     * @return hash algorithm
+     */
+    public String getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    /**
+     * set hash algorithm.
+     *
+     * @param hashAlgorithm hash algorithm
+     */
+    public void setHashAlgorithm(final String hashAlgorithm) {
+        this.hashAlgorithm = hashAlgorithm;
+    }
+}
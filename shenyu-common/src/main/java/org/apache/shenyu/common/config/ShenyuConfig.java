@@ -20,6 +20,7 @@ package org.apache.shenyu.common.config;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.concurrent.MemoryLimitCalculator;
 import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+import org.apache.shenyu.common.enums.TrieTypeEnum;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -65,6 +66,8 @@ public class ShenyuConfig {
     private MetricsConfig metrics = new MetricsConfig();
 
     private ShenyuTrieConfig trie = new ShenyuTrieConfig();
+
+    private LoadBalancerConfig loadBalancer = new LoadBalancerConfig();
     
     /**
      * Gets health.
@@ -354,6 +357,24 @@ public class ShenyuConfig {
         this.trie = trie;
     }
 
+    /**
+     * get load balancer config.
+     *
+     * @return load balancer config
+     */
+    public LoadBalancerConfig getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * set load balancer config.
+     *
+     * @param loadBalancer load balancer config
+     */
+    public void setLoadBalancer(final LoadBalancerConfig loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
     /**
      * The type Scheduler.
      */
@@ -922,6 +943,8 @@ public class ShenyuConfig {
         private boolean printEnabled;
         
         private Integer printInterval = 60000;
+
+        private String checkPath;
     
         /**
          * Gets enabled.
@@ -1066,6 +1089,22 @@ public class ShenyuConfig {
         public void setPrintInterval(final Integer printInterval) {
             this.printInterval = printInterval;
         }
+
+        /**
+         * Gets the http check path, the upstream is checked by tcp connect only when it is blank.
+         * @return the check path
+         */
+        public String getCheckPath() {
+            return checkPath;
+        }
+
+        /**
+         * Sets check path.
+         * @param checkPath the check path
+         */
+        public void setCheckPath(final String checkPath) {
+            this.checkPath = checkPath;
+        }
     }
     
     /**
@@ -1707,6 +1746,8 @@ public class ShenyuConfig {
         private String jmxConfig;
         
         private Properties props;
+        
+        private boolean pluginChain;
     
         /**
          * Instantiates a new Metrics config.
@@ -1821,6 +1862,24 @@ public class ShenyuConfig {
         public void setProps(final Properties props) {
             this.props = props;
         }
+    
+        /**
+         * Gets whether to instrument the plugins of the plugin chain.
+         *
+         * @return the plugin chain
+         */
+        public boolean getPluginChain() {
+            return pluginChain;
+        }
+    
+        /**
+         * Sets whether to instrument the plugins of the plugin chain.
+         *
+         * @param pluginChain the plugin chain
+         */
+        public void setPluginChain(final boolean pluginChain) {
+            this.pluginChain = pluginChain;
+        }
     }
 
     /**
@@ -1839,6 +1898,12 @@ public class ShenyuConfig {
          */
         private String matchMode = TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode();
 
+        /**
+         * trie type.
+         * @see TrieTypeEnum
+         */
+        private String type = TrieTypeEnum.CAFFEINE.getType();
+
         /**
          * get trie children size.
          *
@@ -1910,5 +1975,23 @@ public class ShenyuConfig {
         public void setMatchMode(final String matchMode) {
             this.matchMode = matchMode;
         }
+
+        /**
+         * get trie type.
+         *
+         * @return trie type
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * set trie type.
+         *
+         * @param type trie type
+         */
+        public void setType(final String type) {
+            this.type = type;
+        }
     }
 }
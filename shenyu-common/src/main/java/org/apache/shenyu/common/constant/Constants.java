@@ -122,6 +122,16 @@ public interface Constants {
      */
     String DIVIDE_SELECTOR_ID = "divideSelectorId";
 
+    /**
+     * the selector id matched by the last plugin executed with a selector.
+     */
+    String MATCHED_SELECTOR_ID = "matchedSelectorId";
+
+    /**
+     * the rule id matched by the last plugin executed with a rule, absent when the selector does not match rules.
+     */
+    String MATCHED_RULE_ID = "matchedRuleId";
+
     /**
      * Original response Content-Type attribute name.
      */
@@ -142,6 +152,11 @@ public interface Constants {
      */
     String PARAM_TRANSFORM = "param_transform";
 
+    /**
+     * The constant CACHED_REQUEST_BODY.
+     */
+    String CACHED_REQUEST_BODY = "cachedRequestBody";
+
     /**
      * The constant DECODE.
      */
@@ -54,6 +54,16 @@ public class RateLimiterHandle {
      */
     private String keyResolverName;
 
+    /**
+     * limiter mode, redis, local or hybrid.
+     */
+    private String mode;
+
+    /**
+     * the ratio of the burst capacity a node leases at once in hybrid mode.
+     */
+    private double leaseRatio = 0.1;
+
     /**
      * get algorithmName.
      *
@@ -162,6 +172,42 @@ public class RateLimiterHandle {
         this.keyResolverName = keyResolverName;
     }
 
+    /**
+     * get mode.
+     *
+     * @return mode
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * set mode.
+     *
+     * @param mode mode
+     */
+    public void setMode(final String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * get leaseRatio.
+     *
+     * @return leaseRatio
+     */
+    public double getLeaseRatio() {
+        return leaseRatio;
+    }
+
+    /**
+     * set leaseRatio.
+     *
+     * @param leaseRatio leaseRatio
+     */
+    public void setLeaseRatio(final double leaseRatio) {
+        this.leaseRatio = leaseRatio;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -173,12 +219,13 @@ public class RateLimiterHandle {
         RateLimiterHandle that = (RateLimiterHandle) o;
         return Double.compare(that.replenishRate, replenishRate) == 0 && Double.compare(that.burstCapacity, burstCapacity) == 0
                 && Double.compare(that.requestCount, requestCount) == 0 && loged == that.loged
-                && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName);
+                && Objects.equals(algorithmName, that.algorithmName) && Objects.equals(keyResolverName, that.keyResolverName)
+                && Objects.equals(mode, that.mode) && Double.compare(that.leaseRatio, leaseRatio) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName);
+        return Objects.hash(algorithmName, replenishRate, burstCapacity, requestCount, loged, keyResolverName, mode, leaseRatio);
     }
 
     @Override
@@ -198,6 +245,11 @@ public class RateLimiterHandle {
                 + ", keyResolverName='"
                 + keyResolverName
                 + '\''
+                + ", mode='"
+                + mode
+                + '\''
+                + ", leaseRatio="
+                + leaseRatio
                 + '}';
     }
 }
@@ -29,6 +29,21 @@ public class CacheRuleHandle implements RuleHandle {
      */
     private Long timeoutSeconds = 60L;
 
+    /**
+     * the max size of the cached response body in bytes, the bigger response is not cached.
+     */
+    private Long maxCacheSize = 1024 * 1024L;
+
+    /**
+     * whether the concurrent misses of the same key share one upstream call.
+     */
+    private Boolean singleFlight = Boolean.FALSE;
+
+    /**
+     * the seconds to serve the expired data while one request refreshes it, only works with single flight.
+     */
+    private Long staleSeconds = 0L;
+
     /**
      * Get the timeout seconds.
      * @return the timeout seconds
@@ -44,4 +59,52 @@ public class CacheRuleHandle implements RuleHandle {
     public void setTimeoutSeconds(final Long timeoutSeconds) {
         this.timeoutSeconds = timeoutSeconds;
     }
+
+    /**
+     * Get the max cache size.
+     * @return the max cache size in bytes
+     */
+    public Long getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    /**
+     * Set the max cache size.
+     * @param maxCacheSize the max cache size in bytes
+     */
+    public void setMaxCacheSize(final Long maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Get the single flight.
+     * @return the single flight
+     */
+    public Boolean getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Set the single flight.
+     * @param singleFlight the single flight
+     */
+    public void setSingleFlight(final Boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Get the stale seconds.
+     * @return the stale seconds
+     */
+    public Long getStaleSeconds() {
+        return staleSeconds;
+    }
+
+    /**
+     * Set the stale seconds.
+     * @param staleSeconds the stale seconds
+     */
+    public void setStaleSeconds(final Long staleSeconds) {
+        this.staleSeconds = staleSeconds;
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.enums;
+
+/**
+ * Shenyu trie type.
+ */
+public enum TrieTypeEnum {
+
+    /**
+     * the nodes are kept in caffeine caches and changed in place.
+     */
+    CAFFEINE("caffeine"),
+
+    /**
+     * the nodes are kept in immutable sorted arrays, and every change publishes a new copy of the changed path.
+     */
+    COMPACT("compact");
+
+    private final String type;
+
+    TrieTypeEnum(final String type) {
+        this.type = type;
+    }
+
+    /**
+     * get trie type.
+     *
+     * @return trie type
+     */
+    public String getType() {
+        return type;
+    }
+}
@@ -159,6 +159,18 @@ public class GsonUtils {
         return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
     }
 
+    /**
+     * From list, without serializing the parsed json again.
+     *
+     * @param <T>   the type parameter
+     * @param json  the parsed json
+     * @param clazz the clazz
+     * @return the list
+     */
+    public <T> List<T> treeToList(final JsonElement json, final Class<T> clazz) {
+        return GSON.fromJson(json, TypeToken.getParameterized(List.class, clazz).getType());
+    }
+
     /**
      * From current list.
      *
@@ -266,6 +278,17 @@ public class GsonUtils {
         }.getType());
     }
     
+    /**
+     * To object map, without serializing the parsed json again.
+     *
+     * @param json the parsed json
+     * @return the map
+     */
+    public Map<String, Object> treeToObjectMap(final JsonElement json) {
+        return GSON_MAP.fromJson(json, new TypeToken<LinkedHashMap<String, Object>>() {
+        }.getType());
+    }
+
     /**
      * Convert to map.
      *
@@ -275,7 +298,22 @@ public class GsonUtils {
     public Map<String, Object> convertToMap(final String json) {
         Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
         }.getType());
+        return convertMapValues(map);
+    }
+
+    /**
+     * Convert to map, without serializing the parsed json again.
+     *
+     * @param json the parsed json
+     * @return the map
+     */
+    public Map<String, Object> convertTreeToMap(final JsonElement json) {
+        Map<String, Object> map = GSON_MAP.fromJson(json, new TypeToken<Map<String, Object>>() {
+        }.getType());
+        return convertMapValues(map);
+    }
 
+    private Map<String, Object> convertMapValues(final Map<String, Object> map) {
         if (MapUtils.isEmpty(map)) {
             return map;
         }
@@ -290,7 +328,7 @@ public class GsonUtils {
                     map.put(key, mv);
                 }
             } else if (value instanceof JsonObject) {
-                map.put(key, convertToMap(value.toString()));
+                map.put(key, convertTreeToMap((JsonObject) value));
             } else if (value instanceof JsonArray) {
                 JsonArray jsonArray = (JsonArray) value;
                 map.put(key, jsonArrayToListInConvertToMap(jsonArray));
@@ -315,13 +353,11 @@ public class GsonUtils {
                 list.add(null);
                 continue;
             }
-            String objStr;
             if (jsonElement instanceof JsonObject) {
-                JsonObject asJsonObject = jsonElement.getAsJsonObject();
-                objStr = toJson(asJsonObject);
-            } else {
-                objStr = jsonElement.getAsString();
+                list.add(convertTreeToMap(jsonElement));
+                continue;
             }
+            String objStr = jsonElement.getAsString();
             if (objStr.startsWith(LEFT_ANGLE_BRACKETS) && objStr.endsWith(RIGHT_ANGLE_BRACKETS)) {
                 list.add(convertToMap(jsonElement.toString()));
             } else {
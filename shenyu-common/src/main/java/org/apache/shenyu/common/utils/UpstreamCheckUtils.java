@@ -62,6 +62,20 @@ public class UpstreamCheckUtils {
         if (StringUtils.isBlank(url)) {
             return false;
         }
+        final InetSocketAddress address = getSocketAddress(url);
+        return isHostConnector(address.getHostString(), address.getPort(), timeout);
+    }
+
+    /**
+     * Get the unresolved socket address of the url.
+     *
+     * @param url the url
+     * @return the socket address, null when the url is blank
+     */
+    public static InetSocketAddress getSocketAddress(final String url) {
+        if (StringUtils.isBlank(url)) {
+            return null;
+        }
         String[] hostPort;
         if (url.startsWith(HTTP)) {
             final String[] http = StringUtils.split(url, "\\/\\/");
@@ -71,7 +85,7 @@ public class UpstreamCheckUtils {
         }
         final boolean isHttps = url.startsWith(HTTPS);
         final int port = hostPort.length > 1 ? Integer.parseInt(hostPort[1].trim()) : isHttps ? 443 : 80;
-        return isHostConnector(hostPort[0].trim(), port, timeout);
+        return InetSocketAddress.createUnresolved(hostPort[0].trim(), port);
     }
 
     private static boolean isHostConnector(final String host, final int port, final int timeout) {
@@ -32,8 +32,14 @@ public class CacheRuleHandleTest {
         CacheRuleHandle handle = new CacheRuleHandle();
         
         handle.setTimeoutSeconds(120L);
+        handle.setMaxCacheSize(2048L);
+        handle.setSingleFlight(true);
+        handle.setStaleSeconds(10L);
         
         assertThat(handle.getTimeoutSeconds(), is(120L));
+        assertThat(handle.getMaxCacheSize(), is(2048L));
+        assertThat(handle.getSingleFlight(), is(true));
+        assertThat(handle.getStaleSeconds(), is(10L));
     }
     
 }
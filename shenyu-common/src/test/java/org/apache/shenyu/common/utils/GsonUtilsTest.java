@@ -271,6 +271,16 @@ public class GsonUtilsTest {
         assertNull(GsonUtils.getInstance().convertToMap(null));
     }
 
+    @Test
+    public void testJsonTree() {
+        String json = "{\"id\":1,\"price\":1.5,\"name\":null,\"inner\":{\"ids\":[1,{\"a\":null}],\"text\":\"{\\\"b\\\":2}\"},\"list\":[1,\"x\",{\"c\":3}]}";
+        JsonObject tree = JsonParser.parseString(json).getAsJsonObject();
+        assertEquals(GsonUtils.getInstance().toObjectMap(json), GsonUtils.getInstance().treeToObjectMap(tree));
+        assertEquals(GsonUtils.getInstance().convertToMap(json), GsonUtils.getInstance().convertTreeToMap(tree));
+        assertEquals(GsonUtils.getInstance().fromList(tree.get("list").toString(), Object.class),
+                GsonUtils.getInstance().treeToList(tree.get("list"), Object.class));
+    }
+
     @Test
     public void testPairGson() {
         Pair<String, String> testPair = Pair.of("1", "2");
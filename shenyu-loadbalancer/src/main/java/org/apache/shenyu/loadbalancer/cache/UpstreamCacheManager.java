@@ -27,9 +27,11 @@ import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,8 @@ public final class UpstreamCacheManager {
 
     private int checkInterval;
 
+    private String checkPath;
+
     private int healthyThreshold;
 
     private int unhealthyThreshold;
@@ -81,6 +85,7 @@ public final class UpstreamCacheManager {
         healthyThreshold = upstreamCheck.getHealthyThreshold();
         unhealthyThreshold = upstreamCheck.getUnhealthyThreshold();
         checkInterval = upstreamCheck.getInterval();
+        checkPath = upstreamCheck.getCheckPath();
         printEnable = upstreamCheck.getPrintEnabled();
         printInterval = upstreamCheck.getPrintInterval();
         createTask();
@@ -91,6 +96,7 @@ public final class UpstreamCacheManager {
         task = new UpstreamCheckTask(checkInterval);
         task.setPoolSize(poolSize);
         task.setCheckTimeout(checkTimeout);
+        task.setCheckPath(checkPath);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
     }
@@ -145,10 +151,11 @@ public final class UpstreamCacheManager {
     public void submit(final String selectorId, final List<Upstream> upstreamList) {
         List<Upstream> validUpstreamList = upstreamList.stream().filter(Upstream::isStatus).collect(Collectors.toList());
         if (CollectionUtils.isNotEmpty(validUpstreamList)) {
-            List<Upstream> existUpstream = MapUtils.computeIfAbsent(UPSTREAM_MAP, selectorId, k -> Lists.newArrayList());
-            existUpstream.stream().filter(upstream -> !validUpstreamList.contains(upstream))
+            Set<Upstream> validUpstreams = new HashSet<>(validUpstreamList);
+            Set<Upstream> existUpstreams = new HashSet<>(MapUtils.computeIfAbsent(UPSTREAM_MAP, selectorId, k -> Lists.newArrayList()));
+            existUpstreams.stream().filter(upstream -> !validUpstreams.contains(upstream))
                     .forEach(upstream -> task.triggerRemoveOne(selectorId, upstream));
-            validUpstreamList.stream().filter(upstream -> !existUpstream.contains(upstream))
+            validUpstreamList.stream().filter(upstream -> !existUpstreams.contains(upstream))
                     .forEach(upstream -> task.triggerAddOne(selectorId, upstream));
             UPSTREAM_MAP.put(selectorId, validUpstreamList);
         } else {
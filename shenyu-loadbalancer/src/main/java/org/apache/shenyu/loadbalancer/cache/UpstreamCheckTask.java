@@ -17,25 +17,23 @@
 
 package org.apache.shenyu.loadbalancer.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
-import org.apache.shenyu.common.utils.MapUtils;
-import org.apache.shenyu.common.utils.UpstreamCheckUtils;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -50,24 +48,30 @@ public final class UpstreamCheckTask implements Runnable {
      */
     private static final Logger LOG = LoggerFactory.getLogger(UpstreamCheckTask.class);
 
-    private final Map<String, List<Upstream>> healthyUpstream = Maps.newConcurrentMap();
+    private static final int MAX_BACKOFF_SHIFT = 2;
 
-    private final Map<String, List<Upstream>> unhealthyUpstream = Maps.newConcurrentMap();
+    private static final long MAX_JITTER_MILLIS = 1000L;
 
-    private final Object lock = new Object();
+    private final Map<String, UpstreamSnapshot> upstreamSnapshots = Maps.newConcurrentMap();
 
-    private final AtomicBoolean checkStarted = new AtomicBoolean(false);
+    private final Map<String, List<Upstream>> healthyUpstream = Maps.transformValues(upstreamSnapshots, UpstreamSnapshot::getHealthy);
+
+    private final Map<String, List<Upstream>> unhealthyUpstream = Maps.transformValues(upstreamSnapshots, UpstreamSnapshot::getUnhealthy);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
+    private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private ScheduledExecutorService scheduler;
+
+    private UpstreamChecker checker;
 
     private int poolSize;
 
     private int checkTimeout = 3000;
 
+    private String checkPath;
+
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
@@ -94,14 +98,11 @@ public final class UpstreamCheckTask implements Runnable {
      * Schedule health check task.
      */
     public void schedule() {
-        // executor for health check
+        // executor for health check, the probes run on the selector thread of the checker
         ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
-        new ScheduledThreadPoolExecutor(1, healthCheckFactory)
-                .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
-        ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
-        executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
+        scheduler = new ScheduledThreadPoolExecutor(1, healthCheckFactory);
+        checker = new UpstreamChecker(checkTimeout, checkPath);
+        scheduler.scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
     }
     
     /**
@@ -114,7 +115,16 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     /**
-     * get checkThreadPoolSize.
+     * Set the http check path, tcp connect only when blank.
+     *
+     * @param checkPath the check path
+     */
+    public void setCheckPath(final String checkPath) {
+        this.checkPath = checkPath;
+    }
+
+    /**
+     * get checkThreadPoolSize, the probes are non-blocking now, so it is only kept for the config compatibility.
      *
      * @return checkThreadPoolSize
      */
@@ -155,43 +165,59 @@ public final class UpstreamCheckTask implements Runnable {
     }
 
     private void healthCheck() {
+        if (Objects.isNull(checker) || !tryStartHealthCheck()) {
+            return;
+        }
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
-            synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
-                }
+            final long roundStart = System.currentTimeMillis();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (UpstreamWithSelectorId entity : dueUpstreams(roundStart)) {
+                futures.add(check(entity.getSelectorId(), entity.getUpstream(), roundStart));
             }
+            // the round finishes when all the probes are done, the results are applied one by one before that
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, e) -> finishHealthCheck());
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
-        } finally {
             finishHealthCheck();
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
+    private List<UpstreamWithSelectorId> dueUpstreams(final long roundStart) {
+        List<UpstreamWithSelectorId> due = new ArrayList<>();
+        for (Map.Entry<String, UpstreamSnapshot> entry : upstreamSnapshots.entrySet()) {
+            collectDue(entry.getKey(), entry.getValue().getHealthy(), roundStart, due);
+            collectDue(entry.getKey(), entry.getValue().getUnhealthy(), roundStart, due);
+        }
+        return due;
     }
 
-    private void check(final Map<String, List<Upstream>> map) {
-        for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
-            String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
-            for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
+    private void collectDue(final String selectorId, final List<Upstream> upstreams, final long roundStart, final List<UpstreamWithSelectorId> due) {
+        for (Upstream upstream : upstreams) {
+            // the unhealthy upstream backs off
+            if (isDue(upstream, roundStart, checkInterval)) {
+                due.add(new UpstreamWithSelectorId(selectorId, upstream));
             }
         }
     }
 
-    private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
-        boolean pass = UpstreamCheckUtils.checkUrl(upstream.getUrl(), checkTimeout);
+    private CompletableFuture<Void> check(final String selectorId, final Upstream upstream, final long roundStart) {
+        // spread the probes of one round, so that the upstreams are not probed all at the same moment
+        long jitter = ThreadLocalRandom.current().nextLong(Math.min(checkInterval / 10, MAX_JITTER_MILLIS) + 1);
+        CompletableFuture<Boolean> probe = new CompletableFuture<>();
+        scheduler.schedule(() -> checker.check(upstream.getUrl()).thenAccept(probe::complete), jitter, TimeUnit.MILLISECONDS);
+        return probe.thenAccept(pass -> {
+            refreshStatus(selectorId, upstream, pass, roundStart);
+            putEntityToMap(new UpstreamWithSelectorId(selectorId, upstream));
+        }).exceptionally(e -> {
+            LOG.error("[Health Check] Selector [{}] upstream {} meet problem: ", selectorId, upstream.getUrl(), e);
+            return null;
+        });
+    }
+
+    private void refreshStatus(final String selectorId, final Upstream upstream, final boolean pass, final long roundStart) {
         if (pass) {
+            upstream.setFailedCheckTimes(0);
+            upstream.setNextCheckTimestamp(0);
             if (upstream.isHealthy()) {
                 upstream.setLastHealthTimestamp(System.currentTimeMillis());
             } else {
@@ -207,6 +233,9 @@ public final class UpstreamCheckTask implements Runnable {
         } else {
             if (!upstream.isHealthy()) {
                 upstream.setLastUnhealthyTimestamp(System.currentTimeMillis());
+                int failedCheckTimes = Math.min(upstream.getFailedCheckTimes() + 1, MAX_BACKOFF_SHIFT + 1);
+                upstream.setFailedCheckTimes(failedCheckTimes);
+                upstream.setNextCheckTimestamp(nextCheckTimestamp(roundStart, failedCheckTimes, checkInterval));
             } else {
                 long now = System.currentTimeMillis();
                 long interval = now - upstream.getLastHealthTimestamp();
@@ -218,31 +247,39 @@ public final class UpstreamCheckTask implements Runnable {
                 }
             }
         }
-        return new UpstreamWithSelectorId(selectorId, upstream);
     }
 
-    private boolean tryStartHealthCheck() {
-        return checkStarted.compareAndSet(false, true);
+    /**
+     * the next check timestamp of the unhealthy upstream failing again and again, which skips 0, 1, then 3 rounds.
+     *
+     * @param roundStart the start of the round which checked the upstream
+     * @param failedCheckTimes the failed check times, including this one
+     * @param checkInterval the check interval
+     * @return the next check timestamp
+     */
+    static long nextCheckTimestamp(final long roundStart, final int failedCheckTimes, final int checkInterval) {
+        return roundStart + (1L << (Math.min(failedCheckTimes, MAX_BACKOFF_SHIFT + 1) - 1)) * checkInterval;
     }
 
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
-        }
+    /**
+     * whether the upstream is checked in the round, the rounds start about one interval apart,
+     * so the upstream is due in the round starting a little before its next check timestamp.
+     *
+     * @param upstream the upstream
+     * @param roundStart the start of the round
+     * @param checkInterval the check interval
+     * @return true when the upstream is due
+     */
+    static boolean isDue(final Upstream upstream, final long roundStart, final int checkInterval) {
+        return upstream.getNextCheckTimestamp() <= roundStart + checkInterval / 2;
+    }
 
-        futures.clear();
+    private boolean tryStartHealthCheck() {
+        return checkStarted.compareAndSet(false, true);
     }
 
     private void putEntityToMap(final UpstreamWithSelectorId entity) {
-        Upstream upstream = entity.getUpstream();
-        if (upstream.isHealthy()) {
-            putToMap(healthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-        } else {
-            putToMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(healthyUpstream, entity.getSelectorId(), upstream);
-        }
+        upstreamSnapshots.computeIfPresent(entity.getSelectorId(), (selectorId, snapshot) -> snapshot.refresh(entity.getUpstream()));
     }
 
     private void finishHealthCheck() {
@@ -256,7 +293,7 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerAddOne(final String selectorId, final Upstream upstream) {
-        putToMap(healthyUpstream, selectorId, upstream);
+        upstreamSnapshots.compute(selectorId, (key, snapshot) -> Optional.ofNullable(snapshot).orElse(UpstreamSnapshot.EMPTY).add(upstream));
     }
     
     /**
@@ -266,26 +303,7 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerRemoveOne(final String selectorId, final Upstream upstream) {
-        removeFromMap(healthyUpstream, selectorId, upstream);
-        removeFromMap(unhealthyUpstream, selectorId, upstream);
-    }
-
-    private void putToMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
-        synchronized (lock) {
-            List<Upstream> list = MapUtils.computeIfAbsent(map, selectorId, k -> Lists.newArrayList());
-            if (!list.contains(upstream)) {
-                list.add(upstream);
-            }
-        }
-    }
-
-    private void removeFromMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
-        synchronized (lock) {
-            List<Upstream> list = map.get(selectorId);
-            if (CollectionUtils.isNotEmpty(list)) {
-                list.remove(upstream);
-            }
-        }
+        upstreamSnapshots.computeIfPresent(selectorId, (key, snapshot) -> snapshot.remove(upstream));
     }
     
     /**
@@ -294,10 +312,7 @@ public final class UpstreamCheckTask implements Runnable {
      * @param selectorId selectorId
      */
     public void triggerRemoveAll(final String selectorId) {
-        synchronized (lock) {
-            healthyUpstream.remove(selectorId);
-            unhealthyUpstream.remove(selectorId);
-        }
+        upstreamSnapshots.remove(selectorId);
     }
     
     /**
@@ -327,7 +342,7 @@ public final class UpstreamCheckTask implements Runnable {
     }
     
     /**
-     * Get healthy upstream map.
+     * Get healthy upstream map, a read-only view of the snapshots.
      *
      * @return healthy map.
      */
@@ -336,7 +351,7 @@ public final class UpstreamCheckTask implements Runnable {
     }
     
     /**
-     * Get unhealthy upstream map.
+     * Get unhealthy upstream map, a read-only view of the snapshots.
      *
      * @return unhealthy map.
      */
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.UpstreamCheckUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The non-blocking upstream checker, all the probes share one selector thread.
+ * the host of the upstream is resolved by the resolver threads, so a slow dns lookup does not block the other probes.
+ * an upstream is healthy when the tcp connection is established, and when the check path is set,
+ * the http upstream must also answer {@code GET checkPath} with a 2xx or 3xx status.
+ */
+public final class UpstreamChecker implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamChecker.class);
+
+    private static final String HTTPS = "https";
+
+    /**
+     * enough for the status line, such as {@code HTTP/1.1 200}.
+     */
+    private static final int STATUS_LINE_SIZE = 12;
+
+    private static final int RESOLVER_THREADS = 2;
+
+    private final long timeoutNanos;
+
+    private final String checkPath;
+
+    private final Selector selector;
+
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * the registered keys by the deadline, only accessed by the selector thread, the finished keys are dropped when they reach the head.
+     */
+    private final Queue<SelectionKey> deadlines = new PriorityQueue<>(Comparator.comparingLong(key -> ((Probe) key.attachment()).deadline));
+
+    private final ExecutorService resolver = Executors.newFixedThreadPool(RESOLVER_THREADS, ShenyuThreadFactory.create("upstream-health-check-resolver", true));
+
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new Upstream checker.
+     *
+     * @param timeout the check timeout in milliseconds
+     * @param checkPath the http check path, tcp connect only when blank
+     */
+    public UpstreamChecker(final int timeout, final String checkPath) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.checkPath = checkPath;
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new ShenyuException(e);
+        }
+        ShenyuThreadFactory.create("upstream-health-check-selector", true).newThread(this::loop).start();
+    }
+
+    /**
+     * Check the upstream url.
+     *
+     * @param url the upstream url
+     * @return true when the upstream is healthy, it never completes exceptionally
+     */
+    public CompletableFuture<Boolean> check(final String url) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        if (!running) {
+            future.complete(false);
+            return future;
+        }
+        // the deadline includes the time of resolving the host
+        final long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            resolver.execute(() -> resolve(url, deadline, future));
+        } catch (RejectedExecutionException e) {
+            future.complete(false);
+        }
+        return future;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        resolver.shutdownNow();
+        selector.wakeup();
+    }
+
+    private void resolve(final String url, final long deadline, final CompletableFuture<Boolean> future) {
+        final InetSocketAddress address;
+        try {
+            InetSocketAddress unresolved = UpstreamCheckUtils.getSocketAddress(url);
+            address = Objects.isNull(unresolved) ? null : new InetSocketAddress(unresolved.getHostString(), unresolved.getPort());
+        } catch (Exception e) {
+            LOG.error("[Health Check] invalid upstream url {}.", url, e);
+            future.complete(false);
+            return;
+        }
+        if (Objects.isNull(address) || address.isUnresolved() || !running) {
+            future.complete(false);
+            return;
+        }
+        final boolean http = StringUtils.isNotBlank(checkPath) && !url.startsWith(HTTPS);
+        pending.offer(new Probe(address, http ? httpRequest(address) : null, deadline, future));
+        selector.wakeup();
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                registerPending();
+                selector.select(TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + 1);
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    process(key);
+                }
+                expire();
+            } catch (Exception e) {
+                LOG.error("[Health Check] selector meet problem: ", e);
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            finish(key, false);
+        }
+        pending.forEach(probe -> probe.future.complete(false));
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOG.error("[Health Check] close selector failed.", e);
+        }
+    }
+
+    private void registerPending() {
+        Probe probe;
+        while (Objects.nonNull(probe = pending.poll())) {
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                if (!channel.connect(probe.address)) {
+                    deadlines.offer(channel.register(selector, SelectionKey.OP_CONNECT, probe));
+                } else if (Objects.nonNull(probe.request)) {
+                    // connected immediately, such as a loopback upstream, OP_CONNECT will never be selected
+                    deadlines.offer(channel.register(selector, SelectionKey.OP_WRITE, probe));
+                } else {
+                    closeQuietly(channel);
+                    probe.future.complete(true);
+                }
+            } catch (IOException e) {
+                closeQuietly(channel);
+                probe.future.complete(false);
+            }
+        }
+    }
+
+    private void process(final SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        final Probe probe = (Probe) key.attachment();
+        final SocketChannel channel = (SocketChannel) key.channel();
+        try {
+            if (key.isConnectable()) {
+                channel.finishConnect();
+                if (Objects.isNull(probe.request)) {
+                    finish(key, true);
+                    return;
+                }
+                key.interestOps(SelectionKey.OP_WRITE);
+            }
+            if (key.interestOps() == SelectionKey.OP_WRITE) {
+                channel.write(probe.request);
+                if (!probe.request.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+                return;
+            }
+            if (key.isReadable()) {
+                int read = channel.read(probe.response);
+                if (read < 0 || !probe.response.hasRemaining()) {
+                    finish(key, isSuccessStatus(probe.response));
+                }
+            }
+        } catch (IOException e) {
+            finish(key, false);
+        }
+    }
+
+    private void expire() {
+        final long now = System.nanoTime();
+        SelectionKey key;
+        while (Objects.nonNull(key = deadlines.peek()) && (!key.isValid() || now - ((Probe) key.attachment()).deadline >= 0)) {
+            deadlines.poll();
+            if (key.isValid()) {
+                finish(key, false);
+            }
+        }
+    }
+
+    private void finish(final SelectionKey key, final boolean healthy) {
+        key.cancel();
+        closeQuietly(key.channel());
+        ((Probe) key.attachment()).future.complete(healthy);
+    }
+
+    private ByteBuffer httpRequest(final InetSocketAddress address) {
+        String request = "GET " + checkPath + " HTTP/1.1\r\n"
+                + "Host: " + address.getHostString() + ":" + address.getPort() + "\r\n"
+                + "Connection: close\r\n\r\n";
+        return ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static boolean isSuccessStatus(final ByteBuffer response) {
+        String statusLine = new String(response.array(), 0, response.position(), StandardCharsets.US_ASCII);
+        String[] parts = StringUtils.split(statusLine, ' ');
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/") || parts[1].length() < 3) {
+            return false;
+        }
+        char status = parts[1].charAt(0);
+        return status == '2' || status == '3';
+    }
+
+    private static void closeQuietly(final Closeable closeable) {
+        if (Objects.isNull(closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // the probe is finished already
+        }
+    }
+
+    private static final class Probe {
+
+        private final InetSocketAddress address;
+
+        private final ByteBuffer request;
+
+        private final ByteBuffer response = ByteBuffer.allocate(STATUS_LINE_SIZE);
+
+        private final long deadline;
+
+        private final CompletableFuture<Boolean> future;
+
+        private Probe(final InetSocketAddress address, final ByteBuffer request, final long deadline, final CompletableFuture<Boolean> future) {
+            this.address = address;
+            this.request = request;
+            this.deadline = deadline;
+            this.future = future;
+        }
+    }
+}
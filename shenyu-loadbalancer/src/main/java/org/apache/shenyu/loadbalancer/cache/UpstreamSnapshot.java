@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The immutable healthy and unhealthy upstreams of one selector.
+ * every change builds a new snapshot which is swapped into the map atomically, so the readers never block.
+ */
+final class UpstreamSnapshot {
+
+    static final UpstreamSnapshot EMPTY = new UpstreamSnapshot(UpstreamList.EMPTY, UpstreamList.EMPTY);
+
+    private final UpstreamList healthy;
+
+    private final UpstreamList unhealthy;
+
+    private UpstreamSnapshot(final UpstreamList healthy, final UpstreamList unhealthy) {
+        this.healthy = healthy;
+        this.unhealthy = unhealthy;
+    }
+
+    /**
+     * Get the healthy upstreams.
+     *
+     * @return the unmodifiable healthy upstreams
+     */
+    List<Upstream> getHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Get the unhealthy upstreams.
+     *
+     * @return the unmodifiable unhealthy upstreams
+     */
+    List<Upstream> getUnhealthy() {
+        return unhealthy;
+    }
+
+    /**
+     * Whether the upstream belongs to the selector.
+     *
+     * @param upstream the upstream
+     * @return true when it is healthy or unhealthy
+     */
+    boolean contains(final Upstream upstream) {
+        return healthy.contains(upstream) || unhealthy.contains(upstream);
+    }
+
+    /**
+     * Add the new upstream as healthy.
+     *
+     * @param upstream the upstream
+     * @return the new snapshot
+     */
+    UpstreamSnapshot add(final Upstream upstream) {
+        return contains(upstream) ? this : new UpstreamSnapshot(healthy.with(upstream), unhealthy);
+    }
+
+    /**
+     * Remove the upstream.
+     *
+     * @param upstream the upstream
+     * @return the new snapshot
+     */
+    UpstreamSnapshot remove(final Upstream upstream) {
+        return contains(upstream) ? new UpstreamSnapshot(healthy.without(upstream), unhealthy.without(upstream)) : this;
+    }
+
+    /**
+     * Move the upstream by its health, the upstream removed in the meantime is not added back.
+     *
+     * @param upstream the upstream
+     * @return the new snapshot
+     */
+    UpstreamSnapshot refresh(final Upstream upstream) {
+        if (!contains(upstream)) {
+            return this;
+        }
+        if (upstream.isHealthy()) {
+            return new UpstreamSnapshot(healthy.with(upstream), unhealthy.without(upstream));
+        }
+        return new UpstreamSnapshot(healthy.without(upstream), unhealthy.with(upstream));
+    }
+
+    /**
+     * The immutable upstream list, with a hash index for {@link #contains}.
+     */
+    private static final class UpstreamList extends AbstractList<Upstream> {
+
+        private static final UpstreamList EMPTY = new UpstreamList(new Upstream[0]);
+
+        private final Upstream[] upstreams;
+
+        private final Set<Upstream> index;
+
+        private UpstreamList(final Upstream[] upstreams) {
+            this.upstreams = upstreams;
+            this.index = upstreams.length == 0 ? Collections.emptySet() : new HashSet<>(Arrays.asList(upstreams));
+        }
+
+        @Override
+        public Upstream get(final int i) {
+            return upstreams[i];
+        }
+
+        @Override
+        public int size() {
+            return upstreams.length;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return index.contains(o);
+        }
+
+        private UpstreamList with(final Upstream upstream) {
+            if (contains(upstream)) {
+                return this;
+            }
+            Upstream[] added = Arrays.copyOf(upstreams, upstreams.length + 1);
+            added[upstreams.length] = upstream;
+            return new UpstreamList(added);
+        }
+
+        private UpstreamList without(final Upstream upstream) {
+            if (!contains(upstream)) {
+                return this;
+            }
+            Predicate<Upstream> kept = each -> !each.equals(upstream);
+            return new UpstreamList(Arrays.stream(upstreams).filter(kept).toArray(Upstream[]::new));
+        }
+    }
+}
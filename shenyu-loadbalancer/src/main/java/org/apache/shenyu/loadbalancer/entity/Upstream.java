@@ -72,6 +72,16 @@ public final class Upstream {
      */
     private long lastUnhealthyTimestamp;
 
+    /**
+     * the timestamp of the next health check.
+     */
+    private volatile long nextCheckTimestamp;
+
+    /**
+     * the consecutive failed health checks.
+     */
+    private int failedCheckTimes;
+
     /**
      * group.
      */
@@ -243,6 +253,42 @@ public final class Upstream {
         this.lastUnhealthyTimestamp = lastUnhealthyTimestamp;
     }
 
+    /**
+     * Gets next check timestamp.
+     *
+     * @return the next check timestamp
+     */
+    public long getNextCheckTimestamp() {
+        return nextCheckTimestamp;
+    }
+
+    /**
+     * Sets next check timestamp.
+     *
+     * @param nextCheckTimestamp the next check timestamp
+     */
+    public void setNextCheckTimestamp(final long nextCheckTimestamp) {
+        this.nextCheckTimestamp = nextCheckTimestamp;
+    }
+
+    /**
+     * Gets failed check times.
+     *
+     * @return the consecutive failed check times
+     */
+    public int getFailedCheckTimes() {
+        return failedCheckTimes;
+    }
+
+    /**
+     * Sets failed check times.
+     *
+     * @param failedCheckTimes the consecutive failed check times
+     */
+    public void setFailedCheckTimes(final int failedCheckTimes) {
+        this.failedCheckTimes = failedCheckTimes;
+    }
+
     /**
      * Gets group.
      *
@@ -42,4 +42,18 @@ public final class LoadBalancerFactory {
         LoadBalancer loadBalance = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
         return loadBalance.select(upstreamList, ip);
     }
+
+    /**
+     * Selector upstream of the selector.
+     *
+     * @param selectorId   the selector id
+     * @param upstreamList the upstream list of the selector
+     * @param algorithm    the loadBalance algorithm
+     * @param ip           the ip
+     * @return the upstream
+     */
+    public static Upstream selector(final String selectorId, final List<Upstream> upstreamList, final String algorithm, final String ip) {
+        LoadBalancer loadBalance = ExtensionLoader.getExtensionLoader(LoadBalancer.class).getJoin(algorithm);
+        return loadBalance.select(selectorId, upstreamList, ip);
+    }
 }
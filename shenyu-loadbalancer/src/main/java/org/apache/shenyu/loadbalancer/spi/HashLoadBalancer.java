@@ -17,26 +17,69 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.config.LoadBalancerConfig;
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
 /**
  * hash algorithm impl.
+ * the hash ring of a selector is built once and cached, until the upstream list of the selector changes.
+ * the upstream list without selector is cached by the fingerprint of the upstream urls.
  */
 @Join
 public class HashLoadBalancer extends AbstractLoadBalancer {
 
+    private static final String MURMUR3 = "murmur3";
+
+    private static final long RING_CACHE_SIZE = 1024L;
+
+    private static final int DEFAULT_VIRTUAL_NODE_NUM = 5;
+
     /**
      * virtual node used to solve unbalanced load.
      */
-    private static final int VIRTUAL_NODE_NUM = 5;
+    private final int virtualNodeNum;
+
+    private final ToLongFunction<String> hashFunction;
+
+    /**
+     * selector id or upstream fingerprint -> hash ring.
+     */
+    private final Cache<Object, HashRing> ringCache;
+
+    /**
+     * Instantiates a new Hash load balancer.
+     */
+    public HashLoadBalancer() {
+        this(Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class))
+                .map(ShenyuConfig::getLoadBalancer)
+                .orElseGet(LoadBalancerConfig::new));
+    }
+
+    /**
+     * Instantiates a new Hash load balancer.
+     *
+     * @param config the load balancer config
+     */
+    public HashLoadBalancer(final LoadBalancerConfig config) {
+        this.virtualNodeNum = Objects.isNull(config.getHashVirtualNodeNum()) ? DEFAULT_VIRTUAL_NODE_NUM : Math.max(1, config.getHashVirtualNodeNum());
+        this.hashFunction = MURMUR3.equalsIgnoreCase(config.getHashAlgorithm()) ? HashLoadBalancer::murmur3 : HashLoadBalancer::hash;
+        this.ringCache = Caffeine.newBuilder().maximumSize(RING_CACHE_SIZE).build();
+    }
 
     /**
      * consistent hash with virtual node to select upstream.
@@ -47,17 +90,40 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
+        return obtainRing(fingerprint(upstreamList), upstreamList).select(hashFunction.applyAsLong(ip));
+    }
+
+    /**
+     * consistent hash with the cached hash ring of the selector, the ring is rebuilt when the upstream list changes.
+     *
+     * @param selectorId   the selector id
+     * @param upstreamList the upstream list
+     * @param ip           the ip
+     * @return selected upstream
+     */
+    @Override
+    public Upstream select(final String selectorId, final List<Upstream> upstreamList, final String ip) {
+        if (Objects.isNull(selectorId) || CollectionUtils.size(upstreamList) <= 1) {
+            return select(upstreamList, ip);
+        }
+        return obtainRing(selectorId, upstreamList).select(hashFunction.applyAsLong(ip));
+    }
+
+    private HashRing obtainRing(final Object key, final List<Upstream> upstreamList) {
+        HashRing ring = ringCache.getIfPresent(key);
+        if (Objects.isNull(ring) || !ring.isBuiltFrom(upstreamList)) {
+            ring = new HashRing(upstreamList, virtualNodeNum, hashFunction);
+            ringCache.put(key, ring);
+        }
+        return ring;
+    }
+
+    private static long fingerprint(final List<Upstream> upstreamList) {
+        long fingerprint = upstreamList.size();
+        for (int i = 0, size = upstreamList.size(); i < size; i++) {
+            fingerprint = fingerprint * 31 + Objects.hashCode(upstreamList.get(i).getUrl());
         }
-        return treeMap.firstEntry().getValue();
+        return fingerprint;
     }
 
     private static long hash(final String key) {
@@ -80,4 +146,68 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
                 | (digest[0] & 0xFF);
         return hashCode & 0xffffffffL;
     }
+
+    private static long murmur3(final String key) {
+        return Hashing.murmur3_32_fixed().hashString(key, StandardCharsets.UTF_8).asInt() & 0xffffffffL;
+    }
+
+    /**
+     * the immutable hash ring, virtual nodes are kept in sorted primitive arrays and searched by binary search.
+     */
+    private static final class HashRing {
+
+        private final Upstream[] members;
+
+        private final long[] hashes;
+
+        private final Upstream[] nodes;
+
+        HashRing(final List<Upstream> upstreamList, final int virtualNodeNum, final ToLongFunction<String> hashFunction) {
+            this.members = upstreamList.toArray(new Upstream[0]);
+            // the 32 bits hash is followed by the 31 bits insert order, so the later one wins when hash conflicts.
+            long[] packed = new long[members.length * virtualNodeNum];
+            for (int i = 0; i < members.length; i++) {
+                for (int j = 0; j < virtualNodeNum; j++) {
+                    int order = i * virtualNodeNum + j;
+                    long addressHash = hashFunction.applyAsLong("SHENYU-" + members[i].getUrl() + "-HASH-" + j);
+                    packed[order] = addressHash << 31 | order;
+                }
+            }
+            Arrays.sort(packed);
+            long[] ringHashes = new long[packed.length];
+            Upstream[] ringNodes = new Upstream[packed.length];
+            int size = 0;
+            for (int k = 0; k < packed.length; k++) {
+                long hash = packed[k] >>> 31;
+                if (k + 1 < packed.length && packed[k + 1] >>> 31 == hash) {
+                    continue;
+                }
+                ringHashes[size] = hash;
+                ringNodes[size] = members[(int) (packed[k] & Integer.MAX_VALUE) / virtualNodeNum];
+                size++;
+            }
+            this.hashes = Arrays.copyOf(ringHashes, size);
+            this.nodes = Arrays.copyOf(ringNodes, size);
+        }
+
+        boolean isBuiltFrom(final List<Upstream> upstreamList) {
+            if (members.length != upstreamList.size()) {
+                return false;
+            }
+            for (int i = 0; i < members.length; i++) {
+                if (members[i] != upstreamList.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Upstream select(final long hash) {
+            int index = Arrays.binarySearch(hashes, hash);
+            if (index < 0) {
+                index = -(index + 1);
+            }
+            return index < hashes.length ? nodes[index] : nodes[0];
+        }
+    }
 }
@@ -36,4 +36,17 @@ public interface LoadBalancer {
      * @return upstream
      */
     Upstream select(List<Upstream> upstreamList, String ip);
+
+    /**
+     * this is select one for the upstream list of the selector.
+     * the load balancer may keep the state built from the upstream list by the selector id.
+     *
+     * @param selectorId selector id
+     * @param upstreamList upstream list
+     * @param ip ip
+     * @return upstream
+     */
+    default Upstream select(String selectorId, List<Upstream> upstreamList, String ip) {
+        return select(upstreamList, ip);
+    }
 }
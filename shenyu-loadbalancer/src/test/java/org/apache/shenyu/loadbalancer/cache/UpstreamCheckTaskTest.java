@@ -123,4 +123,24 @@ public class UpstreamCheckTaskTest {
         healthCheckTask.triggerRemoveAll(selectorId);
         assertFalse(healthCheckTask.getHealthyUpstream().containsKey(selectorId));
     }
+
+    /**
+     * Test the rounds skipped by the unhealthy upstream failing again and again.
+     */
+    @Test
+    public void testBackoffSkippedRounds() {
+        final int checkInterval = 10000;
+        final int[] expectedSkipped = {0, 1, 3, 3};
+        for (int failedCheckTimes = 1; failedCheckTimes <= expectedSkipped.length; failedCheckTimes++) {
+            Upstream upstream = Upstream.builder().url("127.0.0.1:8080").build();
+            upstream.setNextCheckTimestamp(UpstreamCheckTask.nextCheckTimestamp(0, failedCheckTimes, checkInterval));
+            for (long drift : new long[] {-100, 0, 100}) {
+                int skipped = 0;
+                while (!UpstreamCheckTask.isDue(upstream, (skipped + 1L) * checkInterval + drift, checkInterval)) {
+                    skipped++;
+                }
+                assertThat(skipped, is(expectedSkipped[failedCheckTimes - 1]));
+            }
+        }
+    }
 }
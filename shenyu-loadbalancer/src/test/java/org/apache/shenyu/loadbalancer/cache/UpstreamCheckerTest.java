@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Upstream checker test.
+ */
+public class UpstreamCheckerTest {
+
+    private UpstreamChecker checker;
+
+    @AfterEach
+    public void tearDown() {
+        if (checker != null) {
+            checker.close();
+        }
+    }
+
+    @Test
+    public void testTcpCheck() throws IOException {
+        checker = new UpstreamChecker(3000, null);
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            assertTrue(checker.check("127.0.0.1:" + serverSocket.getLocalPort()).join());
+        }
+        assertFalse(checker.check("").join());
+        assertFalse(checker.check("127.0.0.1:" + unusedPort()).join());
+    }
+
+    @Test
+    public void testHttpCheck() throws Exception {
+        checker = new UpstreamChecker(3000, "/actuator/health");
+        assertTrue(checker.check("http://127.0.0.1:" + serve("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n")).join());
+        assertFalse(checker.check("http://127.0.0.1:" + serve("HTTP/1.1 503 Service Unavailable\r\nContent-Length: 0\r\n\r\n")).join());
+    }
+
+    @Test
+    public void testTimeout() throws IOException {
+        checker = new UpstreamChecker(200, "/health");
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            // accepted by the backlog but never answered
+            assertFalse(checker.check("http://127.0.0.1:" + serverSocket.getLocalPort()).join());
+        }
+    }
+
+    @Test
+    public void testClosed() throws IOException {
+        checker = new UpstreamChecker(3000, null);
+        checker.close();
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            assertFalse(checker.check("127.0.0.1:" + serverSocket.getLocalPort()).join());
+        }
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    private static int serve(final String response) throws IOException {
+        ServerSocket serverSocket = new ServerSocket(0);
+        Thread thread = new Thread(() -> {
+            try (ServerSocket server = serverSocket; Socket socket = server.accept()) {
+                socket.getInputStream().read(new byte[1024]);
+                OutputStream outputStream = socket.getOutputStream();
+                outputStream.write(response.getBytes(StandardCharsets.US_ASCII));
+                outputStream.flush();
+            } catch (IOException ignored) {
+                // the test fails on the assertion
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return serverSocket.getLocalPort();
+    }
+}
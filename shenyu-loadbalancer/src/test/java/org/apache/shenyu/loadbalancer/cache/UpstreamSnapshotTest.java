@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Upstream snapshot test.
+ */
+public class UpstreamSnapshotTest {
+
+    private final Upstream upstream1 = Upstream.builder().url("upstream-1").build();
+
+    private final Upstream upstream2 = Upstream.builder().url("upstream-2").build();
+
+    @Test
+    public void testAddAndRemove() {
+        UpstreamSnapshot snapshot = UpstreamSnapshot.EMPTY.add(upstream1).add(upstream2);
+        assertSame(snapshot, snapshot.add(Upstream.builder().url("upstream-1").build()));
+        assertEquals(2, snapshot.getHealthy().size());
+        assertTrue(snapshot.getHealthy().contains(upstream2));
+        UpstreamSnapshot removed = snapshot.remove(upstream1);
+        assertEquals(List.of(upstream2), removed.getHealthy());
+        assertEquals(2, snapshot.getHealthy().size());
+        assertSame(removed, removed.remove(upstream1));
+        assertThrows(UnsupportedOperationException.class, () -> removed.getHealthy().add(upstream1));
+    }
+
+    @Test
+    public void testRefresh() {
+        UpstreamSnapshot snapshot = UpstreamSnapshot.EMPTY.add(upstream1);
+        upstream1.setHealthy(false);
+        UpstreamSnapshot unhealthy = snapshot.refresh(upstream1);
+        assertTrue(unhealthy.getHealthy().isEmpty());
+        assertEquals(List.of(upstream1), unhealthy.getUnhealthy());
+        upstream1.setHealthy(true);
+        UpstreamSnapshot healthy = unhealthy.refresh(upstream1);
+        assertEquals(List.of(upstream1), healthy.getHealthy());
+        assertTrue(healthy.getUnhealthy().isEmpty());
+        // the removed upstream is not added back
+        assertFalse(healthy.remove(upstream1).refresh(upstream1).contains(upstream1));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.common.config.LoadBalancerConfig;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * HashLoadBalancer unit test.
@@ -42,4 +46,63 @@ class HashLoadBalancerTest {
         assertEquals(upstreamList.get(2).getUrl(), upstream.getUrl());
     }
 
+    @Test
+    void doSelectWithCachedRing() {
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer();
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("http://1.1.1.1/api").build());
+        upstreamList.add(Upstream.builder().url("http://2.2.2.2/api").build());
+        upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
+
+        final Upstream upstream = hashLoadBalancer.doSelect(upstreamList, "127.0.0.1");
+        assertSame(upstream, hashLoadBalancer.doSelect(new ArrayList<>(upstreamList), "127.0.0.1"));
+        upstreamList.remove(upstream);
+        assertNotEquals(upstream.getUrl(), hashLoadBalancer.doSelect(upstreamList, "127.0.0.1").getUrl());
+    }
+
+    @Test
+    void selectWithSelectorRing() {
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer();
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("http://1.1.1.1/api").build());
+        upstreamList.add(Upstream.builder().url("http://2.2.2.2/api").build());
+        upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
+
+        final Upstream upstream = hashLoadBalancer.select("1", upstreamList, "127.0.0.1");
+        assertSame(upstream, hashLoadBalancer.doSelect(upstreamList, "127.0.0.1"));
+        final List<Upstream> changedList = new ArrayList<>(upstreamList);
+        changedList.remove(upstream);
+        assertNotEquals(upstream.getUrl(), hashLoadBalancer.select("1", changedList, "127.0.0.1").getUrl());
+        assertSame(upstream, hashLoadBalancer.select("1", upstreamList, "127.0.0.1"));
+        assertSame(upstreamList.get(0), hashLoadBalancer.select("1", upstreamList.subList(0, 1), "127.0.0.1"));
+    }
+
+    @Test
+    void doSelectWithoutVirtualNodeNum() {
+        final LoadBalancerConfig config = new LoadBalancerConfig();
+        config.setHashVirtualNodeNum(null);
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(config);
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("http://1.1.1.1/api").build());
+        upstreamList.add(Upstream.builder().url("http://2.2.2.2/api").build());
+        upstreamList.add(Upstream.builder().url("http://3.3.3.3/api").build());
+
+        assertEquals(upstreamList.get(2).getUrl(), hashLoadBalancer.doSelect(upstreamList, "127.0.0.1").getUrl());
+    }
+
+    @Test
+    void doSelectWithMurmur3() {
+        final LoadBalancerConfig config = new LoadBalancerConfig();
+        config.setHashAlgorithm("murmur3");
+        config.setHashVirtualNodeNum(160);
+        final HashLoadBalancer hashLoadBalancer = new HashLoadBalancer(config);
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("http://1.1.1.1/api").build());
+        upstreamList.add(Upstream.builder().url("http://2.2.2.2/api").build());
+
+        final Upstream upstream = hashLoadBalancer.doSelect(upstreamList, "127.0.0.1");
+        assertNotNull(upstream);
+        assertEquals(upstream.getUrl(), hashLoadBalancer.doSelect(upstreamList, "127.0.0.1").getUrl());
+    }
+
 }
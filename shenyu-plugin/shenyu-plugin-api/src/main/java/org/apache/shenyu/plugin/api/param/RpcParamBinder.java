@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.param;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The rpc parameter binder of the generic invoke.
+ * the body is parsed only once into a json tree, and the nested objects and arrays are converted from the tree directly.
+ */
+public final class RpcParamBinder {
+
+    private RpcParamBinder() {
+    }
+
+    /**
+     * Parse the body into the parameter values in the body order,
+     * the nested objects and arrays are kept as {@link JsonObject} and {@link JsonArray}.
+     *
+     * @param body the json body
+     * @return the parameter values
+     */
+    public static Map<String, Object> parse(final String body) {
+        JsonElement tree = JsonParser.parseString(body);
+        if (!tree.isJsonObject()) {
+            throw new ShenyuException("the rpc parameters body is not a json object: " + body);
+        }
+        return GsonUtils.getInstance().treeToObjectMap(tree);
+    }
+
+    /**
+     * Bind the body to the parameters of the generic invoke.
+     *
+     * @param body           the json body
+     * @param parameterTypes the parameter types of the meta data
+     * @return the parameter types and values
+     */
+    public static Pair<String[], Object[]> bind(final String body, final String parameterTypes) {
+        RpcParameterTypes types = RpcParameterTypes.of(parameterTypes);
+        Map<String, Object> paramMap = parse(body);
+        if (types.isSingleCustomType()) {
+            paramMap.replaceAll((key, value) -> toValue(value));
+            return new ImmutablePair<>(new String[]{types.getParameterTypes()}, new Object[]{paramMap});
+        }
+        String[] names = Objects.isNull(types.getNames()) ? paramMap.keySet().toArray(new String[0]) : types.getNames();
+        Object[] values = new Object[names.length];
+        for (int i = 0; i < names.length; i++) {
+            values[i] = toValue(paramMap.get(names[i]));
+        }
+        return new ImmutablePair<>(types.getTypes().clone(), values);
+    }
+
+    /**
+     * Convert the parsed value, the objects are converted to maps and the arrays are converted to lists.
+     *
+     * @param value the parsed value
+     * @return the parameter value
+     */
+    public static Object toValue(final Object value) {
+        if (value instanceof JsonObject) {
+            return GsonUtils.getInstance().convertTreeToMap((JsonObject) value);
+        }
+        if (value instanceof JsonArray) {
+            return GsonUtils.getInstance().treeToList((JsonArray) value, Object.class);
+        }
+        return value;
+    }
+}
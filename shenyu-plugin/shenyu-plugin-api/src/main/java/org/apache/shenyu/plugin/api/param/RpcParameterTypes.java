@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.param;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.common.utils.ReflectUtils;
+
+import java.util.Map;
+
+/**
+ * The resolved parameter types of the {@link org.apache.shenyu.common.dto.MetaData#getParameterTypes()},
+ * they are resolved once and shared by the requests of the same parameter types.
+ * the parameter types are either the comma separated types, such as {@code java.lang.Integer,java.lang.String},
+ * or the json of the parameter names and types, such as {@code {"id":"java.lang.Integer","name":"java.lang.String"}}.
+ */
+public final class RpcParameterTypes {
+
+    private static final int MAX_CACHED_TYPES = 4096;
+
+    private static final Cache<String, RpcParameterTypes> CACHE = Caffeine.newBuilder().maximumSize(MAX_CACHED_TYPES).build();
+
+    private final String parameterTypes;
+
+    private final String[] names;
+
+    private final String[] types;
+
+    private final String[][] genericTypes;
+
+    private final boolean singleCustomType;
+
+    private RpcParameterTypes(final String parameterTypes) {
+        this.parameterTypes = parameterTypes;
+        if (isNameMapping(parameterTypes)) {
+            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+            this.names = paramNameMap.keySet().toArray(new String[0]);
+            this.types = paramNameMap.values().toArray(new String[0]);
+        } else {
+            this.names = null;
+            this.types = StringUtils.split(parameterTypes, ",");
+        }
+        this.genericTypes = new String[types.length][];
+        for (int i = 0; i < types.length; i++) {
+            genericTypes[i] = StringUtils.split(types[i], "#");
+        }
+        this.singleCustomType = types.length == 1 && !isBaseType(types[0]);
+    }
+
+    /**
+     * Obtain the resolved parameter types.
+     *
+     * @param parameterTypes the parameter types of the meta data
+     * @return the resolved parameter types
+     */
+    public static RpcParameterTypes of(final String parameterTypes) {
+        return CACHE.get(parameterTypes, RpcParameterTypes::new);
+    }
+
+    /**
+     * Get the original parameter types.
+     *
+     * @return the parameter types
+     */
+    public String getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Get the parameter names, null when the names are the keys of the body.
+     *
+     * @return the parameter names
+     */
+    public String[] getNames() {
+        return names;
+    }
+
+    /**
+     * Get the parameter types.
+     *
+     * @return the parameter types
+     */
+    public String[] getTypes() {
+        return types;
+    }
+
+    /**
+     * Get the parameter types split by {@code #}, the first one is the type and the others are the generic types,
+     * such as {@code java.util.Map#java.lang.String#com.example.User}.
+     *
+     * @return the generic types
+     */
+    public String[][] getGenericTypes() {
+        return genericTypes;
+    }
+
+    /**
+     * Whether there is only one parameter and it is not a primitive or wrapper type,
+     * the whole body is the parameter then.
+     *
+     * @return true if single custom type
+     */
+    public boolean isSingleCustomType() {
+        return singleCustomType;
+    }
+
+    private static boolean isNameMapping(final String parameterTypes) {
+        return parameterTypes.startsWith("{") && parameterTypes.endsWith("}");
+    }
+
+    private static boolean isBaseType(final String paramType) {
+        try {
+            return ReflectUtils.isPrimitives(ClassUtils.getClass(paramType));
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.stats;
+
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A metric exposed by a plugin, its value is only read when the metrics are collected.
+ * the metric may have one label, such as the name of the plugin.
+ */
+public final class PluginMetric {
+
+    private final String name;
+
+    private final String help;
+
+    private final Type type;
+
+    private final String labelName;
+
+    private final String labelValue;
+
+    private final DoubleSupplier value;
+
+    private PluginMetric(final String name, final String help, final Type type, final String labelName, final String labelValue, final DoubleSupplier value) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.labelName = labelName;
+        this.labelValue = labelValue;
+        this.value = value;
+    }
+
+    /**
+     * Create a counter metric.
+     *
+     * @param name the metric name
+     * @param help the metric help
+     * @param value the value supplier
+     * @return the metric
+     */
+    public static PluginMetric counter(final String name, final String help, final DoubleSupplier value) {
+        return new PluginMetric(name, help, Type.COUNTER, null, null, value);
+    }
+
+    /**
+     * Create a counter metric with a label.
+     *
+     * @param name the metric name
+     * @param help the metric help
+     * @param labelName the label name
+     * @param labelValue the label value
+     * @param value the value supplier
+     * @return the metric
+     */
+    public static PluginMetric counter(final String name, final String help, final String labelName, final String labelValue, final DoubleSupplier value) {
+        return new PluginMetric(name, help, Type.COUNTER, labelName, labelValue, value);
+    }
+
+    /**
+     * Create a gauge metric.
+     *
+     * @param name the metric name
+     * @param help the metric help
+     * @param value the value supplier
+     * @return the metric
+     */
+    public static PluginMetric gauge(final String name, final String help, final DoubleSupplier value) {
+        return new PluginMetric(name, help, Type.GAUGE, null, null, value);
+    }
+
+    /**
+     * Gets the key of the metric, the metric with the same key is replaced when registered.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return Objects.isNull(labelValue) ? name : name + "{" + labelName + "=" + labelValue + "}";
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets help.
+     *
+     * @return the help
+     */
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Gets type.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets label name, null if the metric has no label.
+     *
+     * @return the label name
+     */
+    public String getLabelName() {
+        return labelName;
+    }
+
+    /**
+     * Gets label value, null if the metric has no label.
+     *
+     * @return the label value
+     */
+    public String getLabelValue() {
+        return labelValue;
+    }
+
+    /**
+     * Read the current value.
+     *
+     * @return the value
+     */
+    public double getValue() {
+        return value.getAsDouble();
+    }
+
+    /**
+     * The metric type.
+     */
+    public enum Type {
+
+        /**
+         * the value only increases.
+         */
+        COUNTER,
+
+        /**
+         * the value goes up and down.
+         */
+        GAUGE
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.stats;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The registry of the metrics exposed by the plugins, such as the cache and rate limiter statistics,
+ * and the statistics of the plugins recorded when the plugin chain is instrumented.
+ * the metrics plugin reads them at scrape time, so a plugin does not depend on the metrics plugin.
+ */
+public final class PluginMetricRegistry {
+
+    private static final PluginMetricRegistry INSTANCE = new PluginMetricRegistry();
+
+    /**
+     * metric key -> PluginMetric.
+     */
+    private final ConcurrentMap<String, PluginMetric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * plugin name -> PluginStatistics.
+     */
+    private final ConcurrentMap<String, PluginStatistics> statistics = new ConcurrentHashMap<>();
+
+    private PluginMetricRegistry() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static PluginMetricRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the metric, the metric with the same key is replaced.
+     *
+     * @param metric the metric
+     */
+    public void register(final PluginMetric metric) {
+        metrics.put(metric.getKey(), metric);
+    }
+
+    /**
+     * Unregister the metric.
+     *
+     * @param metric the metric
+     */
+    public void unregister(final PluginMetric metric) {
+        metrics.remove(metric.getKey(), metric);
+    }
+
+    /**
+     * Gets all the metrics.
+     *
+     * @return the metrics
+     */
+    public Collection<PluginMetric> getAll() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+
+    /**
+     * Obtain the statistics of the plugin, created and registered as the metrics labelled by the plugin on the first use.
+     *
+     * @param pluginName the plugin name
+     * @return the plugin statistics
+     */
+    public PluginStatistics obtainStatistics(final String pluginName) {
+        PluginStatistics pluginStatistics = statistics.get(pluginName);
+        if (Objects.nonNull(pluginStatistics)) {
+            return pluginStatistics;
+        }
+        return statistics.computeIfAbsent(pluginName, key -> {
+            PluginStatistics created = new PluginStatistics();
+            created.metrics(key).forEach(this::register);
+            return created;
+        });
+    }
+
+    /**
+     * Gets the statistics of all the plugins.
+     *
+     * @return plugin name -> PluginStatistics
+     */
+    public Map<String, PluginStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Clean the metrics and the plugin statistics.
+     */
+    public void clean() {
+        metrics.clear();
+        statistics.clear();
+    }
+}
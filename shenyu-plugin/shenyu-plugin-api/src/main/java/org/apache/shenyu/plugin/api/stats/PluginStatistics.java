@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.stats;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a plugin in the plugin chain.
+ * the self time excludes the time spent in the plugins executed after it.
+ */
+public final class PluginStatistics {
+
+    private static final String PLUGIN_LABEL = "plugin";
+
+    private final LongAdder executeCount = new LongAdder();
+
+    private final LongAdder skipCount = new LongAdder();
+
+    private final LongAdder errorCount = new LongAdder();
+
+    private final LongAdder selfNanos = new LongAdder();
+
+    /**
+     * The metrics of the statistics, labelled by the plugin name.
+     *
+     * @param pluginName the plugin name
+     * @return the metrics
+     */
+    List<PluginMetric> metrics(final String pluginName) {
+        return Arrays.asList(
+                PluginMetric.counter("shenyu_plugin_execute_total", "shenyu plugin execute total count", PLUGIN_LABEL, pluginName, executeCount::sum),
+                PluginMetric.counter("shenyu_plugin_skip_total", "shenyu plugin skip total count", PLUGIN_LABEL, pluginName, skipCount::sum),
+                PluginMetric.counter("shenyu_plugin_error_total", "shenyu plugin error total count", PLUGIN_LABEL, pluginName, errorCount::sum),
+                PluginMetric.counter("shenyu_plugin_self_seconds_total", "the time spent in the shenyu plugin, excluding the plugins after it",
+                    PLUGIN_LABEL, pluginName, () -> selfNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Record an execution of the plugin.
+     *
+     * @param nanos the self time in nanoseconds
+     * @param error whether the execution is terminated with an error
+     */
+    public void recordExecute(final long nanos, final boolean error) {
+        executeCount.increment();
+        selfNanos.add(nanos);
+        if (error) {
+            errorCount.increment();
+        }
+    }
+
+    /**
+     * Record a skip of the plugin.
+     */
+    public void recordSkip() {
+        skipCount.increment();
+    }
+
+    /**
+     * Gets execute count.
+     *
+     * @return the execute count
+     */
+    public long getExecuteCount() {
+        return executeCount.sum();
+    }
+
+    /**
+     * Gets skip count.
+     *
+     * @return the skip count
+     */
+    public long getSkipCount() {
+        return skipCount.sum();
+    }
+
+    /**
+     * Gets error count.
+     *
+     * @return the error count
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * Gets the total self time in nanoseconds.
+     *
+     * @return the self nanos
+     */
+    public long getSelfNanos() {
+        return selfNanos.sum();
+    }
+}
@@ -26,9 +26,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -72,6 +74,27 @@ public final class WebFluxResultUtils {
                 .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
     }
 
+    /**
+     * Response the result stream, every element is formatted like {@link #result(ServerWebExchange, Object)}
+     * and flushed to the client as a line of the ndjson body as soon as it is emitted.
+     *
+     * @param exchange the exchange
+     * @param results  the result stream
+     * @return the result
+     */
+    public static Mono<Void> streamResult(final ServerWebExchange exchange, final Flux<?> results) {
+        final ShenyuResult<?> shenyuResult = ShenyuResultWrap.shenyuResult();
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return exchange.getResponse().writeAndFlushWith(results.map(result -> {
+            final Object responseData = shenyuResult.result(exchange, shenyuResult.format(exchange, result));
+            final byte[] bytes = (responseData instanceof byte[])
+                    ? (byte[]) responseData : responseData.toString().getBytes(StandardCharsets.UTF_8);
+            final byte[] line = Arrays.copyOf(bytes, bytes.length + 1);
+            line[bytes.length] = '\n';
+            return Mono.just(exchange.getResponse().bufferFactory().wrap(line));
+        }));
+    }
+
     /**
      * get no selector result.
      *
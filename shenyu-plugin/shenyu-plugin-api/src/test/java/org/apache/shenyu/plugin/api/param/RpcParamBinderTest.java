@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.param;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.exception.ShenyuException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For RpcParamBinder.
+ */
+public final class RpcParamBinderTest {
+
+    @Test
+    public void testParse() {
+        Map<String, Object> paramMap = RpcParamBinder.parse("{\"id\":1,\"user\":{\"name\":\"shenyu\"},\"tags\":[\"a\"]}");
+        assertArrayEquals(new String[]{"id", "user", "tags"}, paramMap.keySet().toArray());
+        assertEquals(1L, paramMap.get("id"));
+        assertTrue(paramMap.get("user") instanceof JsonObject);
+        assertTrue(paramMap.get("tags") instanceof JsonArray);
+    }
+
+    @Test
+    public void testParseNotJsonObject() {
+        assertThrows(ShenyuException.class, () -> RpcParamBinder.parse("[1, 2]"));
+        assertThrows(ShenyuException.class, () -> RpcParamBinder.parse("1"));
+        assertThrows(ShenyuException.class, () -> RpcParamBinder.bind("\"shenyu\"", "java.lang.String"));
+    }
+
+    @Test
+    public void testBindByParameterNames() {
+        Pair<String[], Object[]> pair = RpcParamBinder.bind("{\"name\":\"shenyu\",\"id\":1,\"other\":true}",
+                "{\"id\":\"java.lang.Integer\",\"name\":\"java.lang.String\"}");
+        assertArrayEquals(new String[]{"java.lang.Integer", "java.lang.String"}, pair.getLeft());
+        assertArrayEquals(new Object[]{1L, "shenyu"}, pair.getRight());
+    }
+
+    @Test
+    public void testBindSingleCustomType() {
+        Pair<String[], Object[]> pair = RpcParamBinder.bind("{\"name\":\"shenyu\",\"address\":{\"city\":\"hz\"},\"tags\":[\"a\",\"b\"]}",
+                "org.apache.shenyu.example.User");
+        assertArrayEquals(new String[]{"org.apache.shenyu.example.User"}, pair.getLeft());
+        assertEquals(1, pair.getRight().length);
+        Map<?, ?> user = (Map<?, ?>) pair.getRight()[0];
+        assertEquals("shenyu", user.get("name"));
+        assertEquals(Collections.singletonMap("city", "hz"), user.get("address"));
+        assertEquals(Arrays.asList("a", "b"), user.get("tags"));
+    }
+
+    @Test
+    public void testBindPrimitivesAndGenerics() {
+        Pair<String[], Object[]> pair = RpcParamBinder.bind("{\"id\":1,\"price\":1.5,\"enabled\":true,\"names\":[\"a\",\"b\"],\"extra\":{\"k\":\"v\"}}",
+                "java.lang.Integer,java.lang.Double,java.lang.Boolean,java.util.List#java.lang.String,java.util.Map#java.lang.String#java.lang.String");
+        assertArrayEquals(new String[]{"java.lang.Integer", "java.lang.Double", "java.lang.Boolean",
+            "java.util.List#java.lang.String", "java.util.Map#java.lang.String#java.lang.String"}, pair.getLeft());
+        assertArrayEquals(new Object[]{1L, 1.5, true, Arrays.asList("a", "b"), Collections.singletonMap("k", "v")}, pair.getRight());
+    }
+
+    @Test
+    public void testBindDoesNotShareTheTypes() {
+        Pair<String[], Object[]> pair = RpcParamBinder.bind("{\"id\":1,\"name\":\"shenyu\"}", "java.lang.Integer,java.lang.String");
+        pair.getLeft()[0] = "java.lang.Long";
+        assertEquals("java.lang.Integer", RpcParameterTypes.of("java.lang.Integer,java.lang.String").getTypes()[0]);
+    }
+}
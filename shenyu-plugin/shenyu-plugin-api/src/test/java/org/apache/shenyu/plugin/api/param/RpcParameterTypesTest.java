@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.api.param;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For RpcParameterTypes.
+ */
+public final class RpcParameterTypesTest {
+
+    @Test
+    public void testCommaSeparatedTypes() {
+        RpcParameterTypes types = RpcParameterTypes.of("java.lang.Integer,java.lang.String");
+        assertNull(types.getNames());
+        assertArrayEquals(new String[]{"java.lang.Integer", "java.lang.String"}, types.getTypes());
+        assertFalse(types.isSingleCustomType());
+    }
+
+    @Test
+    public void testNameMapping() {
+        RpcParameterTypes types = RpcParameterTypes.of("{\"id\":\"java.lang.Integer\",\"name\":\"java.lang.String\"}");
+        assertArrayEquals(new String[]{"id", "name"}, types.getNames());
+        assertArrayEquals(new String[]{"java.lang.Integer", "java.lang.String"}, types.getTypes());
+    }
+
+    @Test
+    public void testGenericTypes() {
+        RpcParameterTypes types = RpcParameterTypes.of("java.util.Map#java.lang.String#org.apache.shenyu.example.User,int");
+        assertArrayEquals(new String[]{"java.util.Map", "java.lang.String", "org.apache.shenyu.example.User"}, types.getGenericTypes()[0]);
+        assertArrayEquals(new String[]{"int"}, types.getGenericTypes()[1]);
+    }
+
+    @Test
+    public void testSingleCustomType() {
+        assertTrue(RpcParameterTypes.of("org.apache.shenyu.example.User").isSingleCustomType());
+        assertFalse(RpcParameterTypes.of("java.lang.Long").isSingleCustomType());
+        assertFalse(RpcParameterTypes.of("int").isSingleCustomType());
+    }
+
+    @Test
+    public void testCached() {
+        assertSame(RpcParameterTypes.of("java.lang.Integer,java.lang.Long"), RpcParameterTypes.of("java.lang.Integer,java.lang.Long"));
+    }
+}
@@ -17,18 +17,14 @@
 
 package org.apache.shenyu.plugin.base;
 
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -41,8 +37,8 @@ import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
 import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
-import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.server.ServerWebExchange;
@@ -57,10 +53,14 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
 
     private static final String URI_CONDITION_TYPE = "uri";
 
+    private static final Comparator<Integer> SORT_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
     private ShenyuConfig.MatchCache matchCacheConfig;
     
     private ShenyuTrie trie;
 
+    private ShenyuSelectorTrie selectorTrie;
+
     /**
      * this is Template Method child has Implement your own logic.
      *
@@ -100,25 +100,15 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             if (CollectionUtils.isEmpty(selectors)) {
                 return handleSelectorIfNull(pluginName, exchange, chain);
             }
-            Pair<Boolean, SelectorData> matchSelectorData = matchSelector(exchange, selectors);
-            selectorData = matchSelectorData.getRight();
+            selectorData = matchSelector(exchange, pluginName, selectors, path);
             if (Objects.isNull(selectorData)) {
-                if (matchCacheConfig.getSelector().getSelectorEnabled() && matchSelectorData.getLeft()) {
-                    selectorData = new SelectorData();
-                    selectorData.setPluginName(pluginName);
-                    cacheSelectorData(path, selectorData);
-                }
                 return handleSelectorIfNull(pluginName, exchange, chain);
-            } else {
-                if (matchCacheConfig.getSelector().getSelectorEnabled() && matchSelectorData.getLeft()) {
-                    cacheSelectorData(path, selectorData);
-                }
             }
         }
         printLog(selectorData, pluginName);
         if (Objects.nonNull(selectorData.getContinued()) && !selectorData.getContinued()) {
             // if continued， not match rules
-            return doExecute(exchange, chain, selectorData, defaultRuleData(selectorData));
+            return doExecuteMatched(exchange, chain, selectorData, defaultRuleData(selectorData));
         }
         List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorData.getId());
         if (CollectionUtils.isEmpty(rules)) {
@@ -132,7 +122,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             //get last
             RuleData rule = rules.get(rules.size() - 1);
             printLog(rule, pluginName);
-            return doExecute(exchange, chain, selectorData, rule);
+            return doExecuteMatched(exchange, chain, selectorData, rule);
         } else {
             // lru map as L1 cache,the cache is enabled by default.
             // if the L1 cache fails to hit, using L2 cache based on trie cache.
@@ -142,13 +132,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
                 ruleData = trieMatchRule(exchange, selectorData, path);
                 // trie cache fails to hit, execute default strategy
                 if (Objects.isNull(ruleData)) {
-                    Pair<Boolean, RuleData> matchRuleData = matchRule(exchange, rules);
-                    ruleData = matchRuleData.getRight();
-                    if (matchRuleData.getLeft()) {
-                        ruleData = Optional.ofNullable(ruleData)
-                                .orElse(RuleData.builder().pluginName(pluginName).matchRestful(false).build());
-                        cacheRuleData(path, ruleData);
-                    }
+                    ruleData = matchRule(exchange, rules, path, true);
                 }
             }
         }
@@ -156,7 +140,22 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             return handleRuleIfNull(pluginName, exchange, chain);
         }
         printLog(ruleData, pluginName);
-        return doExecute(exchange, chain, selectorData, ruleData);
+        return doExecuteMatched(exchange, chain, selectorData, ruleData);
+    }
+
+    /**
+     * record the matched selector and rule as the route of the request, then execute the plugin.
+     * the plugins executed later override them, so the route is the one of the last plugin matched.
+     */
+    private Mono<Void> doExecuteMatched(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        Map<String, Object> attributes = exchange.getAttributes();
+        attributes.put(Constants.MATCHED_SELECTOR_ID, selector.getId());
+        if (Objects.nonNull(rule.getId())) {
+            attributes.put(Constants.MATCHED_RULE_ID, rule.getId());
+        } else {
+            attributes.remove(Constants.MATCHED_RULE_ID);
+        }
+        return doExecute(exchange, chain, selector, rule);
     }
 
     private void initCacheConfig() {
@@ -166,6 +165,9 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         if (Objects.isNull(trie)) {
             trie = SpringBeanUtils.getInstance().getBean(ShenyuTrie.class);
         }
+        if (Objects.isNull(selectorTrie)) {
+            selectorTrie = SpringBeanUtils.getInstance().getBean(ShenyuSelectorTrie.class);
+        }
     }
 
     private void cacheSelectorData(final String path, final SelectorData selectorData) {
@@ -210,33 +212,96 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return chain.execute(exchange);
     }
 
-    private Pair<Boolean, SelectorData> matchSelector(final ServerWebExchange exchange, final Collection<SelectorData> selectors) {
-        List<SelectorData> filterCollectors = selectors.stream()
-                .filter(selector -> selector.getEnabled() && filterSelector(selector, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterCollectors.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchSelector(filterCollectors));
-        } else {
-            return Pair.of(Boolean.TRUE, filterCollectors.stream().findFirst().orElse(null));
+    /**
+     * match the candidates of the selector trie, or all the selectors when the trie can not match the path.
+     */
+    private SelectorData matchSelector(final ServerWebExchange exchange, final String pluginName, final List<SelectorData> selectors, final String path) {
+        List<ShenyuSelectorTrie.Candidate> candidates = Objects.isNull(selectorTrie) ? null : selectorTrie.match(pluginName, path);
+        if (Objects.isNull(candidates)) {
+            return matchSelector(exchange, selectors, path);
+        }
+        SelectorData matched = null;
+        int matchedCount = 0;
+        int matchedWeight = -1;
+        for (int i = 0, size = candidates.size(); i < size; i++) {
+            ShenyuSelectorTrie.Candidate candidate = candidates.get(i);
+            SelectorData selector = candidate.getSelector();
+            if (!selector.getEnabled() || !filterCandidate(candidate, exchange)) {
+                continue;
+            }
+            matchedCount++;
+            int weight = matchWeight(selector.getMatchMode(), selector.getConditionList());
+            if (weight > matchedWeight || (weight == matchedWeight && sortsBefore(selector.getSort(), matched.getSort()))) {
+                matched = selector;
+                matchedWeight = weight;
+            }
+        }
+        cacheMatchedSelector(path, matched, matchedCount);
+        return matched;
+    }
+
+    /**
+     * scan the sorted selectors in place and find the best matched one.
+     * if more than one selector matched, the one with the most and conditions wins, then the smaller sort.
+     * the result is cached only when no more than one selector matched.
+     */
+    private SelectorData matchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors, final String path) {
+        SelectorData matched = null;
+        int matchedCount = 0;
+        int matchedWeight = -1;
+        for (int i = 0, size = selectors.size(); i < size; i++) {
+            SelectorData selector = selectors.get(i);
+            if (!selector.getEnabled() || !filterSelector(selector, exchange)) {
+                continue;
+            }
+            matchedCount++;
+            int weight = matchWeight(selector.getMatchMode(), selector.getConditionList());
+            if (weight > matchedWeight || (weight == matchedWeight && sortsBefore(selector.getSort(), matched.getSort()))) {
+                matched = selector;
+                matchedWeight = weight;
+            }
+        }
+        cacheMatchedSelector(path, matched, matchedCount);
+        return matched;
+    }
+
+    private void cacheMatchedSelector(final String path, final SelectorData matched, final int matchedCount) {
+        if (matchedCount <= 1 && matchCacheConfig.getSelector().getSelectorEnabled()) {
+            if (Objects.isNull(matched)) {
+                SelectorData emptySelectorData = new SelectorData();
+                emptySelectorData.setPluginName(named());
+                cacheSelectorData(path, emptySelectorData);
+            } else {
+                cacheSelectorData(path, matched);
+            }
         }
     }
 
-    private SelectorData manyMatchSelector(final List<SelectorData> filterCollectors) {
-        //What needs to be dealt with here is the and condition. If the number of and conditions is the same and is matched at the same time,
-        // it will be sorted by the sort field.
-        Map<Integer, List<Pair<Integer, SelectorData>>> collect =
-                filterCollectors.stream().map(selector -> {
-                    boolean match = MatchModeEnum.match(selector.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = selector.getConditionList().size();
-                    }
-                    return Pair.of(sort, selector);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, SelectorData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(SelectorData::getSort)).orElse(null);
+    /**
+     * What needs to be dealt with here is the and condition. If the number of and conditions is the same and is matched at the same time,
+     * it will be sorted by the sort field.
+     */
+    private static int matchWeight(final Integer matchMode, final List<ConditionData> conditionList) {
+        return MatchModeEnum.match(matchMode, MatchModeEnum.AND) ? CollectionUtils.size(conditionList) : 0;
+    }
+
+    /**
+     * the null sort is taken as the last.
+     */
+    private static boolean sortsBefore(final Integer sort, final Integer matchedSort) {
+        return SORT_ORDER.compare(sort, matchedSort) < 0;
+    }
+
+    /**
+     * the uri condition matched by the trie exactly is not judged again.
+     */
+    private boolean filterCandidate(final ShenyuSelectorTrie.Candidate candidate, final ServerWebExchange exchange) {
+        SelectorData selector = candidate.getSelector();
+        if (candidate.getConditions() == selector.getConditionList()) {
+            return filterSelector(selector, exchange);
+        }
+        return CollectionUtils.isEmpty(candidate.getConditions())
+                || MatchStrategyFactory.match(selector.getMatchMode(), candidate.getConditions(), exchange);
     }
 
     private Boolean filterSelector(final SelectorData selector, final ServerWebExchange exchange) {
@@ -249,31 +314,36 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return true;
     }
 
-    private Pair<Boolean, RuleData> matchRule(final ServerWebExchange exchange, final Collection<RuleData> rules) {
-        List<RuleData> filterRuleData = rules.stream()
-                .filter(rule -> filterRule(rule, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterRuleData.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchRule(filterRuleData));
-        } else {
-            return Pair.of(Boolean.TRUE, filterRuleData.stream().findFirst().orElse(null));
+    /**
+     * scan the sorted rules in place and find the best matched one, the same as {@link #matchSelector}.
+     * if cacheAbsent is true, the absence of matched rule is cached too.
+     */
+    private RuleData matchRule(final ServerWebExchange exchange, final List<RuleData> rules, final String path, final boolean cacheAbsent) {
+        RuleData matched = null;
+        int matchedCount = 0;
+        int matchedWeight = -1;
+        for (int i = 0, size = rules.size(); i < size; i++) {
+            RuleData rule = rules.get(i);
+            if (!filterRule(rule, exchange)) {
+                continue;
+            }
+            matchedCount++;
+            int weight = matchWeight(rule.getMatchMode(), rule.getConditionDataList());
+            if (weight > matchedWeight || (weight == matchedWeight && sortsBefore(rule.getSort(), matched.getSort()))) {
+                matched = rule;
+                matchedWeight = weight;
+            }
         }
-    }
-
-    private RuleData manyMatchRule(final List<RuleData> filterRuleData) {
-        Map<Integer, List<Pair<Integer, RuleData>>> collect =
-                filterRuleData.stream().map(rule -> {
-                    boolean match = MatchModeEnum.match(rule.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = rule.getConditionDataList().size();
-                    }
-                    return Pair.of(sort, rule);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, RuleData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(RuleData::getSort)).orElse(null);
+        if (matchedCount <= 1) {
+            if (Objects.nonNull(matched)) {
+                cacheRuleData(path, matched);
+            } else if (cacheAbsent) {
+                RuleData emptyRuleData = RuleData.builder().pluginName(named()).matchRestful(false).build();
+                cacheRuleData(path, emptyRuleData);
+                return emptyRuleData;
+            }
+        }
+        return matched;
     }
 
     private Boolean filterRule(final RuleData ruleData, final ServerWebExchange exchange) {
@@ -310,17 +380,9 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
     
     private RuleData trieMatchRule(final ServerWebExchange exchange, final SelectorData selectorData, final String path) {
         RuleData ruleData = null;
-        ShenyuTrieNode shenyuTrieNode = trie.match(path, selectorData.getId());
-        if (Objects.nonNull(shenyuTrieNode)) {
-            List<RuleData> ruleDataList = shenyuTrieNode.getPathRuleCache().getIfPresent(selectorData.getId());
-            if (CollectionUtils.isNotEmpty(ruleDataList)) {
-                Pair<Boolean, RuleData> ruleDataPair = matchRule(exchange, ruleDataList);
-                ruleData = ruleDataPair.getRight();
-                if (ruleDataPair.getLeft()) {
-                    // exist only one rule data, cache rule
-                    cacheRuleData(path, ruleData);
-                }
-            }
+        List<RuleData> ruleDataList = trie.matchRules(path, selectorData.getId());
+        if (CollectionUtils.isNotEmpty(ruleDataList)) {
+            ruleData = matchRule(exchange, ruleDataList, path, false);
         }
         return ruleData;
     }
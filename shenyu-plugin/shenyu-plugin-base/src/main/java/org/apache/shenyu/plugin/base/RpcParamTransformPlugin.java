@@ -20,16 +20,15 @@ package org.apache.shenyu.plugin.base;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.base.support.CachedRequestBody;
 import org.apache.shenyu.plugin.base.utils.HttpParamConverter;
+import org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.lang.NonNull;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -38,7 +37,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * The param transform plugin.
@@ -52,10 +50,10 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
         if (Objects.nonNull(shenyuContext)) {
             MediaType mediaType = request.getHeaders().getContentType();
             if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
-                return body(exchange, request, chain);
+                return body(exchange, chain);
             }
             if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(mediaType)) {
-                return formData(exchange, request, chain);
+                return formData(exchange, chain);
             }
             return query(exchange, request, chain);
         }
@@ -72,33 +70,32 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
         return PluginEnum.RPC_PARAM_TRANSFORM.getName();
     }
 
-    private Mono<Void> body(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
-        return Mono.from(DataBufferUtils.join(serverHttpRequest.getBody())
-                .flatMap(data -> Mono.just(Optional.of(data)))
-                .defaultIfEmpty(Optional.empty())
-                .flatMap(body -> {
-                    body.ifPresent(dataBuffer -> exchange.getAttributes().put(Constants.PARAM_TRANSFORM, resolveBodyFromRequest(dataBuffer)));
-                    return chain.execute(exchange);
-                }));
+    private Mono<Void> body(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        return ServerWebExchangeUtils.cacheRequestBody(exchange, -1)
+                .flatMap(cached -> {
+                    CachedRequestBody body = ServerWebExchangeUtils.getCachedRequestBody(cached);
+                    if (body.getBytes().length > 0) {
+                        cached.getAttributes().put(Constants.PARAM_TRANSFORM, body.getString());
+                    }
+                    return chain.execute(cached);
+                });
     }
 
-    private Mono<Void> formData(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
-        return Mono.from(DataBufferUtils.join(serverHttpRequest.getBody())
-                .flatMap(data -> Mono.just(Optional.of(data)))
-                .defaultIfEmpty(Optional.empty())
-                .flatMap(map -> {
-                    if (map.isPresent()) {
-                        String param = resolveBodyFromRequest(map.get());
+    private Mono<Void> formData(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        return ServerWebExchangeUtils.cacheRequestBody(exchange, -1)
+                .flatMap(cached -> {
+                    CachedRequestBody body = ServerWebExchangeUtils.getCachedRequestBody(cached);
+                    if (body.getBytes().length > 0) {
                         LinkedMultiValueMap<String, String> linkedMultiValueMap;
                         try {
-                            linkedMultiValueMap = BodyParamUtils.buildBodyParams(URLDecoder.decode(param, StandardCharsets.UTF_8.name()));
+                            linkedMultiValueMap = BodyParamUtils.buildBodyParams(URLDecoder.decode(body.getString(), StandardCharsets.UTF_8.name()));
                         } catch (UnsupportedEncodingException e) {
                             return Mono.error(e);
                         }
-                        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.toMap(() -> linkedMultiValueMap));
+                        cached.getAttributes().put(Constants.PARAM_TRANSFORM, HttpParamConverter.toMap(() -> linkedMultiValueMap));
                     }
-                    return chain.execute(exchange);
-                }));
+                    return chain.execute(cached);
+                });
     }
 
     private Mono<Void> query(final ServerWebExchange exchange, final ServerHttpRequest serverHttpRequest, final ShenyuPluginChain chain) {
@@ -116,12 +113,4 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
                 RpcTypeEnum.SOFA,
                 RpcTypeEnum.BRPC);
     }
-
-    @NonNull
-    private String resolveBodyFromRequest(final DataBuffer dataBuffer) {
-        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-        dataBuffer.read(bytes);
-        DataBufferUtils.release(dataBuffer);
-        return new String(bytes, StandardCharsets.UTF_8);
-    }
 }
@@ -239,12 +239,13 @@ public final class BaseDataCache {
      */
     private void ruleAccept(final RuleData data) {
         String selectorId = data.getSelectorId();
+        ConditionMatcherCache.getInstance().cacheConditionMatchers(data.getConditionDataList());
         synchronized (RULE_MAP) {
             if (RULE_MAP.containsKey(selectorId)) {
                 List<RuleData> existList = RULE_MAP.get(selectorId);
                 final List<RuleData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
                 resultList.add(data);
-                final List<RuleData> collect = resultList.stream().sorted(Comparator.comparing(RuleData::getSort)).collect(Collectors.toList());
+                final List<RuleData> collect = resultList.stream().sorted(Comparator.comparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder()))).collect(Collectors.toList());
                 RULE_MAP.put(selectorId, collect);
             } else {
                 RULE_MAP.put(selectorId, Lists.newArrayList(data));
@@ -259,12 +260,14 @@ public final class BaseDataCache {
      */
     private void selectorAccept(final SelectorData data) {
         String key = data.getPluginName();
+        ConditionMatcherCache.getInstance().cacheConditionMatchers(data.getConditionList());
         synchronized (SELECTOR_MAP) {
             if (SELECTOR_MAP.containsKey(key)) {
                 List<SelectorData> existList = SELECTOR_MAP.get(key);
                 final List<SelectorData> resultList = existList.stream().filter(r -> !r.getId().equals(data.getId())).collect(Collectors.toList());
                 resultList.add(data);
-                final List<SelectorData> collect = resultList.stream().sorted(Comparator.comparing(SelectorData::getSort)).collect(Collectors.toList());
+                final List<SelectorData> collect = resultList.stream()
+                        .sorted(Comparator.comparing(SelectorData::getSort, Comparator.nullsLast(Comparator.naturalOrder()))).collect(Collectors.toList());
                 SELECTOR_MAP.put(key, collect);
             } else {
                 SELECTOR_MAP.put(key, Lists.newArrayList(data));
@@ -24,10 +24,13 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.common.enums.RuleTrieEventEnum;
+import org.apache.shenyu.common.enums.SelectorTrieEventEnum;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.event.RuleTrieEvent;
+import org.apache.shenyu.plugin.base.event.SelectorTrieEvent;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.slf4j.Logger;
@@ -128,6 +131,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
     public void refreshSelectorDataAll() {
         BaseDataCache.getInstance().cleanSelectorData();
         MatchDataCache.getInstance().cleanSelectorData();
+        SpringBeanUtils.getInstance().getBean(ShenyuSelectorTrie.class).clear();
     }
     
     @Override
@@ -136,6 +140,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             return;
         }
         BaseDataCache.getInstance().cleanSelectorDataSelf(selectorDataList);
+        selectorDataList.forEach(selectorData -> eventPublisher.publishEvent(new SelectorTrieEvent(SelectorTrieEventEnum.REMOVE, selectorData)));
     }
     
     @Override
@@ -200,6 +205,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             MatchDataCache.getInstance().removeSelectorData(selectorData.getPluginName());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.handlerSelector(selectorData));
+            eventPublisher.publishEvent(new SelectorTrieEvent(SelectorTrieEventEnum.INSERT, selectorData));
             
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
@@ -251,6 +257,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             MatchDataCache.getInstance().removeSelectorData(selectorData.getPluginName());
             Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
                     .ifPresent(handler -> handler.removeSelector(selectorData));
+            eventPublisher.publishEvent(new SelectorTrieEvent(SelectorTrieEventEnum.REMOVE, selectorData));
             
         } else if (data instanceof RuleData) {
             RuleData ruleData = (RuleData) data;
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.MapMaker;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.matcher.ConditionMatcher;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * The condition matcher cache.
+ * the key is the condition list instance of selector or rule, compared by identity and weakly referenced,
+ * so the compiled matchers are released together with the selector or rule.
+ */
+public final class ConditionMatcherCache {
+
+    private static final ConditionMatcherCache INSTANCE = new ConditionMatcherCache();
+
+    /**
+     * condition list -> compiled condition matchers.
+     */
+    private static final ConcurrentMap<List<ConditionData>, List<ConditionMatcher>> MATCHER_MAP = new MapMaker().weakKeys().makeMap();
+
+    private ConditionMatcherCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static ConditionMatcherCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compile the condition list and cache the matchers.
+     *
+     * @param conditionDataList the condition data list
+     */
+    public void cacheConditionMatchers(final List<ConditionData> conditionDataList) {
+        if (Objects.isNull(conditionDataList)) {
+            return;
+        }
+        MATCHER_MAP.put(conditionDataList, compile(conditionDataList));
+    }
+
+    /**
+     * Obtain the condition matchers, compile them if absent.
+     *
+     * @param conditionDataList the condition data list
+     * @return the condition matchers
+     */
+    public List<ConditionMatcher> obtainConditionMatchers(final List<ConditionData> conditionDataList) {
+        if (Objects.isNull(conditionDataList)) {
+            return Collections.emptyList();
+        }
+        List<ConditionMatcher> matchers = MATCHER_MAP.get(conditionDataList);
+        if (Objects.nonNull(matchers) && matchers.size() == conditionDataList.size()) {
+            return matchers;
+        }
+        return MATCHER_MAP.compute(conditionDataList, (key, value) -> compile(key));
+    }
+
+    /**
+     * Clean condition matchers.
+     */
+    public void cleanConditionMatchers() {
+        MATCHER_MAP.clear();
+    }
+
+    private List<ConditionMatcher> compile(final List<ConditionData> conditionDataList) {
+        if (CollectionUtils.isEmpty(conditionDataList)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(conditionDataList.stream().map(ConditionMatcher::compile).collect(Collectors.toList()));
+    }
+}
@@ -17,16 +17,18 @@
 
 package org.apache.shenyu.plugin.base.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Maps;
 import org.apache.shenyu.common.cache.WindowTinyLFUMap;
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The type Meta data cache.
@@ -37,6 +39,8 @@ public final class MetaDataCache {
 
     private static final MetaData NULL = new MetaData();
 
+    private static final int MAX_CACHED_PATHS = 1 << 16;
+
     private static final MetaDataCache INSTANCE = new MetaDataCache();
 
     /**
@@ -44,7 +48,26 @@ public final class MetaDataCache {
      */
     private static final ConcurrentMap<String, MetaData> META_DATA_MAP = Maps.newConcurrentMap();
 
-    private static final WindowTinyLFUMap<String, MetaData> CACHE = new WindowTinyLFUMap<>(1 << 16, Integer.MAX_VALUE, Boolean.FALSE);
+    /**
+     * path -> MetaData, the evicted path is also removed from the {@link #MAPPING}.
+     */
+    private static final Cache<String, MetaData> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_PATHS)
+            .<String, MetaData>evictionListener((path, value, cause) -> unmapping(path, value))
+            .build();
+
+    /**
+     * the paths which match no meta data, bounded and kept apart from the matched paths,
+     * so the random paths can neither grow the memory nor evict the matched paths.
+     */
+    private static final WindowTinyLFUMap<String, Boolean> MISS_CACHE = new WindowTinyLFUMap<>(1 << 10, MAX_CACHED_PATHS, Boolean.FALSE);
+
+    /**
+     * bumped by every change of the meta data, the lookup started before a change does not cache its result.
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private static final MetaDataPathIndex PATH_INDEX = new MetaDataPathIndex();
 
     /**
      * pathPattern -> path.
@@ -74,11 +97,17 @@ public final class MetaDataCache {
             // the update is also need to clean, but there is
             // no way to distinguish between crate and update,
             // so it is always clean
-            clean(META_DATA_MAP.get(data.getId()).getPath());
+            final MetaData old = META_DATA_MAP.get(data.getId());
+            clean(old.getPath());
+            PATH_INDEX.remove(old);
         }
         META_DATA_MAP.put(data.getId(), data);
+        PATH_INDEX.put(data);
+        GENERATION.incrementAndGet();
         final String path = data.getPath();
         clean(path);
+        // the new path may match the paths which matched nothing before
+        MISS_CACHE.clear();
         if (!path.contains("*")) {
             // only in this condition, we need to init cache
             initCache(path, data, path);
@@ -91,25 +120,23 @@ public final class MetaDataCache {
      * @param data the data
      */
     public void remove(final MetaData data) {
-        META_DATA_MAP.remove(data.getId());
+        Optional.ofNullable(META_DATA_MAP.remove(data.getId())).ifPresent(PATH_INDEX::remove);
+        GENERATION.incrementAndGet();
         clean(data.getPath());
     }
 
     private void clean(final String key) {
         // springCloud and divide are needs to be cleaned
-        Optional.ofNullable(MAPPING.get(key))
-                .ifPresent(paths -> {
-                    for (String path : paths) {
-                        CACHE.remove(path);
-                    }
-                });
+        Optional.ofNullable(MAPPING.remove(key)).ifPresent(CACHE::invalidateAll);
     }
 
     /**
      * clean cache for divide plugin.
      */
     public void clean() {
+        GENERATION.incrementAndGet();
         clean(DIVIDE_CACHE_KEY);
+        MISS_CACHE.clear();
     }
 
     /**
@@ -119,21 +146,29 @@ public final class MetaDataCache {
      * @return the meta data
      */
     public MetaData obtain(final String path) {
-        final MetaData metaData = Optional.ofNullable(CACHE.get(path))
-                .orElseGet(() -> {
-                    final MetaData value = META_DATA_MAP.values()
-                            .stream()
-                            .filter(data -> PathMatchUtils.match(data.getPath(), path))
-                            .findFirst()
-                            .orElse(null);
-                    final String metaPath = Optional.ofNullable(value)
-                            .map(MetaData::getPath)
-                            .orElse(DIVIDE_CACHE_KEY);
-                    // init cache
-                    initCache(path, value, metaPath);
-                    return value;
-                });
-        return NULL.equals(metaData) ? null : metaData;
+        final MetaData metaData = CACHE.getIfPresent(path);
+        if (Objects.nonNull(metaData)) {
+            return NULL.equals(metaData) ? null : metaData;
+        }
+        if (Objects.nonNull(MISS_CACHE.get(path))) {
+            return null;
+        }
+        final long generation = GENERATION.get();
+        final MetaData value = PATH_INDEX.match(path);
+        if (Objects.isNull(value)) {
+            MISS_CACHE.put(path, Boolean.TRUE);
+            // the meta data changed during the match, the miss may be stale
+            if (generation != GENERATION.get()) {
+                MISS_CACHE.remove(path);
+            }
+            return null;
+        }
+        // init cache
+        initCache(path, value, value.getPath());
+        if (generation != GENERATION.get()) {
+            CACHE.invalidate(path);
+        }
+        return value;
     }
 
     /**
@@ -154,4 +189,12 @@ public final class MetaDataCache {
         }
         paths.add(path);
     }
+
+    private static void unmapping(final String path, final MetaData value) {
+        if (Objects.isNull(value)) {
+            return;
+        }
+        String metaPath = NULL.equals(value) ? DIVIDE_CACHE_KEY : value.getPath();
+        Optional.ofNullable(MAPPING.get(metaPath)).ifPresent(paths -> paths.remove(path));
+    }
 }
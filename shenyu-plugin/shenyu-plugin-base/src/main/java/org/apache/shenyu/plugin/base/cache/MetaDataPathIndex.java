@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The index of the meta data paths.
+ * the path is indexed by its literal segments before the first wildcard, so a lookup only judges
+ * the meta data on the nodes which the real path walks through, instead of all the meta data.
+ */
+final class MetaDataPathIndex {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final Node root = new Node();
+
+    /**
+     * put the meta data.
+     *
+     * @param metaData the meta data
+     */
+    synchronized void put(final MetaData metaData) {
+        Node node = root;
+        for (String segment : literalSegments(metaData.getPath())) {
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        node.metaData.put(metaData.getId(), metaData);
+    }
+
+    /**
+     * remove the meta data, the nodes left empty are pruned.
+     *
+     * @param metaData the meta data
+     */
+    synchronized void remove(final MetaData metaData) {
+        remove0(root, literalSegments(metaData.getPath()), 0, metaData.getId());
+    }
+
+    /**
+     * match the real path, the meta data on the deeper node is judged first as its path is more specific.
+     *
+     * @param path the real path
+     * @return the meta data, or null
+     */
+    MetaData match(final String path) {
+        // the same as the tokens of the AntPathMatcher, the empty segments are ignored
+        String[] segments = StringUtils.split(path, PATH_SEPARATOR);
+        List<Node> nodes = new ArrayList<>(segments.length + 1);
+        Node node = root;
+        nodes.add(node);
+        for (String segment : segments) {
+            node = node.children.get(segment);
+            if (Objects.isNull(node)) {
+                break;
+            }
+            nodes.add(node);
+        }
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            for (MetaData metaData : nodes.get(i).metaData.values()) {
+                if (PathMatchUtils.match(metaData.getPath(), path)) {
+                    return metaData;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void remove0(final Node node, final List<String> segments, final int index, final String id) {
+        if (index == segments.size()) {
+            node.metaData.remove(id);
+            return;
+        }
+        Node child = node.children.get(segments.get(index));
+        if (Objects.isNull(child)) {
+            return;
+        }
+        remove0(child, segments, index + 1, id);
+        if (child.metaData.isEmpty() && child.children.isEmpty()) {
+            node.children.remove(segments.get(index), child);
+        }
+    }
+
+    private static List<String> literalSegments(final String path) {
+        List<String> literals = new ArrayList<>();
+        for (String segment : StringUtils.split(path, PATH_SEPARATOR)) {
+            if (StringUtils.containsAny(segment, '*', '?', '{')) {
+                break;
+            }
+            literals.add(segment);
+        }
+        return literals;
+    }
+
+    private static final class Node {
+
+        /**
+         * segment -> child.
+         */
+        private final ConcurrentMap<String, Node> children = Maps.newConcurrentMap();
+
+        /**
+         * id -> MetaData.
+         */
+        private final ConcurrentMap<String, MetaData> metaData = Maps.newConcurrentMap();
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.spi.Join;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Match predicate judge.
@@ -37,4 +38,13 @@ public class MatchPredicateJudge implements PredicateJudge {
         }
         return realData.contains(conditionData.getParamValue().trim());
     }
+
+    @Override
+    public Predicate<String> compile(final ConditionData conditionData) {
+        final String paramValue = conditionData.getParamValue().trim();
+        if (Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
+            return realData -> PathMatchUtils.match(paramValue, realData);
+        }
+        return realData -> realData.contains(paramValue);
+    }
 }
@@ -21,8 +21,11 @@ import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.spi.Join;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * 1. it used {@linkplain org.springframework.web.util.pattern.PathPattern}
@@ -40,4 +43,14 @@ public class PathPatternPredicateJudge implements PredicateJudge {
         }
         return realData.contains(conditionData.getParamValue().trim());
     }
+
+    @Override
+    public Predicate<String> compile(final ConditionData conditionData) {
+        final String paramValue = conditionData.getParamValue().trim();
+        if (Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())) {
+            final PathPattern pathPattern = PathMatchUtils.parsePathPattern(paramValue);
+            return realData -> pathPattern.matches(PathContainer.parsePath(realData));
+        }
+        return realData -> realData.contains(paramValue);
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.shenyu.plugin.base.condition.judge;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.spi.SPI;
 
+import java.util.function.Predicate;
+
 /**
  * Predicate judge.
  */
@@ -35,4 +37,15 @@ public interface PredicateJudge {
      * @return true is pass  false is not pass.
      */
     Boolean judge(ConditionData conditionData, String realData);
+
+    /**
+     * compile conditionData into a reusable predicate, the heavy work such as
+     * parsing the param value should be done here once instead of per request.
+     *
+     * @param conditionData {@linkplain ConditionData}
+     * @return the predicate applied to realData
+     */
+    default Predicate<String> compile(ConditionData conditionData) {
+        return realData -> judge(conditionData, realData);
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.matcher;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudge;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * The immutable compiled form of a {@linkplain ConditionData}.
+ */
+public final class ConditionMatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConditionMatcher.class);
+
+    private final ConditionData conditionData;
+
+    private final Predicate<String> predicate;
+
+    private ConditionMatcher(final ConditionData conditionData, final Predicate<String> predicate) {
+        this.conditionData = conditionData;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Compile condition data into condition matcher.
+     *
+     * @param conditionData the condition data
+     * @return the condition matcher
+     */
+    public static ConditionMatcher compile(final ConditionData conditionData) {
+        if (Objects.isNull(conditionData)) {
+            return new ConditionMatcher(null, realData -> false);
+        }
+        final PredicateJudge judge;
+        try {
+            judge = PredicateJudgeFactory.newInstance(conditionData.getOperator());
+        } catch (RuntimeException e) {
+            // an unknown operator only fails this condition, the data sync goes on.
+            LOG.warn("unknown condition operator: {}", conditionData.getOperator(), e);
+            return new ConditionMatcher(conditionData, realData -> false);
+        }
+        Predicate<String> predicate;
+        try {
+            predicate = judge.compile(conditionData);
+        } catch (RuntimeException e) {
+            // keep the error on the request path as before, instead of breaking the data sync.
+            LOG.warn("compile condition failed, operator: {}, paramValue: {}", conditionData.getOperator(), conditionData.getParamValue(), e);
+            predicate = realData -> judge.judge(conditionData, realData);
+        }
+        return new ConditionMatcher(conditionData, predicate);
+    }
+
+    /**
+     * Get condition data.
+     *
+     * @return the condition data
+     */
+    public ConditionData getConditionData() {
+        return conditionData;
+    }
+
+    /**
+     * judge the realData is match.
+     *
+     * @param realData the real data
+     * @return true is pass  false is not pass.
+     */
+    public boolean test(final String realData) {
+        if (StringUtils.isBlank(realData)) {
+            return false;
+        }
+        return predicate.test(realData);
+    }
+
+    /**
+     * judge the exchange is match.
+     *
+     * @param exchange the exchange
+     * @return true is pass  false is not pass.
+     */
+    public boolean match(final ServerWebExchange exchange) {
+        if (Objects.isNull(conditionData)) {
+            return false;
+        }
+        return test(ParameterDataFactory.builderData(conditionData.getParamType(), conditionData.getParamName(), exchange));
+    }
+}
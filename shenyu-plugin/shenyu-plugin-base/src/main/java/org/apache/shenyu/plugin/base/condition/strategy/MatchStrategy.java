@@ -18,10 +18,12 @@
 package org.apache.shenyu.plugin.base.condition.strategy;
 
 import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.matcher.ConditionMatcher;
 import org.apache.shenyu.spi.SPI;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * This is condition strategy.
@@ -37,4 +39,15 @@ public interface MatchStrategy {
      * @return true is match , false is not match.
      */
     Boolean match(List<ConditionData> conditionDataList, ServerWebExchange exchange);
+
+    /**
+     * this is compiled condition match.
+     *
+     * @param conditionMatchers compiled condition list.
+     * @param exchange          {@linkplain ServerWebExchange}
+     * @return true is match , false is not match.
+     */
+    default Boolean matchCompiled(List<ConditionMatcher> conditionMatchers, ServerWebExchange exchange) {
+        return match(conditionMatchers.stream().map(ConditionMatcher::getConditionData).collect(Collectors.toList()), exchange);
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shenyu.plugin.base.condition.strategy;
 
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.plugin.base.cache.ConditionMatcherCache;
 import org.apache.shenyu.spi.ExtensionLoader;
 import org.springframework.web.server.ServerWebExchange;
 
@@ -52,6 +53,6 @@ public final class MatchStrategyFactory {
      * @return the boolean
      */
     public static boolean match(final Integer strategy, final List<ConditionData> conditionDataList, final ServerWebExchange exchange) {
-        return newInstance(strategy).match(conditionDataList, exchange);
+        return newInstance(strategy).matchCompiled(ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList), exchange);
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.base.condition.strategy;
 
 import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.matcher.ConditionMatcher;
 import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
 import org.apache.shenyu.spi.Join;
 import org.springframework.web.server.ServerWebExchange;
@@ -36,4 +37,11 @@ public class OrMatchStrategy extends AbstractMatchStrategy implements MatchStrat
                 .stream()
                 .anyMatch(condition -> PredicateJudgeFactory.judge(condition, buildRealData(condition, exchange)));
     }
+
+    @Override
+    public Boolean matchCompiled(final List<ConditionMatcher> conditionMatchers, final ServerWebExchange exchange) {
+        return conditionMatchers
+                .stream()
+                .anyMatch(matcher -> matcher.match(exchange));
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.event;
+
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.SelectorTrieEventEnum;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Selector trie event.
+ */
+public class SelectorTrieEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 4394745718553460473L;
+
+    private final SelectorTrieEventEnum selectorTrieEventEnum;
+
+    /**
+     * shenyu selector trie event.
+     *
+     * @param selectorTrieEventEnum selectorTrieEventEnum
+     * @param source data
+     */
+    public SelectorTrieEvent(final SelectorTrieEventEnum selectorTrieEventEnum, final SelectorData source) {
+        super(source);
+        this.selectorTrieEventEnum = selectorTrieEventEnum;
+    }
+
+    /**
+     * get selector trie insert or remove event.
+     *
+     * @return {@linkplain SelectorTrieEventEnum} include insert and remove event
+     */
+    public SelectorTrieEventEnum getSelectorTrieEvent() {
+        return selectorTrieEventEnum;
+    }
+}
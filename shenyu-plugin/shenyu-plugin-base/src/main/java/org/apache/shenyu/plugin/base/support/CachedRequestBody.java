@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.support;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.util.annotation.NonNull;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The request body joined once per exchange and shared by the plugins which inspect it.
+ *
+ * <p>The bytes and the string are computed lazily from each other. The request
+ * given to the rest of the chain re-emits the current body, which is encoded again only after
+ * it is modified. An exchange is handled by one thread at a time, so it is not thread safe.</p>
+ */
+public class CachedRequestBody {
+
+    private final Charset charset;
+
+    private byte[] bytes;
+
+    private String string;
+
+    private boolean modified;
+
+    private int maxInMemorySize;
+
+    private ServerHttpRequest request;
+
+    /**
+     * Instantiates a new cached request body.
+     *
+     * @param bytes the original body
+     * @param contentType the content type of the request
+     * @param maxInMemorySize the max bytes the body is joined with, -1 means unlimited
+     */
+    public CachedRequestBody(final byte[] bytes, final MediaType contentType, final int maxInMemorySize) {
+        this.bytes = bytes;
+        this.charset = Optional.ofNullable(contentType).map(MediaType::getCharset).orElse(StandardCharsets.UTF_8);
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    /**
+     * Gets the body bytes.
+     *
+     * @return the bytes
+     */
+    public byte[] getBytes() {
+        if (Objects.isNull(bytes)) {
+            bytes = getString().getBytes(charset);
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the body decoded with the charset of the request.
+     *
+     * @return the string
+     */
+    public String getString() {
+        if (Objects.isNull(string)) {
+            string = new String(bytes, charset);
+        }
+        return string;
+    }
+
+    /**
+     * Replaces the body, it is kept as is when the new body equals the current one.
+     *
+     * @param body the new body
+     */
+    public void setString(final String body) {
+        if (body.equals(getString())) {
+            return;
+        }
+        this.string = body;
+        this.bytes = null;
+        this.modified = true;
+    }
+
+    /**
+     * Whether the body is modified.
+     *
+     * @return true when the body differs from the original one
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Apply a stricter limit to the body, the limit is kept when the body does not exceed it.
+     *
+     * @param limit the max bytes of the body, -1 means unlimited
+     * @return false when the body exceeds the limit
+     */
+    public boolean limit(final int limit) {
+        if (limit < 0 || (maxInMemorySize >= 0 && maxInMemorySize <= limit)) {
+            return true;
+        }
+        if (getBytes().length > limit) {
+            return false;
+        }
+        maxInMemorySize = limit;
+        return true;
+    }
+
+    /**
+     * Decorate the request of the exchange to emit this body.
+     *
+     * @param exchange the exchange
+     * @return the decorated request
+     */
+    public ServerHttpRequest decorate(final ServerWebExchange exchange) {
+        this.request = new CachedRequestBodyDecorator(exchange.getRequest(), exchange.getResponse().bufferFactory(), this);
+        return request;
+    }
+
+    /**
+     * Whether the request is the one decorated to emit this body, a plugin which replaces the request
+     * after the body is cached may emit another body.
+     *
+     * @param request the request
+     * @return true when the request is the decorated one
+     */
+    public boolean isEmittedBy(final ServerHttpRequest request) {
+        return this.request == request;
+    }
+
+    private static final class CachedRequestBodyDecorator extends ServerHttpRequestDecorator {
+
+        private final DataBufferFactory bufferFactory;
+
+        private final CachedRequestBody body;
+
+        CachedRequestBodyDecorator(final ServerHttpRequest delegate, final DataBufferFactory bufferFactory, final CachedRequestBody body) {
+            super(delegate);
+            this.bufferFactory = bufferFactory;
+            this.body = body;
+        }
+
+        @Override
+        @NonNull
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> {
+                byte[] bytes = body.getBytes();
+                return bytes.length == 0 ? Flux.empty() : Flux.just(bufferFactory.wrap(bytes));
+            });
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            if (!body.isModified()) {
+                return super.getHeaders();
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(super.getHeaders());
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.setContentLength(body.getBytes().length);
+            return headers;
+        }
+    }
+}
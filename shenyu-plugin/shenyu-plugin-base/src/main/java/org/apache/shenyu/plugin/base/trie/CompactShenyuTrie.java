@@ -0,0 +1,407 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.RuleData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The read-optimized shenyu trie.
+ * the nodes are immutable, the children of a node are kept in a sorted array and found by binary search,
+ * every change copies the nodes on the changed path and publishes the new root, so the readers never lock.
+ * the path is matched by index, without stripping or splitting it.
+ * the match priority is the same as {@linkplain ShenyuTrie}: path > * > ** > pathVariableNode.
+ */
+public class CompactShenyuTrie extends ShenyuTrie {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private static final String WILDCARD = "*";
+
+    private static final String MATCH_ALL = "**";
+
+    private volatile Node root = Node.empty(PATH_SEPARATOR);
+
+    public CompactShenyuTrie(final String matchMode) {
+        super(1L, 1L, 1L, matchMode);
+    }
+
+    @Override
+    public synchronized void clear() {
+        root = Node.empty(PATH_SEPARATOR);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Node current = root;
+        return current.keys.length == 0 && Objects.isNull(current.pathVariable);
+    }
+
+    @Override
+    public synchronized void putNode(final String uriPath, final RuleData ruleData, final Object bizInfo) {
+        String[] pathParts = splitPath(uriPath);
+        if (pathParts.length > 0) {
+            root = putNode0(root, pathParts, 0, uriPath, ruleData, bizInfo);
+        }
+    }
+
+    @Override
+    public synchronized void remove(final String path, final RuleData ruleData) {
+        String[] pathParts = splitPath(path);
+        if (pathParts.length > 0) {
+            Node removed = remove0(root, pathParts, 0, ruleData);
+            root = Objects.isNull(removed) ? Node.empty(PATH_SEPARATOR) : removed;
+        }
+    }
+
+    @Override
+    public ShenyuTrieNode match(final String uriPath, final String selectorId) {
+        Objects.requireNonNull(selectorId);
+        Node node = matchNode(uriPath, selectorId);
+        return Objects.isNull(node) ? null : toTrieNode(node);
+    }
+
+    @Override
+    public List<RuleData> matchRules(final String uriPath, final String selectorId) {
+        Objects.requireNonNull(selectorId);
+        Node node = matchNode(uriPath, selectorId);
+        return Objects.isNull(node) ? null : node.rules(selectorId);
+    }
+
+    @Override
+    public ShenyuTrieNode getNode(final String uriPath) {
+        String[] pathParts = splitPath(uriPath);
+        if (pathParts.length == 0) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < pathParts.length && Objects.nonNull(node); i++) {
+            node = isPathVariable(pathParts[i]) ? node.pathVariable : node.child(pathParts[i]);
+        }
+        return Objects.isNull(node) ? null : toTrieNode(node);
+    }
+
+    /**
+     * walk the segments of the path in place, the duplicated and trailing separators are skipped as the split does.
+     */
+    private Node matchNode(final String uriPath, final String selectorId) {
+        if (StringUtils.isEmpty(uriPath)) {
+            return null;
+        }
+        final int length = uriPath.length();
+        int start = skipSeparator(uriPath, 0);
+        Node node = root;
+        while (start < length) {
+            int end = uriPath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.match(uriPath, start, end);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+            start = skipSeparator(uriPath, end);
+            boolean endPath = start >= length;
+            if ((endPath || node.matchAll) && Objects.nonNull(node.rules(selectorId))) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private Node putNode0(final Node node, final String[] pathParts, final int index,
+                          final String fullPath, final RuleData ruleData, final Object bizInfo) {
+        if (index == pathParts.length) {
+            return node.withRule(fullPath, ruleData, bizInfo);
+        }
+        String segment = pathParts[index];
+        if (isPathVariable(segment)) {
+            // the path variables in the same position share one node, whatever the names are
+            Node child = Objects.isNull(node.pathVariable) ? Node.empty(segment) : node.pathVariable;
+            return node.withPathVariable(putNode0(child, pathParts, index + 1, fullPath, ruleData, bizInfo));
+        }
+        Node child = node.child(segment);
+        if (Objects.isNull(child)) {
+            child = Node.empty(segment);
+        }
+        return node.withChild(segment, putNode0(child, pathParts, index + 1, fullPath, ruleData, bizInfo));
+    }
+
+    /**
+     * remove the rule, and prune the nodes without any rule or child.
+     * the same node is returned when nothing changed, and null when the node is pruned.
+     */
+    private Node remove0(final Node node, final String[] pathParts, final int index, final RuleData ruleData) {
+        if (index == pathParts.length) {
+            return node.withoutRule(ruleData).pruned();
+        }
+        String segment = pathParts[index];
+        boolean pathVariable = isPathVariable(segment);
+        Node child = pathVariable ? node.pathVariable : node.child(segment);
+        if (Objects.isNull(child)) {
+            return node;
+        }
+        Node removed = remove0(child, pathParts, index + 1, ruleData);
+        if (removed == child) {
+            return node;
+        }
+        Node changed = pathVariable ? node.withPathVariable(removed) : node.withChild(segment, removed);
+        return changed.pruned();
+    }
+
+    private static ShenyuTrieNode toTrieNode(final Node node) {
+        ShenyuTrieNode trieNode = new ShenyuTrieNode();
+        trieNode.setMatchStr(node.matchStr);
+        trieNode.setFullPath(node.fullPath);
+        trieNode.setBizInfo(node.bizInfo);
+        trieNode.setWildcard(WILDCARD.equals(node.matchStr));
+        trieNode.setEndOfPath(node.selectorIds.length > 0);
+        Cache<String, List<RuleData>> pathRuleCache = Caffeine.newBuilder().build();
+        for (int i = 0; i < node.selectorIds.length; i++) {
+            pathRuleCache.put(node.selectorIds[i], node.rules[i]);
+        }
+        trieNode.setPathRuleCache(pathRuleCache);
+        return trieNode;
+    }
+
+    private static String[] splitPath(final String uriPath) {
+        if (StringUtils.isBlank(uriPath)) {
+            return new String[0];
+        }
+        return StringUtils.split(StringUtils.strip(uriPath, PATH_SEPARATOR), PATH_SEPARATOR);
+    }
+
+    private static int skipSeparator(final String path, final int from) {
+        int index = from;
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean isPathVariable(final String key) {
+        return key.startsWith("{") && key.endsWith("}");
+    }
+
+    /**
+     * compare the key with the path segment [start, end) as {@link String#compareTo} does.
+     */
+    private static int compareSegment(final String key, final String path, final int start, final int end) {
+        final int segmentLength = end - start;
+        final int min = Math.min(key.length(), segmentLength);
+        for (int i = 0; i < min; i++) {
+            int diff = key.charAt(i) - path.charAt(start + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key.length() - segmentLength;
+    }
+
+    private static final class Node {
+
+        private static final String[] EMPTY_KEYS = new String[0];
+
+        private static final Node[] EMPTY_CHILDREN = new Node[0];
+
+        @SuppressWarnings("unchecked")
+        private static final List<RuleData>[] EMPTY_RULES = new List[0];
+
+        private final String matchStr;
+
+        private final String fullPath;
+
+        private final Object bizInfo;
+
+        private final boolean matchAll;
+
+        private final String[] keys;
+
+        private final Node[] children;
+
+        private final Node wildcard;
+
+        private final Node matchAllChild;
+
+        private final Node pathVariable;
+
+        private final String[] selectorIds;
+
+        private final List<RuleData>[] rules;
+
+        private Node(final String matchStr, final String fullPath, final Object bizInfo, final String[] keys, final Node[] children,
+                     final Node pathVariable, final String[] selectorIds, final List<RuleData>[] rules) {
+            this.matchStr = matchStr;
+            this.fullPath = fullPath;
+            this.bizInfo = bizInfo;
+            this.matchAll = MATCH_ALL.equals(matchStr);
+            this.keys = keys;
+            this.children = children;
+            this.pathVariable = pathVariable;
+            this.selectorIds = selectorIds;
+            this.rules = rules;
+            int wildcardIndex = Arrays.binarySearch(keys, WILDCARD);
+            this.wildcard = wildcardIndex >= 0 ? children[wildcardIndex] : null;
+            int matchAllIndex = Arrays.binarySearch(keys, MATCH_ALL);
+            this.matchAllChild = matchAllIndex >= 0 ? children[matchAllIndex] : null;
+        }
+
+        private static Node empty(final String matchStr) {
+            return new Node(matchStr, null, null, EMPTY_KEYS, EMPTY_CHILDREN, null, EMPTY_KEYS, EMPTY_RULES);
+        }
+
+        private Node match(final String path, final int start, final int end) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareSegment(keys[mid], path, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            if (Objects.nonNull(wildcard)) {
+                return wildcard;
+            }
+            if (Objects.nonNull(matchAllChild)) {
+                return matchAllChild;
+            }
+            return pathVariable;
+        }
+
+        private Node child(final String key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private List<RuleData> rules(final String selectorId) {
+            int index = indexOf(selectorId);
+            return index >= 0 ? rules[index] : null;
+        }
+
+        private Node withChild(final String key, final Node child) {
+            int index = Arrays.binarySearch(keys, key);
+            String[] newKeys;
+            Node[] newChildren;
+            if (index >= 0 && Objects.nonNull(child)) {
+                newKeys = keys;
+                newChildren = children.clone();
+                newChildren[index] = child;
+            } else if (index >= 0) {
+                newKeys = new String[keys.length - 1];
+                newChildren = new Node[children.length - 1];
+                System.arraycopy(keys, 0, newKeys, 0, index);
+                System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+                System.arraycopy(children, 0, newChildren, 0, index);
+                System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            } else if (Objects.nonNull(child)) {
+                int insert = -index - 1;
+                newKeys = new String[keys.length + 1];
+                newChildren = new Node[children.length + 1];
+                System.arraycopy(keys, 0, newKeys, 0, insert);
+                System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+                System.arraycopy(children, 0, newChildren, 0, insert);
+                System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+                newKeys[insert] = key;
+                newChildren[insert] = child;
+            } else {
+                return this;
+            }
+            return new Node(matchStr, fullPath, bizInfo, newKeys, newChildren, pathVariable, selectorIds, rules);
+        }
+
+        private Node withPathVariable(final Node child) {
+            return new Node(matchStr, fullPath, bizInfo, keys, children, child, selectorIds, rules);
+        }
+
+        private Node withRule(final String path, final RuleData ruleData, final Object info) {
+            int index = indexOf(ruleData.getSelectorId());
+            List<RuleData> ruleDataList = new ArrayList<>(index >= 0 ? rules[index] : Collections.emptyList());
+            ruleDataList.removeIf(rule -> Objects.equals(rule.getId(), ruleData.getId()));
+            ruleDataList.add(ruleData);
+            ruleDataList.sort(Comparator.comparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder())));
+            return withRules(path, info, index, ruleData.getSelectorId(), Collections.unmodifiableList(ruleDataList));
+        }
+
+        private Node withoutRule(final RuleData ruleData) {
+            int index = indexOf(ruleData.getSelectorId());
+            if (index < 0) {
+                return this;
+            }
+            List<RuleData> ruleDataList = new ArrayList<>(rules[index]);
+            if (!ruleDataList.removeIf(rule -> Objects.equals(rule.getId(), ruleData.getId()))) {
+                return this;
+            }
+            return withRules(fullPath, bizInfo, index, ruleData.getSelectorId(),
+                    ruleDataList.isEmpty() ? null : Collections.unmodifiableList(ruleDataList));
+        }
+
+        /**
+         * replace, add or remove (when the rule data list is null) the rules of the selector.
+         */
+        @SuppressWarnings("unchecked")
+        private Node withRules(final String path, final Object info, final int index, final String selectorId, final List<RuleData> ruleDataList) {
+            String[] newSelectorIds;
+            List<RuleData>[] newRules;
+            if (index >= 0 && Objects.nonNull(ruleDataList)) {
+                newSelectorIds = selectorIds;
+                newRules = rules.clone();
+                newRules[index] = ruleDataList;
+            } else if (index >= 0) {
+                newSelectorIds = new String[selectorIds.length - 1];
+                newRules = new List[rules.length - 1];
+                System.arraycopy(selectorIds, 0, newSelectorIds, 0, index);
+                System.arraycopy(selectorIds, index + 1, newSelectorIds, index, selectorIds.length - index - 1);
+                System.arraycopy(rules, 0, newRules, 0, index);
+                System.arraycopy(rules, index + 1, newRules, index, rules.length - index - 1);
+            } else {
+                newSelectorIds = Arrays.copyOf(selectorIds, selectorIds.length + 1);
+                newRules = Arrays.copyOf(rules, rules.length + 1);
+                newSelectorIds[selectorIds.length] = selectorId;
+                newRules[rules.length] = ruleDataList;
+            }
+            return new Node(matchStr, path, info, keys, children, pathVariable, newSelectorIds, newRules);
+        }
+
+        private int indexOf(final String selectorId) {
+            for (int i = 0; i < selectorIds.length; i++) {
+                if (selectorIds[i].equals(selectorId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Node pruned() {
+            return selectorIds.length == 0 && keys.length == 0 && Objects.isNull(pathVariable) ? null : this;
+        }
+    }
+}
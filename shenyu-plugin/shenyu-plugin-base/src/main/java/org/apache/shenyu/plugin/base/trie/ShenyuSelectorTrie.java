@@ -0,0 +1,528 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.cache.ConditionMatcherCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The selector trie of the plugins, fed by the {@linkplain org.apache.shenyu.plugin.base.event.SelectorTrieEvent}.
+ * a custom flow and-mode selector with one uri condition is put into the trie by the segments of the uri:
+ * 1. exact, the uri is a {@code =}, {@code match} or {@code pathPattern} condition made of literal, {@code *},
+ * {@code **} and {@code {name}} segments, the trie matches it exactly, so only the other conditions are judged.
+ * 2. prefix, the literal segments before the first wildcard of the other uri conditions, all the conditions are judged.
+ * 3. residual, all the other selectors, all the conditions are judged.
+ * the nodes are immutable, every change of a plugin copies the changed path and publishes the new root.
+ */
+public class ShenyuSelectorTrie {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private static final String WILDCARD = "*";
+
+    private static final String MATCH_ALL = "**";
+
+    private static final String EQUALS_OPERATOR = "equals";
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{\\w+}");
+
+    private static final Comparator<Candidate> PRIORITY = Comparator.<Candidate>comparingInt(candidate -> candidate.sort)
+            .thenComparingLong(candidate -> candidate.order);
+
+    private final ConcurrentMap<String, PluginSelectors> pluginSelectors = new ConcurrentHashMap<>();
+
+    private long order;
+
+    /**
+     * put the selector, the selector with the same id is replaced.
+     *
+     * @param selectorData selector data
+     */
+    public synchronized void putSelector(final SelectorData selectorData) {
+        PluginSelectors selectors = pluginSelectors.computeIfAbsent(selectorData.getPluginName(), key -> new PluginSelectors());
+        Candidate previous = selectors.candidates.remove(selectorData.getId());
+        Snapshot snapshot = Objects.isNull(previous) ? selectors.snapshot : selectors.snapshot.without(previous);
+        Candidate candidate = Candidate.build(selectorData, order++);
+        selectors.candidates.put(selectorData.getId(), candidate);
+        selectors.snapshot = snapshot.with(candidate);
+    }
+
+    /**
+     * remove the selector by the plugin name and id.
+     *
+     * @param selectorData selector data
+     */
+    public synchronized void removeSelector(final SelectorData selectorData) {
+        PluginSelectors selectors = pluginSelectors.get(selectorData.getPluginName());
+        if (Objects.isNull(selectors)) {
+            return;
+        }
+        Candidate previous = selectors.candidates.remove(selectorData.getId());
+        if (Objects.nonNull(previous)) {
+            selectors.snapshot = selectors.snapshot.without(previous);
+        }
+    }
+
+    /**
+     * remove all the selectors of the plugin.
+     *
+     * @param pluginName plugin name
+     */
+    public synchronized void removePlugin(final String pluginName) {
+        pluginSelectors.remove(pluginName);
+    }
+
+    /**
+     * clear the trie.
+     */
+    public synchronized void clear() {
+        pluginSelectors.clear();
+    }
+
+    /**
+     * judge the trie is empty.
+     *
+     * @return status
+     */
+    public boolean isEmpty() {
+        return pluginSelectors.isEmpty();
+    }
+
+    /**
+     * match the path, and return the candidate selectors in sort order.
+     * null is returned when the plugin is unknown to the trie, or the path may be matched differently by the uri judges,
+     * such as the path with a trailing or duplicated separator, then all the selectors should be judged.
+     *
+     * @param pluginName plugin name
+     * @param path the request path
+     * @return the candidates, or null
+     */
+    public List<Candidate> match(final String pluginName, final String path) {
+        PluginSelectors selectors = pluginSelectors.get(pluginName);
+        if (Objects.isNull(selectors) || !isTriePath(path)) {
+            return null;
+        }
+        Snapshot snapshot = selectors.snapshot;
+        List<Candidate> candidates = new ArrayList<>(snapshot.residual.length + 4);
+        Collections.addAll(candidates, snapshot.residual);
+        collect(snapshot.root, path, 1, candidates);
+        if (candidates.size() > 1) {
+            candidates.sort(PRIORITY);
+            // the same node may be reached more than once through the ** nodes
+            int size = 1;
+            for (int i = 1; i < candidates.size(); i++) {
+                if (candidates.get(i) != candidates.get(size - 1)) {
+                    candidates.set(size++, candidates.get(i));
+                }
+            }
+            return size == candidates.size() ? candidates : candidates.subList(0, size);
+        }
+        return candidates;
+    }
+
+    /**
+     * collect the candidates of the node which has matched the segments before the position.
+     */
+    private static void collect(final Node node, final String path, final int position, final List<Candidate> candidates) {
+        Collections.addAll(candidates, node.prefix);
+        final int length = path.length();
+        if (position >= length) {
+            Collections.addAll(candidates, node.exact);
+        }
+        if (Objects.nonNull(node.matchAll)) {
+            // ** matches zero or more segments
+            int next = position;
+            while (true) {
+                collect(node.matchAll, path, next, candidates);
+                if (next >= length) {
+                    break;
+                }
+                next = nextSegment(path, next);
+            }
+        }
+        if (position >= length) {
+            return;
+        }
+        int end = segmentEnd(path, position);
+        Node child = node.child(path, position, end);
+        int next = Math.min(end + 1, length);
+        if (Objects.nonNull(child)) {
+            collect(child, path, next, candidates);
+        }
+        if (Objects.nonNull(node.wildcard)) {
+            collect(node.wildcard, path, next, candidates);
+        }
+    }
+
+    /**
+     * the path without a trailing, duplicated separator, encoded char and path parameter, which are judged differently by
+     * the ant path matcher and the path pattern.
+     */
+    private static boolean isTriePath(final String path) {
+        return Objects.nonNull(path) && path.length() > 1 && path.charAt(0) == '/' && path.charAt(path.length() - 1) != '/'
+                && !path.contains("//") && path.indexOf('%') < 0 && path.indexOf(';') < 0;
+    }
+
+    private static int segmentEnd(final String path, final int position) {
+        int end = path.indexOf('/', position);
+        return end < 0 ? path.length() : end;
+    }
+
+    private static int nextSegment(final String path, final int position) {
+        return Math.min(segmentEnd(path, position) + 1, path.length());
+    }
+
+    private static boolean isUriCondition(final ConditionData condition) {
+        return Objects.nonNull(condition) && ParamTypeEnum.URI.getName().equals(condition.getParamType())
+                && Objects.nonNull(condition.getParamValue());
+    }
+
+    /**
+     * the segments of the uri which can be matched by the trie exactly, or null.
+     */
+    private static String[] exactSegments(final ConditionData condition) {
+        String operator = condition.getOperator();
+        String value = condition.getParamValue().trim();
+        if (value.length() < 2 || !value.startsWith(PATH_SEPARATOR) || value.endsWith(PATH_SEPARATOR) || value.contains("//")) {
+            return null;
+        }
+        boolean equals = OperatorEnum.EQ.getAlias().equals(operator) || EQUALS_OPERATOR.equals(operator);
+        boolean match = OperatorEnum.MATCH.getAlias().equals(operator);
+        boolean pathPattern = OperatorEnum.PATH_PATTERN.getAlias().equals(operator);
+        if (!equals && !match && !pathPattern) {
+            return null;
+        }
+        String[] segments = StringUtils.split(value, PATH_SEPARATOR);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (isLiteral(segment)) {
+                continue;
+            }
+            if (equals) {
+                return null;
+            }
+            boolean variable = WILDCARD.equals(segment) || PATH_VARIABLE.matcher(segment).matches();
+            // the path pattern only supports ** at the end
+            boolean matchAll = MATCH_ALL.equals(segment) && (match || i == segments.length - 1);
+            if (!variable && !matchAll) {
+                return null;
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * the complete literal segments before the first wildcard of the uri, the path matched by the condition must start with them.
+     */
+    private static String[] prefixSegments(final ConditionData condition) {
+        String operator = condition.getOperator();
+        String value = condition.getParamValue().trim();
+        String literal;
+        if (OperatorEnum.MATCH.getAlias().equals(operator) || OperatorEnum.PATH_PATTERN.getAlias().equals(operator)) {
+            int end = StringUtils.indexOfAny(value, '*', '?', '{', '[');
+            literal = end < 0 ? value : value.substring(0, end);
+        } else if (OperatorEnum.STARTS_WITH.getAlias().equals(operator) || OperatorEnum.EQ.getAlias().equals(operator)
+                || EQUALS_OPERATOR.equals(operator)) {
+            literal = value;
+        } else {
+            return null;
+        }
+        if (!literal.startsWith(PATH_SEPARATOR)) {
+            return null;
+        }
+        // the last segment may be partial
+        return StringUtils.split(literal.substring(0, literal.lastIndexOf('/') + 1), PATH_SEPARATOR);
+    }
+
+    private static boolean isLiteral(final String segment) {
+        return StringUtils.containsNone(segment, '*', '?', '{', '}', '[');
+    }
+
+    /**
+     * The candidate selector, with the conditions to judge.
+     */
+    public static final class Candidate {
+
+        private final SelectorData selector;
+
+        private final List<ConditionData> conditions;
+
+        private final String[] segments;
+
+        private final boolean exact;
+
+        private final int sort;
+
+        private final long order;
+
+        private Candidate(final SelectorData selector, final List<ConditionData> conditions, final String[] segments,
+                          final boolean exact, final long order) {
+            this.selector = selector;
+            this.conditions = conditions;
+            this.segments = segments;
+            this.exact = exact;
+            // the selector without sort is the last, as the plugin judges it
+            this.sort = Objects.isNull(selector.getSort()) ? Integer.MAX_VALUE : selector.getSort();
+            this.order = order;
+        }
+
+        private static Candidate build(final SelectorData selector, final long order) {
+            List<ConditionData> conditionList = selector.getConditionList();
+            if (!Objects.equals(selector.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                    || !MatchModeEnum.match(selector.getMatchMode(), MatchModeEnum.AND)
+                    || CollectionUtils.isEmpty(conditionList)) {
+                return new Candidate(selector, conditionList, null, false, order);
+            }
+            List<ConditionData> uriConditions = conditionList.stream().filter(ShenyuSelectorTrie::isUriCondition).collect(Collectors.toList());
+            if (uriConditions.size() == 1) {
+                String[] segments = exactSegments(uriConditions.get(0));
+                if (Objects.nonNull(segments)) {
+                    List<ConditionData> otherConditions = conditionList.stream()
+                            .filter(condition -> condition != uriConditions.get(0)).collect(Collectors.toList());
+                    ConditionMatcherCache.getInstance().cacheConditionMatchers(otherConditions);
+                    return new Candidate(selector, otherConditions, segments, true, order);
+                }
+            }
+            String[] longest = null;
+            for (ConditionData condition : uriConditions) {
+                String[] segments = prefixSegments(condition);
+                if (Objects.nonNull(segments) && (Objects.isNull(longest) || segments.length > longest.length)) {
+                    longest = segments;
+                }
+            }
+            return new Candidate(selector, conditionList, longest, false, order);
+        }
+
+        /**
+         * get the selector.
+         *
+         * @return the selector
+         */
+        public SelectorData getSelector() {
+            return selector;
+        }
+
+        /**
+         * get the conditions to judge, the uri condition matched by the trie exactly is excluded.
+         *
+         * @return the conditions
+         */
+        public List<ConditionData> getConditions() {
+            return conditions;
+        }
+    }
+
+    private static final class PluginSelectors {
+
+        /**
+         * selector id -> candidate, only accessed by the writer.
+         */
+        private final Map<String, Candidate> candidates = new HashMap<>();
+
+        private volatile Snapshot snapshot = new Snapshot(Node.EMPTY, new Candidate[0]);
+    }
+
+    private static final class Snapshot {
+
+        private final Node root;
+
+        private final Candidate[] residual;
+
+        private Snapshot(final Node root, final Candidate[] residual) {
+            this.root = root;
+            this.residual = residual;
+        }
+
+        private Snapshot with(final Candidate candidate) {
+            if (Objects.isNull(candidate.segments)) {
+                Candidate[] newResidual = Arrays.copyOf(residual, residual.length + 1);
+                newResidual[residual.length] = candidate;
+                return new Snapshot(root, newResidual);
+            }
+            return new Snapshot(root.put(candidate, 0), residual);
+        }
+
+        private Snapshot without(final Candidate candidate) {
+            if (Objects.isNull(candidate.segments)) {
+                return new Snapshot(root, Arrays.stream(residual).filter(each -> each != candidate).toArray(Candidate[]::new));
+            }
+            return new Snapshot(root.remove(candidate, 0), residual);
+        }
+    }
+
+    private static final class Node {
+
+        private static final Node EMPTY = new Node(new String[0], new Node[0], null, null, new Candidate[0], new Candidate[0]);
+
+        private final String[] keys;
+
+        private final Node[] children;
+
+        /**
+         * the child of * and {name}, which match one segment.
+         */
+        private final Node wildcard;
+
+        /**
+         * the child of **, which matches zero or more segments.
+         */
+        private final Node matchAll;
+
+        private final Candidate[] exact;
+
+        private final Candidate[] prefix;
+
+        private Node(final String[] keys, final Node[] children, final Node wildcard, final Node matchAll,
+                     final Candidate[] exact, final Candidate[] prefix) {
+            this.keys = keys;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.matchAll = matchAll;
+            this.exact = exact;
+            this.prefix = prefix;
+        }
+
+        private Node child(final String path, final int start, final int end) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareSegment(keys[mid], path, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private Node put(final Candidate candidate, final int index) {
+            if (index == candidate.segments.length) {
+                return candidate.exact ? new Node(keys, children, wildcard, matchAll, append(exact, candidate), prefix)
+                        : new Node(keys, children, wildcard, matchAll, exact, append(prefix, candidate));
+            }
+            Node child = childOf(candidate, index);
+            return withChild(candidate, index, (Objects.isNull(child) ? EMPTY : child).put(candidate, index + 1));
+        }
+
+        private Node remove(final Candidate candidate, final int index) {
+            if (index == candidate.segments.length) {
+                return candidate.exact ? new Node(keys, children, wildcard, matchAll, removed(exact, candidate), prefix)
+                        : new Node(keys, children, wildcard, matchAll, exact, removed(prefix, candidate));
+            }
+            Node child = childOf(candidate, index);
+            if (Objects.isNull(child)) {
+                return this;
+            }
+            Node newChild = child.remove(candidate, index + 1);
+            return withChild(candidate, index, newChild.isEmpty() ? null : newChild);
+        }
+
+        private Node childOf(final Candidate candidate, final int index) {
+            String segment = candidate.segments[index];
+            if (candidate.exact && MATCH_ALL.equals(segment)) {
+                return matchAll;
+            }
+            if (candidate.exact && !isLiteral(segment)) {
+                return wildcard;
+            }
+            int position = Arrays.binarySearch(keys, segment);
+            return position >= 0 ? children[position] : null;
+        }
+
+        private Node withChild(final Candidate candidate, final int index, final Node child) {
+            String segment = candidate.segments[index];
+            if (candidate.exact && MATCH_ALL.equals(segment)) {
+                return new Node(keys, children, wildcard, child, exact, prefix);
+            }
+            if (candidate.exact && !isLiteral(segment)) {
+                return new Node(keys, children, child, matchAll, exact, prefix);
+            }
+            int position = Arrays.binarySearch(keys, segment);
+            if (position >= 0 && Objects.nonNull(child)) {
+                Node[] newChildren = children.clone();
+                newChildren[position] = child;
+                return new Node(keys, newChildren, wildcard, matchAll, exact, prefix);
+            }
+            List<String> newKeys = new ArrayList<>(Arrays.asList(keys));
+            List<Node> newChildren = new ArrayList<>(Arrays.asList(children));
+            if (position >= 0) {
+                newKeys.remove(position);
+                newChildren.remove(position);
+            } else if (Objects.nonNull(child)) {
+                newKeys.add(-position - 1, segment);
+                newChildren.add(-position - 1, child);
+            } else {
+                return this;
+            }
+            return new Node(newKeys.toArray(new String[0]), newChildren.toArray(new Node[0]), wildcard, matchAll, exact, prefix);
+        }
+
+        private boolean isEmpty() {
+            return keys.length == 0 && Objects.isNull(wildcard) && Objects.isNull(matchAll) && exact.length == 0 && prefix.length == 0;
+        }
+
+        private static Candidate[] append(final Candidate[] candidates, final Candidate candidate) {
+            Candidate[] result = Arrays.copyOf(candidates, candidates.length + 1);
+            result[candidates.length] = candidate;
+            return result;
+        }
+
+        private static Candidate[] removed(final Candidate[] candidates, final Candidate candidate) {
+            return Arrays.stream(candidates).filter(each -> each != candidate).toArray(Candidate[]::new);
+        }
+
+        /**
+         * compare the key with the path segment [start, end) as {@link String#compareTo} does.
+         */
+        private static int compareSegment(final String key, final String path, final int start, final int end) {
+            final int segmentLength = end - start;
+            final int min = Math.min(key.length(), segmentLength);
+            for (int i = 0; i < min; i++) {
+                int diff = key.charAt(i) - path.charAt(start + i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return key.length() - segmentLength;
+        }
+    }
+}
@@ -246,7 +246,19 @@ public class ShenyuTrie {
         }
         return null;
     }
-    
+
+    /**
+     * match trie, and return the rules of the selector on the matched node.
+     *
+     * @param uriPath uri path
+     * @param selectorId selectorId
+     * @return the sorted rules, or null if the path is not matched
+     */
+    public List<RuleData> matchRules(final String uriPath, final String selectorId) {
+        ShenyuTrieNode shenyuTrieNode = match(uriPath, selectorId);
+        return Objects.isNull(shenyuTrieNode) ? null : getVal(shenyuTrieNode.getPathRuleCache(), selectorId);
+    }
+
     /**
      * match node.
      * <p> priority: path > * > ** > pathVariableNode </p>
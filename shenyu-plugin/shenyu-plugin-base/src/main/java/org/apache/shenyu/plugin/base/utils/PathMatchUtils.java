@@ -63,7 +63,17 @@ public class PathMatchUtils {
      * @return the boolean
      */
     public static boolean pathPattern(final String pathPattern, final String realPath) {
-        PathPattern pattern = PathPatternParser.defaultInstance.parse(pathPattern);
+        PathPattern pattern = parsePathPattern(pathPattern);
         return pattern.matches(PathContainer.parsePath(realPath));
     }
+    
+    /**
+     * Parse path pattern, the result is immutable and can be reused.
+     *
+     * @param pathPattern the path pattern
+     * @return the parsed path pattern
+     */
+    public static PathPattern parsePathPattern(final String pathPattern) {
+        return PathPatternParser.defaultInstance.parse(pathPattern);
+    }
 }
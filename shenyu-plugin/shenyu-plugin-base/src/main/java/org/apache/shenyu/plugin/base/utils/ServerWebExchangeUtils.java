@@ -17,24 +17,25 @@
 
 package org.apache.shenyu.plugin.base.utils;
 
-import org.apache.shenyu.plugin.base.support.BodyInserterContext;
-import org.apache.shenyu.plugin.base.support.CachedBodyOutputMessage;
-import org.apache.shenyu.plugin.base.support.RequestDecorator;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.plugin.base.support.CachedRequestBody;
 import org.apache.shenyu.plugin.base.support.ResponseDecorator;
-import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.DecoderHttpMessageReader;
 import org.springframework.http.codec.HttpMessageReader;
-import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
 
 public class ServerWebExchangeUtils {
 
+    private static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
     /**
      * Rewrites Request Body.
      *
@@ -46,21 +47,59 @@ public class ServerWebExchangeUtils {
     public static Mono<ServerWebExchange> rewriteRequestBody(final ServerWebExchange exchange,
                                                              final List<HttpMessageReader<?>> readers,
                                                              final Function<String, Mono<String>> convert) {
+        return cacheRequestBody(exchange, maxInMemorySize(readers))
+                .flatMap(cached -> {
+                    CachedRequestBody body = getCachedRequestBody(cached);
+                    return convert.apply(body.getString()).map(newBody -> {
+                        body.setString(newBody);
+                        return cached;
+                    });
+                }).onErrorResume(throwable -> release(exchange, throwable));
+    }
 
-        ServerRequest serverRequest = ServerRequest.create(exchange, readers);
-        CachedBodyOutputMessage outputMessage = ResponseUtils.newCachedBodyOutputMessage(exchange);
-
-        return serverRequest.bodyToMono(String.class)
-                .switchIfEmpty(Mono.defer(() -> Mono.just("")))
-                .flatMap(convert)
-                .flatMap(body -> {
-                    BodyInserter<String, ReactiveHttpOutputMessage> bodyInserter = BodyInserters.fromValue(body);
-                    return bodyInserter.insert(outputMessage, new BodyInserterContext());
-                }).then(Mono.defer(() -> {
-                    ServerHttpRequestDecorator decorator = new RequestDecorator(exchange, outputMessage);
-                    return Mono.just(exchange.mutate().request(decorator).build());
-                })).onErrorResume(throwable -> ResponseUtils.release(outputMessage, throwable));
+    /**
+     * Joins the request body once for the exchange, the plugins after it share it by {@link #getCachedRequestBody(ServerWebExchange)}.
+     * the cached body keeps the strictest limit it is requested with, and a later call with a stricter limit fails when the body exceeds it.
+     * the body is joined again when the request is replaced after it is cached, as the new request may emit another body.
+     *
+     * @param exchange serverWebExchange
+     * @param maxInMemorySize the max bytes of the body, -1 means unlimited
+     * @return the exchange whose request emits the cached body.
+     */
+    public static Mono<ServerWebExchange> cacheRequestBody(final ServerWebExchange exchange, final int maxInMemorySize) {
+        CachedRequestBody cached = getCachedRequestBody(exchange);
+        if (Objects.nonNull(cached) && cached.isEmittedBy(exchange.getRequest())) {
+            if (!cached.limit(maxInMemorySize)) {
+                return Mono.error(new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxInMemorySize));
+            }
+            return Mono.just(exchange);
+        }
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxInMemorySize)
+                .map(dataBuffer -> {
+                    try {
+                        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        return bytes;
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
+                    }
+                })
+                .defaultIfEmpty(new byte[0])
+                .map(bytes -> {
+                    CachedRequestBody body = new CachedRequestBody(bytes, exchange.getRequest().getHeaders().getContentType(), maxInMemorySize);
+                    exchange.getAttributes().put(Constants.CACHED_REQUEST_BODY, body);
+                    return exchange.mutate().request(body.decorate(exchange)).build();
+                });
+    }
 
+    /**
+     * Gets the request body cached by {@link #cacheRequestBody(ServerWebExchange, int)}.
+     *
+     * @param exchange serverWebExchange
+     * @return the cached body, or null when the body is not cached.
+     */
+    public static CachedRequestBody getCachedRequestBody(final ServerWebExchange exchange) {
+        return exchange.getAttribute(Constants.CACHED_REQUEST_BODY);
     }
 
     /**
@@ -75,4 +114,22 @@ public class ServerWebExchangeUtils {
         return exchange.mutate()
                 .response(new ResponseDecorator(exchange, convert)).build();
     }
+
+    /**
+     * drop the cached body when the rewrite fails, so the bytes are not kept until the exchange ends.
+     */
+    private static <T> Mono<T> release(final ServerWebExchange exchange, final Throwable throwable) {
+        exchange.getAttributes().remove(Constants.CACHED_REQUEST_BODY);
+        return Mono.error(throwable);
+    }
+
+    private static int maxInMemorySize(final List<HttpMessageReader<?>> readers) {
+        return readers.stream()
+                .filter(DecoderHttpMessageReader.class::isInstance)
+                .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+                .filter(StringDecoder.class::isInstance)
+                .map(decoder -> ((StringDecoder) decoder).getMaxInMemorySize())
+                .findFirst()
+                .orElse(DEFAULT_MAX_IN_MEMORY_SIZE);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.base;
 
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -27,7 +28,9 @@ import org.apache.shenyu.common.enums.TrieMatchModeEvent;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -37,6 +40,7 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -162,6 +166,25 @@ public final class AbstractShenyuPluginTest {
         verify(testShenyuPlugin).doExecute(exchange, shenyuPluginChain, selectorData, ruleData);
     }
 
+    /**
+     * The matched selector and rule are recorded in the exchange test.
+     */
+    @Test
+    public void executeRecordsMatchedSelectorAndRuleTest() {
+        List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
+        this.ruleData.setConditionDataList(conditionDataList);
+        this.ruleData.setMatchMode(0);
+        this.selectorData.setMatchMode(0);
+        this.selectorData.setLogged(false);
+        this.selectorData.setConditionList(conditionDataList);
+        BaseDataCache.getInstance().cachePluginData(pluginData);
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
+        StepVerifier.create(testShenyuPlugin.execute(exchange, shenyuPluginChain)).expectSubscription().verifyComplete();
+        Assertions.assertEquals(selectorData.getId(), exchange.getAttribute(Constants.MATCHED_SELECTOR_ID));
+        Assertions.assertEquals(ruleData.getId(), exchange.getAttribute(Constants.MATCHED_RULE_ID));
+    }
+
     @Test
     public void executeSelectorManyMatch() {
         List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
@@ -186,6 +209,57 @@ public final class AbstractShenyuPluginTest {
         verify(testShenyuPlugin).doExecute(exchange, shenyuPluginChain, selectorData, ruleData);
     }
 
+    @Test
+    public void executeSelectorManyMatchWithoutSort() {
+        List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
+        this.ruleData.setConditionDataList(conditionDataList);
+        this.ruleData.setMatchMode(0);
+        this.selectorData.setSort(1);
+        this.selectorData.setMatchMode(0);
+        this.selectorData.setLogged(true);
+        this.selectorData.setConditionList(conditionDataList);
+        BaseDataCache.getInstance().cachePluginData(pluginData);
+        BaseDataCache.getInstance().cacheSelectData(SelectorData.builder()
+                .id("2").pluginName("SHENYU")
+                .enabled(true)
+                .matchMode(0)
+                .conditionList(conditionDataList)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).build());
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
+        StepVerifier.create(testShenyuPlugin.execute(exchange, shenyuPluginChain)).expectSubscription().verifyComplete();
+        verify(testShenyuPlugin).doExecute(exchange, shenyuPluginChain, selectorData, ruleData);
+    }
+
+    @Test
+    public void executeSelectorManyMatchWithMoreConditions() {
+        ConditionData methodConditionData = new ConditionData();
+        methodConditionData.setOperator("=");
+        methodConditionData.setParamType("req_method");
+        methodConditionData.setParamValue("GET");
+        List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
+        this.ruleData.setSelectorId("2");
+        this.ruleData.setConditionDataList(conditionDataList);
+        this.ruleData.setMatchMode(0);
+        this.selectorData.setSort(1);
+        this.selectorData.setMatchMode(0);
+        this.selectorData.setConditionList(conditionDataList);
+        SelectorData moreConditionSelectorData = SelectorData.builder()
+                .id("2").pluginName("SHENYU")
+                .enabled(true)
+                .matchMode(0)
+                .logged(true)
+                .sort(2)
+                .conditionList(Arrays.asList(conditionData, methodConditionData))
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).build();
+        BaseDataCache.getInstance().cachePluginData(pluginData);
+        BaseDataCache.getInstance().cacheSelectData(selectorData);
+        BaseDataCache.getInstance().cacheSelectData(moreConditionSelectorData);
+        BaseDataCache.getInstance().cacheRuleData(ruleData);
+        StepVerifier.create(testShenyuPlugin.execute(exchange, shenyuPluginChain)).expectSubscription().verifyComplete();
+        verify(testShenyuPlugin).doExecute(exchange, shenyuPluginChain, moreConditionSelectorData, ruleData);
+    }
+
     @Test
     public void executeRuleManyMatch() {
         List<ConditionData> conditionDataList = Collections.singletonList(conditionData);
@@ -248,6 +322,7 @@ public final class AbstractShenyuPluginTest {
         ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
         when(context.getBean(ShenyuConfig.class)).thenReturn(new ShenyuConfig());
         when(context.getBean(ShenyuTrie.class)).thenReturn(new ShenyuTrie(100L, 100L, 100L, TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode()));
+        when(context.getBean(ShenyuSelectorTrie.class)).thenReturn(new ShenyuSelectorTrie());
         SpringBeanUtils.getInstance().setApplicationContext(context);
     }
 
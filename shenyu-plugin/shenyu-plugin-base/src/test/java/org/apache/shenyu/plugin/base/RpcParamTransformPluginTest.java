@@ -35,6 +35,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -81,12 +83,13 @@ public final class RpcParamTransformPluginTest {
     public void testJsonBody() {
         ServerWebExchange exchange = MockServerWebExchange.from(
                 MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_JSON).body("{}"));
-        Mockito.when(chain.execute(exchange)).thenReturn(Mono.empty());
+        Mockito.when(chain.execute(any())).thenReturn(Mono.empty());
         ShenyuContext context = new ShenyuContext();
         context.setRpcType(RpcTypeEnum.DUBBO.getName());
         exchange.getAttributes().put(Constants.CONTEXT, context);
         Mono<Void> result = rpcParamTransformPlugin.execute(exchange, chain);
         StepVerifier.create(result).expectSubscription().verifyComplete();
+        assertEquals("{}", exchange.getAttribute(Constants.PARAM_TRANSFORM));
     }
     
     /**
@@ -96,12 +99,13 @@ public final class RpcParamTransformPluginTest {
     public void testFormatBody() {
         final ServerWebExchange exchange = MockServerWebExchange.from(
                 MockServerHttpRequest.post("localhost").contentType(MediaType.APPLICATION_FORM_URLENCODED).body("test=test"));
-        Mockito.when(chain.execute(exchange)).thenReturn(Mono.empty());
+        Mockito.when(chain.execute(any())).thenReturn(Mono.empty());
         ShenyuContext context = new ShenyuContext();
         context.setRpcType(RpcTypeEnum.DUBBO.getName());
         exchange.getAttributes().put(Constants.CONTEXT, context);
         Mono<Void> result = rpcParamTransformPlugin.execute(exchange, chain);
         StepVerifier.create(result).expectSubscription().verifyComplete();
+        assertNotNull(exchange.getAttribute(Constants.PARAM_TRANSFORM));
     }
     
     /**
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Lists;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.plugin.base.condition.matcher.ConditionMatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class ConditionMatcherCacheTest {
+
+    @AfterEach
+    public void tearDown() {
+        ConditionMatcherCache.getInstance().cleanConditionMatchers();
+    }
+
+    @Test
+    public void testCacheConditionMatchers() {
+        List<ConditionData> conditionDataList = Lists.newArrayList(buildConditionData("regex", "/http/.*"), buildConditionData("pathPattern", "/http/{id}"));
+        ConditionMatcherCache.getInstance().cacheConditionMatchers(conditionDataList);
+        List<ConditionMatcher> matchers = ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList);
+        assertEquals(2, matchers.size());
+        assertSame(matchers, ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList));
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/test").build());
+        assertTrue(matchers.stream().allMatch(matcher -> matcher.match(exchange)));
+        ServerWebExchange notMatchExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/https/test").build());
+        assertFalse(matchers.stream().anyMatch(matcher -> matcher.match(notMatchExchange)));
+    }
+
+    @Test
+    public void testObtainConditionMatchersIfAbsent() {
+        List<ConditionData> conditionDataList = Lists.newArrayList(buildConditionData("=", "/http/test"));
+        List<ConditionMatcher> matchers = ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList);
+        assertEquals(1, matchers.size());
+        assertTrue(matchers.get(0).test("/http/test"));
+        conditionDataList.add(buildConditionData("startsWith", "/http"));
+        assertEquals(2, ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList).size());
+        assertTrue(ConditionMatcherCache.getInstance().obtainConditionMatchers(null).isEmpty());
+    }
+
+    @Test
+    public void testInvalidRegexFallback() {
+        List<ConditionData> conditionDataList = Lists.newArrayList(buildConditionData("regex", "["));
+        ConditionMatcherCache.getInstance().cacheConditionMatchers(conditionDataList);
+        assertEquals(1, ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList).size());
+    }
+
+    @Test
+    public void testUnknownOperatorNeverMatches() {
+        List<ConditionData> conditionDataList = Lists.newArrayList(buildConditionData("unknown", "/http/test"), buildConditionData(null, "/http/test"));
+        ConditionMatcherCache.getInstance().cacheConditionMatchers(conditionDataList);
+        List<ConditionMatcher> matchers = ConditionMatcherCache.getInstance().obtainConditionMatchers(conditionDataList);
+        assertEquals(2, matchers.size());
+        assertFalse(matchers.stream().anyMatch(matcher -> matcher.test("/http/test")));
+    }
+
+    private ConditionData buildConditionData(final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType("uri");
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class CompactShenyuTrieTest {
+
+    private CompactShenyuTrie compactTrie;
+
+    private ShenyuTrie shenyuTrie;
+
+    @BeforeEach
+    public void setUp() {
+        compactTrie = new CompactShenyuTrie(TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+        shenyuTrie = new ShenyuTrie(100L, 100L, 100L, TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+    }
+
+    @AfterEach
+    public void clear() {
+        compactTrie.clear();
+        Assertions.assertTrue(compactTrie.isEmpty());
+    }
+
+    @Test
+    public void matchSameAsShenyuTrie() {
+        List<String> patterns = Arrays.asList("/a/b/c/**", "/a/*/c/**", "/a/*/*/{d}", "/a/*/{c}/{d}",
+                "/path1/{name}/{age}", "path1/name/age", "/http/order/findById", "/http/**", "/b/*");
+        for (int i = 0; i < patterns.size(); i++) {
+            RuleData ruleData = buildRuleData(String.valueOf(i), String.valueOf(i % 2), i);
+            compactTrie.putNode(patterns.get(i), ruleData, ruleData.getId());
+            shenyuTrie.putNode(patterns.get(i), ruleData, ruleData.getId());
+        }
+        List<String> paths = Arrays.asList("/a/b/c/d/e", "/a/m/c/d", "/a/m/n/d", "/a/m/n/o/p", "/path1/111/222",
+                "/path1/111/222/333", "path1/name/age", "//http//order/findById/", "/http/order/findAll", "/b/c", "/b/c/d", "/", "");
+        for (String path : paths) {
+            for (String selectorId : Arrays.asList("0", "1")) {
+                ShenyuTrieNode expected = shenyuTrie.match(path, selectorId);
+                ShenyuTrieNode actual = compactTrie.match(path, selectorId);
+                Assertions.assertEquals(expected == null, actual == null, path);
+                if (expected != null) {
+                    Assertions.assertEquals(expected.getFullPath(), actual.getFullPath(), path);
+                    Assertions.assertEquals(shenyuTrie.matchRules(path, selectorId), compactTrie.matchRules(path, selectorId), path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void putAndRemove() {
+        RuleData ruleData = buildRuleData("1", "1", 2);
+        RuleData ruleData2 = buildRuleData("2", "1", 1);
+        compactTrie.putNode("/a/b/{id}", ruleData, ruleData.getId());
+        final List<RuleData> before = compactTrie.matchRules("/a/b/1", "1");
+        compactTrie.putNode("/a/b/{name}", ruleData2, ruleData2.getId());
+        Assertions.assertEquals(Arrays.asList(ruleData2, ruleData), compactTrie.matchRules("/a/b/1", "1"));
+        // the published rules are never changed in place
+        Assertions.assertEquals(Arrays.asList(ruleData), before);
+        Assertions.assertNotNull(compactTrie.getNode("/a/b/{id}"));
+        Assertions.assertEquals("2", compactTrie.getNode("/a/b/{id}").getBizInfo());
+
+        // put the same rule again replaces it
+        compactTrie.putNode("/a/b/{id}", ruleData, ruleData.getId());
+        Assertions.assertEquals(2, compactTrie.matchRules("/a/b/1", "1").size());
+
+        compactTrie.remove("/a/b/{id}", ruleData);
+        Assertions.assertEquals(Arrays.asList(ruleData2), compactTrie.matchRules("/a/b/1", "1"));
+        compactTrie.remove("/a/b/{id}", ruleData2);
+        Assertions.assertNull(compactTrie.matchRules("/a/b/1", "1"));
+        Assertions.assertNull(compactTrie.getNode("/a"));
+        Assertions.assertTrue(compactTrie.isEmpty());
+    }
+
+    @Test
+    public void putRuleWithoutSort() {
+        RuleData ruleData = buildRuleData("1", "1", 1);
+        RuleData unsorted = RuleData.builder().id("2").pluginName("test").selectorId("1").name("test-plugin-rule").enabled(true).build();
+        compactTrie.putNode("/a/b", unsorted, unsorted.getId());
+        compactTrie.putNode("/a/b", ruleData, ruleData.getId());
+        Assertions.assertEquals(Arrays.asList(ruleData, unsorted), compactTrie.matchRules("/a/b", "1"));
+    }
+
+    private static RuleData buildRuleData(final String id, final String selectorId, final int sort) {
+        return RuleData.builder()
+                .id(id)
+                .pluginName("test")
+                .selectorId(selectorId)
+                .name("test-plugin-rule")
+                .enabled(true)
+                .sort(sort)
+                .build();
+    }
+}
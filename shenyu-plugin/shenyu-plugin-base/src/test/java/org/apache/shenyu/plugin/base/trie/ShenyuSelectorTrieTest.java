@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ShenyuSelectorTrieTest {
+
+    private static final String PLUGIN_NAME = "divide";
+
+    private ShenyuSelectorTrie selectorTrie;
+
+    @BeforeEach
+    public void setUp() {
+        selectorTrie = new ShenyuSelectorTrie();
+    }
+
+    @Test
+    public void matchExact() {
+        selectorTrie.putSelector(buildSelectorData("1", 1, uriCondition(OperatorEnum.EQ.getAlias(), "/http/order/findById")));
+        selectorTrie.putSelector(buildSelectorData("2", 2, uriCondition(OperatorEnum.MATCH.getAlias(), "/http/*/save")));
+        selectorTrie.putSelector(buildSelectorData("3", 3, uriCondition(OperatorEnum.PATH_PATTERN.getAlias(), "/http/{name}/**")));
+        selectorTrie.putSelector(buildSelectorData("4", 4, uriCondition(OperatorEnum.MATCH.getAlias(), "/order/**/detail")));
+        Assertions.assertEquals(Arrays.asList("1", "3"), match("/http/order/findById"));
+        Assertions.assertEquals(Arrays.asList("2", "3"), match("/http/user/save"));
+        Assertions.assertEquals(Collections.singletonList("3"), match("/http/user"));
+        Assertions.assertEquals(Collections.singletonList("4"), match("/order/detail"));
+        Assertions.assertEquals(Collections.singletonList("4"), match("/order/1/2/detail"));
+        Assertions.assertEquals(Collections.emptyList(), match("/order/1/2"));
+        // the exact uri condition is not judged again
+        Assertions.assertTrue(selectorTrie.match(PLUGIN_NAME, "/http/order/findById").get(0).getConditions().isEmpty());
+    }
+
+    @Test
+    public void matchPrefixAndResidual() {
+        SelectorData startsWith = buildSelectorData("1", 1, uriCondition(OperatorEnum.STARTS_WITH.getAlias(), "/http/ord"));
+        SelectorData regex = buildSelectorData("2", 2, uriCondition(OperatorEnum.REGEX.getAlias(), "/http/.*"));
+        SelectorData fullFlow = buildSelectorData("3", 0, uriCondition(OperatorEnum.MATCH.getAlias(), "/**"));
+        fullFlow.setType(SelectorTypeEnum.FULL_FLOW.getCode());
+        selectorTrie.putSelector(startsWith);
+        selectorTrie.putSelector(regex);
+        selectorTrie.putSelector(fullFlow);
+        Assertions.assertEquals(Arrays.asList("3", "1", "2"), match("/http/order/findById"));
+        Assertions.assertEquals(Arrays.asList("3", "2"), match("/order/findById"));
+        // the other candidates are judged with all their conditions
+        ShenyuSelectorTrie.Candidate candidate = selectorTrie.match(PLUGIN_NAME, "/http/order").get(1);
+        Assertions.assertSame(startsWith.getConditionList(), candidate.getConditions());
+    }
+
+    @Test
+    public void putAndRemove() {
+        SelectorData selectorData = buildSelectorData("1", 1, uriCondition(OperatorEnum.MATCH.getAlias(), "/http/**"));
+        selectorTrie.putSelector(selectorData);
+        Assertions.assertEquals(Collections.singletonList("1"), match("/http/order"));
+        selectorTrie.putSelector(buildSelectorData("1", 1, uriCondition(OperatorEnum.MATCH.getAlias(), "/order/**")));
+        Assertions.assertEquals(Collections.emptyList(), match("/http/order"));
+        Assertions.assertEquals(Collections.singletonList("1"), match("/order/1"));
+        selectorTrie.removeSelector(selectorData);
+        Assertions.assertEquals(Collections.emptyList(), match("/order/1"));
+        selectorTrie.removePlugin(PLUGIN_NAME);
+        Assertions.assertTrue(selectorTrie.isEmpty());
+        Assertions.assertNull(selectorTrie.match(PLUGIN_NAME, "/order/1"));
+    }
+
+    @Test
+    public void fallback() {
+        selectorTrie.putSelector(buildSelectorData("1", 1, uriCondition(OperatorEnum.MATCH.getAlias(), "/http/**")));
+        Assertions.assertNull(selectorTrie.match("unknown", "/http/order"));
+        Assertions.assertNull(selectorTrie.match(PLUGIN_NAME, "/http/order/"));
+        Assertions.assertNull(selectorTrie.match(PLUGIN_NAME, "/http//order"));
+        Assertions.assertNull(selectorTrie.match(PLUGIN_NAME, "/http/%6Frder"));
+        Assertions.assertNull(selectorTrie.match(PLUGIN_NAME, "/"));
+    }
+
+    private List<String> match(final String path) {
+        return selectorTrie.match(PLUGIN_NAME, path).stream()
+                .map(candidate -> candidate.getSelector().getId()).collect(Collectors.toList());
+    }
+
+    private static SelectorData buildSelectorData(final String id, final int sort, final ConditionData condition) {
+        return SelectorData.builder()
+                .id(id)
+                .pluginName(PLUGIN_NAME)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode())
+                .matchMode(MatchModeEnum.AND.getCode())
+                .sort(sort)
+                .enabled(true)
+                .conditionList(Collections.singletonList(condition))
+                .build();
+    }
+
+    private static ConditionData uriCondition(final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(ParamTypeEnum.URI.getName());
+        conditionData.setOperator(operator);
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.shenyu.plugin.base.support.CachedRequestBody;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link ServerWebExchangeUtils}.
+ */
+public final class ServerWebExchangeUtilsTest {
+
+    private static final String BODY = "{\"name\":\"shenyu\"}";
+
+    @Test
+    public void testCacheRequestBody() {
+        ServerWebExchange exchange = ServerWebExchangeUtils.cacheRequestBody(jsonExchange(), -1).block();
+        CachedRequestBody body = ServerWebExchangeUtils.getCachedRequestBody(exchange);
+        assertEquals(BODY, body.getString());
+        assertFalse(body.isModified());
+        assertEquals(BODY, readBody(exchange));
+        assertEquals(BODY.length(), exchange.getRequest().getHeaders().getContentLength());
+        assertSame(exchange, ServerWebExchangeUtils.cacheRequestBody(exchange, -1).block());
+        body.setString(BODY);
+        assertFalse(body.isModified());
+        body.setString("{\"id\":1}");
+        assertTrue(body.isModified());
+        assertEquals("{\"id\":1}", readBody(exchange));
+        assertEquals(8, exchange.getRequest().getHeaders().getContentLength());
+    }
+
+    @Test
+    public void testCacheRequestBodyAfterRequestReplaced() {
+        ServerWebExchange exchange = ServerWebExchangeUtils.cacheRequestBody(jsonExchange(), -1).block();
+        byte[] replaced = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        ServerWebExchange mutated = exchange.mutate().request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.just(exchange.getResponse().bufferFactory().wrap(replaced));
+            }
+        }).build();
+        ServerWebExchange cached = ServerWebExchangeUtils.cacheRequestBody(mutated, -1).block();
+        assertNotSame(mutated, cached);
+        assertEquals("{\"id\":1}", ServerWebExchangeUtils.getCachedRequestBody(cached).getString());
+        assertEquals("{\"id\":1}", readBody(cached));
+        assertSame(cached, ServerWebExchangeUtils.cacheRequestBody(cached, -1).block());
+    }
+
+    @Test
+    public void testCacheRequestBodyStricterLimit() {
+        ServerWebExchange exchange = ServerWebExchangeUtils.cacheRequestBody(jsonExchange(), -1).block();
+        assertSame(exchange, ServerWebExchangeUtils.cacheRequestBody(exchange, BODY.length()).block());
+        StepVerifier.create(ServerWebExchangeUtils.cacheRequestBody(exchange, 4))
+            .expectError(DataBufferLimitException.class)
+            .verify();
+        // a looser limit is ignored
+        StepVerifier.create(ServerWebExchangeUtils.cacheRequestBody(exchange, -1))
+            .expectNext(exchange)
+            .verifyComplete();
+        assertFalse(ServerWebExchangeUtils.getCachedRequestBody(exchange).limit(BODY.length() - 1));
+    }
+
+    @Test
+    public void testRewriteRequestBodyError() {
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        ServerWebExchange exchange = jsonExchange();
+        StepVerifier.create(ServerWebExchangeUtils.rewriteRequestBody(exchange, configurer.getReaders(), body -> Mono.error(new IllegalStateException())))
+            .expectError(IllegalStateException.class)
+            .verify();
+        assertNull(ServerWebExchangeUtils.getCachedRequestBody(exchange));
+    }
+
+    @Test
+    public void testRewriteRequestBody() {
+        ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+        ServerWebExchange exchange = ServerWebExchangeUtils.rewriteRequestBody(jsonExchange(), configurer.getReaders(),
+            body -> Mono.just(body.toUpperCase())).block();
+        assertEquals(BODY.toUpperCase(), readBody(exchange));
+        ServerWebExchange rewritten = ServerWebExchangeUtils.rewriteRequestBody(exchange, configurer.getReaders(),
+            body -> Mono.just(body + " ")).block();
+        assertEquals(BODY.toUpperCase() + " ", readBody(rewritten));
+        configurer.defaultCodecs().maxInMemorySize(4);
+        StepVerifier.create(ServerWebExchangeUtils.rewriteRequestBody(jsonExchange(), configurer.getReaders(), Mono::just))
+            .expectError(DataBufferLimitException.class)
+            .verify();
+    }
+
+    private static ServerWebExchange jsonExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("localhost")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(BODY.length()))
+                .body(BODY));
+    }
+
+    private static String readBody(final ServerWebExchange exchange) {
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+    }
+}
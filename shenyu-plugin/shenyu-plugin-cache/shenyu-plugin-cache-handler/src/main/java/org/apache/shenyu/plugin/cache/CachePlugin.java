@@ -37,6 +37,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -51,25 +53,36 @@ public class CachePlugin extends AbstractShenyuPlugin {
     public Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                 final SelectorData selector, final RuleData rule) {
         ICache cache = CacheUtils.getCache();
-        if (Objects.nonNull(cache)) {
-            return cache.getData(CacheUtils.dataKey(exchange))
-                    .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
-                    .flatMap(data -> Mono.just(Optional.of(data)))
-                    .defaultIfEmpty(Optional.empty())
-                    .flatMap(dataFlg -> {
-                        if (dataFlg.isPresent()) {
-                            byte[] bytes = dataFlg.get().getT1();
-                            byte[] contentTypeBytes = dataFlg.get().getT2();
-                            cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
-                        }
-                        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-                        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
-                    });
-        }
         CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+        if (Objects.isNull(cache)) {
+            return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+        }
+        final String dataKey = CacheUtils.dataKey(exchange);
+        final boolean singleFlight = Boolean.TRUE.equals(cacheRuleHandle.getSingleFlight());
+        return cache.getData(dataKey)
+                .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
+                .flatMap(data -> Mono.just(Optional.of(data)))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(dataFlg -> {
+                    if (dataFlg.isPresent()) {
+                        byte[] bytes = dataFlg.get().getT1();
+                        byte[] contentTypeBytes = dataFlg.get().getT2();
+                        if (!singleFlight || staleSeconds(cacheRuleHandle) <= 0) {
+                            return writeCachedResponse(exchange, cache, bytes, contentTypeBytes);
+                        }
+                        // serve the stale data while another request is refreshing it
+                        return cache.isExist(CacheUtils.freshKey(exchange)).flatMap(fresh -> {
+                            if (Boolean.TRUE.equals(fresh) || CacheSingleFlight.isInFlight(dataKey)) {
+                                return writeCachedResponse(exchange, cache, bytes, contentTypeBytes);
+                            }
+                            return executeSingleFlight(exchange, chain, cache, cacheRuleHandle, dataKey);
+                        });
+                    }
+                    if (singleFlight) {
+                        return executeSingleFlight(exchange, chain, cache, cacheRuleHandle, dataKey);
+                    }
+                    return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+                });
     }
 
     @Override
@@ -82,6 +95,31 @@ public class CachePlugin extends AbstractShenyuPlugin {
         return PluginEnum.CACHE.getName();
     }
     
+    private Mono<Void> executeSingleFlight(final ServerWebExchange exchange, final ShenyuPluginChain chain, final ICache cache,
+                                           final CacheRuleHandle cacheRuleHandle, final String dataKey) {
+        final CacheSingleFlight.Flight flight = CacheSingleFlight.takeOff(dataKey);
+        if (Objects.nonNull(flight)) {
+            return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle, flight)).build())
+                    .doFinally(signal -> flight.abort());
+        }
+        // the flight may have landed before awaiting it, or its response is not cacheable, then go to the upstream alone
+        return CacheSingleFlight.await(dataKey)
+                .flatMap(cachedBody -> writeCachedResponse(exchange, cache, cachedBody.getBody(), cachedBody.getContentType()).thenReturn(Boolean.TRUE))
+                .switchIfEmpty(Mono.defer(() -> chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build())
+                        .thenReturn(Boolean.TRUE)))
+                .then();
+    }
+
+    private Mono<Void> writeCachedResponse(final ServerWebExchange exchange, final ICache cache, final byte[] bytes, final byte[] contentTypeBytes) {
+        cache.setContentType(exchange, contentTypeBytes);
+        return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
+                .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+    }
+
+    private static long staleSeconds(final CacheRuleHandle cacheRuleHandle) {
+        return Optional.ofNullable(cacheRuleHandle.getStaleSeconds()).orElse(0L);
+    }
+
     private CacheRuleHandle buildRuleHandle(final RuleData rule) {
         if (StringUtils.isNotEmpty(rule.getId())) {
             return CachePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
@@ -96,11 +134,20 @@ public class CachePlugin extends AbstractShenyuPlugin {
 
         private final CacheRuleHandle cacheRuleHandle;
 
+        private final CacheSingleFlight.Flight flight;
+
         CacheHttpResponse(final ServerWebExchange exchange,
                           final CacheRuleHandle cacheRuleHandle) {
+            this(exchange, cacheRuleHandle, null);
+        }
+
+        CacheHttpResponse(final ServerWebExchange exchange,
+                          final CacheRuleHandle cacheRuleHandle,
+                          final CacheSingleFlight.Flight flight) {
             super(exchange.getResponse());
             this.exchange = exchange;
             this.cacheRuleHandle = cacheRuleHandle;
+            this.flight = flight;
         }
 
         @Override
@@ -112,15 +159,88 @@ public class CachePlugin extends AbstractShenyuPlugin {
         @NonNull
         private Flux<? extends DataBuffer> cacheResponse(final Publisher<? extends DataBuffer> body) {
             final ICache cache = CacheUtils.getCache();
-            if (Objects.nonNull(cache)) {
-                final MediaType contentType = this.getHeaders().getContentType();
-                return Flux.from(body).doOnNext(buffer -> {
-                    cache.cacheData(CacheUtils.dataKey(this.exchange), buffer.asByteBuffer().array(),
-                            this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                    cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
-                });
+            final long maxCacheSize = Optional.ofNullable(this.cacheRuleHandle.getMaxCacheSize()).orElse(Long.MAX_VALUE);
+            if (Objects.isNull(cache) || this.getHeaders().getContentLength() > maxCacheSize) {
+                return Flux.from(body);
             }
-            return Flux.from(body);
+            return Flux.defer(() -> {
+                final CacheBodyAggregator aggregator = new CacheBodyAggregator(maxCacheSize);
+                return Flux.from(body)
+                        .doOnNext(aggregator::append)
+                        .doOnComplete(() -> {
+                            if (aggregator.isOverflow()) {
+                                return;
+                            }
+                            final long timeoutSeconds = this.cacheRuleHandle.getTimeoutSeconds();
+                            if (Objects.isNull(this.flight)) {
+                                cache.cacheData(CacheUtils.dataKey(this.exchange), aggregator.toByteArray(), timeoutSeconds)
+                                        .subscribeOn(Schedulers.boundedElastic()).subscribe();
+                                cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), this.getHeaders().getContentType(), timeoutSeconds);
+                                return;
+                            }
+                            cacheFlightResponse(cache, aggregator.toByteArray(), timeoutSeconds);
+                        });
+            });
+        }
+
+        /**
+         * share the response with the followers first, and keep the flight until the cache is written,
+         * the data outlives the fresh marker by the stale seconds.
+         */
+        private void cacheFlightResponse(final ICache cache, final byte[] bytes, final long timeoutSeconds) {
+            final MediaType contentType = this.getHeaders().getContentType();
+            final byte[] contentTypeBytes = Objects.isNull(contentType) ? new byte[0] : cache.mediaTypeToBytes(contentType);
+            this.flight.land(bytes, contentTypeBytes);
+            final long staleSeconds = staleSeconds(this.cacheRuleHandle);
+            final long dataTimeoutSeconds = timeoutSeconds + staleSeconds;
+            Mono<Boolean> write = cache.cacheData(CacheUtils.contentTypeKey(this.exchange), contentTypeBytes, dataTimeoutSeconds)
+                    .then(cache.cacheData(CacheUtils.dataKey(this.exchange), bytes, dataTimeoutSeconds));
+            if (staleSeconds > 0) {
+                write = write.then(cache.cacheData(CacheUtils.freshKey(this.exchange), new byte[]{1}, timeoutSeconds));
+            }
+            write.doFinally(signal -> this.flight.release()).subscribeOn(Schedulers.boundedElastic()).subscribe();
+        }
+    }
+
+    /**
+     * copy the readable bytes of the response chunks, without touching the read position of them,
+     * and give up once the body is bigger than the max cache size.
+     */
+    static final class CacheBodyAggregator {
+
+        private final long maxCacheSize;
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private boolean overflow;
+
+        CacheBodyAggregator(final long maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+        }
+
+        void append(final DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            final int readable = buffer.readableByteCount();
+            if (body.size() + (long) readable > maxCacheSize) {
+                overflow = true;
+                body.reset();
+                return;
+            }
+            // works for both heap and direct buffers, unlike ByteBuffer#array
+            final ByteBuffer byteBuffer = buffer.asByteBuffer();
+            final byte[] bytes = new byte[readable];
+            byteBuffer.get(bytes);
+            body.write(bytes, 0, readable);
+        }
+
+        boolean isOverflow() {
+            return overflow;
+        }
+
+        byte[] toByteArray() {
+            return body.toByteArray();
         }
     }
 }
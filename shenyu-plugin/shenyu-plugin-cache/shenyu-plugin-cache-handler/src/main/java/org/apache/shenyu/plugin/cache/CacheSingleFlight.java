@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The in-flight upstream calls of the cache misses, the concurrent misses of the same key share the response of one call.
+ */
+public final class CacheSingleFlight {
+
+    private static final Map<String, Flight> FLIGHTS = new ConcurrentHashMap<>();
+
+    private CacheSingleFlight() {
+    }
+
+    /**
+     * Take off a flight of the key.
+     *
+     * @param key the cache data key
+     * @return the flight, or null when another flight of the key is in progress
+     */
+    public static Flight takeOff(final String key) {
+        Flight flight = new Flight(key);
+        return Objects.isNull(FLIGHTS.putIfAbsent(key, flight)) ? flight : null;
+    }
+
+    /**
+     * Await the response of the in-flight call of the key.
+     *
+     * @param key the cache data key
+     * @return the response, empty when there is no flight or the response is not cacheable
+     */
+    public static Mono<CachedBody> await(final String key) {
+        Flight flight = FLIGHTS.get(key);
+        return Objects.isNull(flight) ? Mono.empty() : flight.sink.asMono();
+    }
+
+    /**
+     * Whether a call of the key is in progress.
+     *
+     * @param key the cache data key
+     * @return true when in flight
+     */
+    public static boolean isInFlight(final String key) {
+        return FLIGHTS.containsKey(key);
+    }
+
+    /**
+     * One upstream call, the followers are released by {@link #land} or {@link #abort}.
+     */
+    public static final class Flight {
+
+        private final String key;
+
+        private final Sinks.One<CachedBody> sink = Sinks.one();
+
+        private Flight(final String key) {
+            this.key = key;
+        }
+
+        /**
+         * Hand the response to the followers, the flight keeps its place until {@link #release} so that the
+         * requests arriving before the cache is written still follow it.
+         *
+         * @param body the response body
+         * @param contentType the content type bytes
+         */
+        public void land(final byte[] body, final byte[] contentType) {
+            sink.tryEmitValue(new CachedBody(body, contentType));
+        }
+
+        /**
+         * Release the place of the flight, after the response is written into the cache.
+         */
+        public void release() {
+            FLIGHTS.remove(key, this);
+        }
+
+        /**
+         * Abort the flight when the call ends without a cacheable response, the followers go to the upstream themselves.
+         */
+        public void abort() {
+            if (sink.tryEmitEmpty().isSuccess()) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * The response shared with the followers.
+     */
+    public static final class CachedBody {
+
+        private final byte[] body;
+
+        private final byte[] contentType;
+
+        private CachedBody(final byte[] body, final byte[] contentType) {
+            this.body = body;
+            this.contentType = contentType;
+        }
+
+        /**
+         * Get the body.
+         *
+         * @return the body
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Get the content type.
+         *
+         * @return the content type bytes
+         */
+        public byte[] getContentType() {
+            return contentType;
+        }
+    }
+}
@@ -31,6 +31,8 @@ public final class CacheUtils {
 
     private static final String CONTENT_TYPEKEY_SUFFIX = "contentType";
 
+    private static final String FRESH_KEY_SUFFIX = "fresh";
+
     private static final String KEY_JOIN_RULE = "-";
 
     private CacheUtils() {
@@ -58,6 +60,16 @@ public final class CacheUtils {
         return String.join(KEY_JOIN_RULE, dataKey(exchange), CONTENT_TYPEKEY_SUFFIX);
     }
 
+    /**
+     * the marker key of the fresh cache data, the data without the marker is stale.
+     *
+     * @param exchange the exchange
+     * @return the fresh key
+     */
+    public static String freshKey(final ServerWebExchange exchange) {
+        return String.join(KEY_JOIN_RULE, dataKey(exchange), FRESH_KEY_SUFFIX);
+    }
+
     /**
      * get the cache.
      *
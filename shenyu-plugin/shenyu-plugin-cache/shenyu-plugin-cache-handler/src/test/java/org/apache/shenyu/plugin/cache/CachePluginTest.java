@@ -29,17 +29,23 @@ import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -104,4 +110,65 @@ public class CachePluginTest {
         StepVerifier.create(result3).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void httpResponseAggregateTest() throws InterruptedException {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/aggregate").build());
+        final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        final Flux<DataBuffer> body = Flux.just("{\"a\":", "1", "}")
+                .map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, new CacheRuleHandle());
+        cacheHttpResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        StepVerifier.create(cacheHttpResponse.writeWith(body)).expectSubscription().verifyComplete();
+        byte[] cached = null;
+        for (int i = 0; i < 100 && Objects.isNull(cached); i++) {
+            cached = memoryCache.getData(CacheUtils.dataKey(exchange)).block();
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals("{\"a\":1}", new String(cached, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void cacheBodyAggregatorTest() {
+        final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        final CachePlugin.CacheBodyAggregator aggregator = new CachePlugin.CacheBodyAggregator(4);
+        final DataBuffer buffer = bufferFactory.wrap("ab".getBytes(StandardCharsets.UTF_8));
+        aggregator.append(buffer);
+        aggregator.append(bufferFactory.wrap("cd".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertFalse(aggregator.isOverflow());
+        Assertions.assertEquals("abcd", new String(aggregator.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, buffer.readableByteCount());
+        aggregator.append(bufferFactory.wrap("e".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(aggregator.isOverflow());
+        Assertions.assertEquals(0, aggregator.toByteArray().length);
+    }
+
+    @Test
+    public void singleFlightTest() {
+        Singleton.INST.single(ICache.class, new MemoryCache());
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setSingleFlight(true);
+        final RuleData ruleData = new RuleData();
+        ruleData.setId("flight");
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = mock(ShenyuPluginChain.class);
+        Mockito.when(shenyuPluginChain.execute(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            final ServerWebExchange upstreamExchange = invocation.getArgument(0);
+            upstreamExchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return Mono.delay(Duration.ofMillis(100)).then(upstreamExchange.getResponse()
+                    .writeWith(Mono.fromSupplier(() -> upstreamExchange.getResponse().bufferFactory().wrap("{}".getBytes(StandardCharsets.UTF_8)))));
+        });
+        final CachePlugin cachePlugin = new CachePlugin();
+        final MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/flight").build());
+        final MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/flight").build());
+        final Mono<Void> leaderResult = cachePlugin.doExecute(leader, shenyuPluginChain, null, ruleData);
+        final Mono<Void> followerResult = cachePlugin.doExecute(follower, shenyuPluginChain, null, ruleData);
+        StepVerifier.create(Mono.when(leaderResult, followerResult)).expectSubscription().verifyComplete();
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertEquals("{}", follower.getResponse().getBodyAsString().block());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, follower.getResponse().getHeaders().getContentType());
+    }
 }
@@ -17,26 +17,40 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shenyu.plugin.cache.ICache;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * MemoryCache.
+ * a single cache bounded by the bytes of the cached keys and values, each entry has its own ttl.
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    /**
+     * the estimated memory overhead of each entry.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final Cache<String, CacheEntry> mainCache;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(new MemoryConfigProperties());
+    }
+
+    public MemoryCache(final MemoryConfigProperties memoryConfigProperties) {
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(memoryConfigProperties.getMaximumWeight())
+                .weigher((String key, CacheEntry entry) -> weight(key, entry))
+                .expireAfter(new CacheEntryExpiry())
+                .recordStats()
+                .build();
     }
 
     /**
@@ -49,10 +63,8 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        this.mainCache.put(key, new CacheEntry(bytes, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +75,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.just(this.mainCache.asMap().containsKey(key));
     }
 
     /**
@@ -80,12 +86,26 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
-            }
-            return null;
-        });
+        final CacheEntry entry = this.mainCache.getIfPresent(key);
+        return Objects.isNull(entry) ? Mono.empty() : Mono.just(entry.bytes);
+    }
+
+    /**
+     * Get the statistics of the cache, such as hit, miss and eviction count.
+     *
+     * @return the cache stats
+     */
+    public CacheStats stats() {
+        return this.mainCache.stats();
+    }
+
+    /**
+     * Get the estimated bytes of the cache.
+     *
+     * @return the estimated bytes
+     */
+    public long weightedSize() {
+        return this.mainCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
     }
 
     /**
@@ -93,6 +113,42 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        this.mainCache.invalidateAll();
+        this.mainCache.cleanUp();
+    }
+
+    private static int weight(final String key, final CacheEntry entry) {
+        long weight = (long) key.length() * 2 + entry.bytes.length + ENTRY_OVERHEAD;
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static final class CacheEntry {
+
+        private final byte[] bytes;
+
+        private final long ttlNanos;
+
+        CacheEntry(final byte[] bytes, final long ttlNanos) {
+            this.bytes = bytes;
+            this.ttlNanos = ttlNanos;
+        }
+    }
+
+    private static final class CacheEntryExpiry implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CacheEntry entry, final long currentTime) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CacheEntry entry, final long currentTime, final long currentDuration) {
+            return entry.ttlNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CacheEntry entry, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -17,10 +17,15 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
 import org.apache.shenyu.plugin.cache.ICache;
 import org.apache.shenyu.plugin.cache.ICacheBuilder;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Optional;
+
 /**
  * MemoryCacheBuilder.
  */
@@ -35,6 +40,21 @@ public class MemoryCacheBuilder implements ICacheBuilder {
      */
     @Override
     public ICache builderCache(final String cacheConfig) {
-        return new MemoryCache();
+        MemoryConfigProperties memoryConfigProperties = Optional.ofNullable(GsonUtils.getInstance().fromJson(cacheConfig, MemoryConfigProperties.class))
+                .orElseGet(MemoryConfigProperties::new);
+        MemoryCache memoryCache = new MemoryCache(memoryConfigProperties);
+        registerMetrics(memoryCache);
+        return memoryCache;
+    }
+
+    /**
+     * the metrics of the previous cache are replaced by the new one.
+     */
+    private static void registerMetrics(final MemoryCache memoryCache) {
+        PluginMetricRegistry registry = PluginMetricRegistry.getInstance();
+        registry.register(PluginMetric.counter("shenyu_cache_memory_hit_total", "shenyu memory cache hit count", () -> memoryCache.stats().hitCount()));
+        registry.register(PluginMetric.counter("shenyu_cache_memory_miss_total", "shenyu memory cache miss count", () -> memoryCache.stats().missCount()));
+        registry.register(PluginMetric.counter("shenyu_cache_memory_eviction_total", "shenyu memory cache eviction count", () -> memoryCache.stats().evictionCount()));
+        registry.register(PluginMetric.gauge("shenyu_cache_memory_weighted_bytes", "the estimated bytes of shenyu memory cache", memoryCache::weightedSize));
     }
 }
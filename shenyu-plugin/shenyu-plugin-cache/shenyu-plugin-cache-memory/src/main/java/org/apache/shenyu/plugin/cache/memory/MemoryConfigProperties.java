@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+/**
+ * The configuration for memory cache.
+ */
+public class MemoryConfigProperties {
+
+    /**
+     * the max total bytes of the cached keys and values, default 256MB.
+     */
+    private Long maximumWeight = 256L * 1024 * 1024;
+
+    /**
+     * Gets maximum weight.
+     *
+     * @return the maximum weight
+     */
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Sets maximum weight.
+     *
+     * @param maximumWeight the maximum weight
+     */
+    public void setMaximumWeight(final Long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MemoryCacheBuilderTest.
+ */
+public class MemoryCacheBuilderTest {
+
+    @AfterEach
+    public void clean() {
+        PluginMetricRegistry.getInstance().clean();
+    }
+
+    @Test
+    public void testEvictByWeight() throws InterruptedException {
+        final MemoryCache memoryCache = (MemoryCache) new MemoryCacheBuilder().builderCache("{\"maximumWeight\":10240}");
+        for (int i = 0; i < 100; i++) {
+            memoryCache.cacheData("key-" + i, new byte[1024], 10).block();
+        }
+        memoryCache.getData("key-0").block();
+        memoryCache.getData("key-99").block();
+        assertEquals(2, memoryCache.stats().requestCount());
+        // the eviction is done asynchronously
+        for (int i = 0; i < 100 && memoryCache.weightedSize() > 10 * 1024L; i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(memoryCache.weightedSize() <= 10 * 1024L);
+        Map<String, PluginMetric> metrics = metrics();
+        assertTrue(metrics.get("shenyu_cache_memory_eviction_total").getValue() > 0);
+        assertEquals(memoryCache.weightedSize(), metrics.get("shenyu_cache_memory_weighted_bytes").getValue());
+    }
+
+    @Test
+    public void testExpire() {
+        final MemoryCache memoryCache = (MemoryCache) new MemoryCacheBuilder().builderCache(null);
+        memoryCache.cacheData("expired", "data".getBytes(StandardCharsets.UTF_8), 0).block();
+        memoryCache.cacheData("alive", "data".getBytes(StandardCharsets.UTF_8), 10).block();
+        assertFalse(memoryCache.isExist("expired").block());
+        assertNull(memoryCache.getData("expired").block());
+        assertTrue(memoryCache.isExist("alive").block());
+        memoryCache.getData("alive").block();
+        Map<String, PluginMetric> metrics = metrics();
+        assertEquals(1, metrics.get("shenyu_cache_memory_miss_total").getValue());
+        assertEquals(1, metrics.get("shenyu_cache_memory_hit_total").getValue());
+    }
+
+    private static Map<String, PluginMetric> metrics() {
+        return PluginMetricRegistry.getInstance().getAll().stream().collect(Collectors.toMap(PluginMetric::getName, Function.identity()));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.cryptor.handler;
 
 import org.apache.shenyu.common.dto.convert.rule.RuleHandle;
+import org.apache.shenyu.plugin.cryptor.strategy.CryptorStrategy;
 
 /**
  * Cryptor response rule handle.
@@ -36,6 +37,10 @@ public class CryptorRuleHandler implements RuleHandle {
 
     private String way;
 
+    private transient CryptorStrategy.Decryptor decryptor;
+
+    private transient CryptorStrategy.Encryptor encryptor;
+
     /**
      * get strategyName.
      * @return strategyName
@@ -132,6 +137,38 @@ public class CryptorRuleHandler implements RuleHandle {
         this.way = way;
     }
 
+    /**
+     * get decryptor.
+     * @return decryptor
+     */
+    public CryptorStrategy.Decryptor getDecryptor() {
+        return decryptor;
+    }
+
+    /**
+     * set decryptor.
+     * @param decryptor decryptor
+     */
+    public void setDecryptor(final CryptorStrategy.Decryptor decryptor) {
+        this.decryptor = decryptor;
+    }
+
+    /**
+     * get encryptor.
+     * @return encryptor
+     */
+    public CryptorStrategy.Encryptor getEncryptor() {
+        return encryptor;
+    }
+
+    /**
+     * set encryptor.
+     * @param encryptor encryptor
+     */
+    public void setEncryptor(final CryptorStrategy.Encryptor encryptor) {
+        this.encryptor = encryptor;
+    }
+
     @Override
     public String toString() {
         return "CryptorRuleHandler{"
@@ -42,4 +42,56 @@ public interface CryptorStrategy {
      * @throws Exception error
      */
     String encrypt(String key, String data) throws Exception;
+
+    /**
+     * prepare the decryptor of the key once per rule,
+     * the strategy parsing its keys overrides it, and by default the decryptor decrypts with the key string.
+     * @param key key
+     * @return the decryptor
+     * @throws Exception error
+     */
+    default Decryptor prepareDecrypt(String key) throws Exception {
+        return encryptData -> decrypt(key, encryptData);
+    }
+
+    /**
+     * prepare the encryptor of the key once per rule,
+     * the strategy parsing its keys overrides it, and by default the encryptor encrypts with the key string.
+     * @param key key
+     * @return the encryptor
+     * @throws Exception error
+     */
+    default Encryptor prepareEncrypt(String key) throws Exception {
+        return data -> encrypt(key, data);
+    }
+
+    /**
+     * The decryptor prepared with the key of a rule.
+     */
+    @FunctionalInterface
+    interface Decryptor {
+
+        /**
+         * decrypt.
+         * @param encryptData encryptData
+         * @return data
+         * @throws Exception error
+         */
+        String decrypt(byte[] encryptData) throws Exception;
+    }
+
+    /**
+     * The encryptor prepared with the key of a rule.
+     */
+    @FunctionalInterface
+    interface Encryptor {
+
+        /**
+         * encrypt.
+         * @param data data
+         * @return encryptData.
+         * @throws Exception error
+         */
+        String encrypt(String data) throws Exception;
+    }
 }
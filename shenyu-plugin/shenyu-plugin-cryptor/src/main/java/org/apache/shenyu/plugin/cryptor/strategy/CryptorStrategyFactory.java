@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Base64;
+import java.util.Objects;
 
 /**
  * The type Cryptor strategy factory.
@@ -48,6 +49,26 @@ public final class CryptorStrategyFactory {
         return ExtensionLoader.getExtensionLoader(CryptorStrategy.class).getJoin(strategyName);
     }
 
+    /**
+     * Prepare the cryptors of the rule keys once, so that each request reuses them.
+     * The rule keeps crypting with the key strings when preparing fails.
+     *
+     * @param ruleHandle rule.
+     */
+    public static void prepare(final CryptorRuleHandler ruleHandle) {
+        try {
+            CryptorStrategy strategy = newInstance(ruleHandle.getStrategyName());
+            if (Objects.nonNull(ruleHandle.getDecryptKey())) {
+                ruleHandle.setDecryptor(strategy.prepareDecrypt(ruleHandle.getDecryptKey()));
+            }
+            if (Objects.nonNull(ruleHandle.getEncryptKey())) {
+                ruleHandle.setEncryptor(strategy.prepareEncrypt(ruleHandle.getEncryptKey()));
+            }
+        } catch (Exception e) {
+            LOG.error("prepare cryptor keys error: ", e);
+        }
+    }
+
     /**
      * Match decrypt or encrypt.
      *
@@ -58,9 +79,9 @@ public final class CryptorStrategyFactory {
     public static String match(final CryptorRuleHandler ruleHandle, final String data) {
         switch (ruleHandle.getWay()) {
             case DECRYPT:
-                return decrypt(ruleHandle.getStrategyName(), ruleHandle.getDecryptKey(), data);
+                return decrypt(ruleHandle, data);
             case ENCRYPT:
-                return encrypt(ruleHandle.getStrategyName(), ruleHandle.getEncryptKey(), data);
+                return encrypt(ruleHandle, data);
             default:
                 return null;
         }
@@ -69,14 +90,17 @@ public final class CryptorStrategyFactory {
     /**
      * Encrypt string.
      *
-     * @param strategyName the strategy name
-     * @param key the key
+     * @param ruleHandle the rule
      * @param data the data
      * @return the string
      */
-    private static String encrypt(final String strategyName, final String key, final String data) {
+    private static String encrypt(final CryptorRuleHandler ruleHandle, final String data) {
         try {
-            return newInstance(strategyName).encrypt(key, data);
+            CryptorStrategy.Encryptor encryptor = ruleHandle.getEncryptor();
+            if (Objects.isNull(encryptor)) {
+                return newInstance(ruleHandle.getStrategyName()).encrypt(ruleHandle.getEncryptKey(), data);
+            }
+            return encryptor.encrypt(data);
         } catch (Exception e) {
             LOG.error("encrypt data error: ", e);
             return null;
@@ -86,15 +110,18 @@ public final class CryptorStrategyFactory {
     /**
      * Decrypt string.
      *
-     * @param strategyName the strategy name
-     * @param key the key
+     * @param ruleHandle the rule
      * @param encryptData the encrypt data
      * @return the string
      */
-    private static String decrypt(final String strategyName, final String key, final String encryptData) {
+    private static String decrypt(final CryptorRuleHandler ruleHandle, final String encryptData) {
         try {
             byte[] inputByte = Base64.getMimeDecoder().decode(encryptData);
-            return newInstance(strategyName).decrypt(key, inputByte);
+            CryptorStrategy.Decryptor decryptor = ruleHandle.getDecryptor();
+            if (Objects.isNull(decryptor)) {
+                return newInstance(ruleHandle.getStrategyName()).decrypt(ruleHandle.getDecryptKey(), inputByte);
+            }
+            return decryptor.decrypt(inputByte);
         } catch (Exception e) {
             LOG.error("decrypt data error: ", e);
             return null;
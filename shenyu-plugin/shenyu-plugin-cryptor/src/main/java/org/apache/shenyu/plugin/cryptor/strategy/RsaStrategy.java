@@ -17,13 +17,17 @@
 
 package org.apache.shenyu.plugin.cryptor.strategy;
 
+import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.spi.Join;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.security.KeyFactory;
-import java.security.PrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAKey;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
@@ -36,21 +40,79 @@ public class RsaStrategy implements CryptorStrategy {
 
     private static final String RSA = "rsa";
 
+    /**
+     * The bytes of the PKCS#1 v1.5 padding in each encrypted block.
+     */
+    private static final int PADDING_BYTES = 11;
+
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(RSA);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new ShenyuException(e);
+        }
+    });
+
     @Override
     public String decrypt(final String key, final byte[] encryptData) throws Exception {
-        byte[] decoded = Base64.getDecoder().decode(key);
-        PrivateKey priKey = KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
-        cipher.init(Cipher.DECRYPT_MODE, priKey);
-        return new String(cipher.doFinal(encryptData));
+        return doDecrypt(parsePrivateKey(key), encryptData);
     }
 
     @Override
     public String encrypt(final String key, final String data) throws Exception {
+        return doEncrypt(parsePublicKey(key), data);
+    }
+
+    @Override
+    public Decryptor prepareDecrypt(final String key) throws Exception {
+        Key privateKey = parsePrivateKey(key);
+        return encryptData -> doDecrypt(privateKey, encryptData);
+    }
+
+    @Override
+    public Encryptor prepareEncrypt(final String key) throws Exception {
+        Key publicKey = parsePublicKey(key);
+        return data -> doEncrypt(publicKey, data);
+    }
+
+    private static String doDecrypt(final Key key, final byte[] encryptData) throws Exception {
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.DECRYPT_MODE, key);
+        return new String(doFinal(cipher, encryptData, blockBytes(key)), StandardCharsets.UTF_8);
+    }
+
+    private static String doEncrypt(final Key key, final String data) throws Exception {
+        Cipher cipher = CIPHER.get();
+        cipher.init(Cipher.ENCRYPT_MODE, key);
+        byte[] encrypted = doFinal(cipher, data.getBytes(StandardCharsets.UTF_8), blockBytes(key) - PADDING_BYTES);
+        return Base64.getEncoder().encodeToString(encrypted);
+    }
+
+    private static Key parsePrivateKey(final String key) throws Exception {
         byte[] decoded = Base64.getDecoder().decode(key);
-        RSAPublicKey pubKey = (RSAPublicKey) KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(decoded));
-        Cipher cipher = Cipher.getInstance(RSA);
-        cipher.init(Cipher.ENCRYPT_MODE, pubKey);
-        return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        return KeyFactory.getInstance(RSA).generatePrivate(new PKCS8EncodedKeySpec(decoded));
+    }
+
+    private static Key parsePublicKey(final String key) throws Exception {
+        byte[] decoded = Base64.getDecoder().decode(key);
+        return KeyFactory.getInstance(RSA).generatePublic(new X509EncodedKeySpec(decoded));
+    }
+
+    private static int blockBytes(final Key key) {
+        return (((RSAKey) key).getModulus().bitLength() + 7) / 8;
+    }
+
+    /**
+     * Process the data block by block, as one rsa operation handles at most one block.
+     */
+    private static byte[] doFinal(final Cipher cipher, final byte[] data, final int blockBytes) throws Exception {
+        if (data.length <= blockBytes) {
+            return cipher.doFinal(data);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length + blockBytes);
+        for (int offset = 0; offset < data.length; offset += blockBytes) {
+            out.write(cipher.doFinal(data, offset, Math.min(blockBytes, data.length - offset)));
+        }
+        return out.toByteArray();
     }
 }
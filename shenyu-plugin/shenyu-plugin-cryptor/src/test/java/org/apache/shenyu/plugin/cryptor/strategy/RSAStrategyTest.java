@@ -17,8 +17,10 @@
 
 package org.apache.shenyu.plugin.cryptor.strategy;
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,4 +50,38 @@ public class RSAStrategyTest {
     public void testDecrypt() throws Exception {
         assertThat(cryptorStrategy.decrypt(decKey, encryptedData), is(decryptedData));
     }
+
+    @Test
+    public void testPreparedKeys() throws Exception {
+        CryptorStrategy.Encryptor encryptor = cryptorStrategy.prepareEncrypt(encKey);
+        CryptorStrategy.Decryptor decryptor = cryptorStrategy.prepareDecrypt(decKey);
+        assertThat(decryptor.decrypt(encryptedData), is(decryptedData));
+        byte[] encrypted = Base64.getMimeDecoder().decode(encryptor.encrypt(decryptedData));
+        assertThat(decryptor.decrypt(encrypted), is(decryptedData));
+    }
+
+    @Test
+    public void testDefaultPrepare() throws Exception {
+        CryptorStrategy keyStringStrategy = new CryptorStrategy() {
+            @Override
+            public String decrypt(final String key, final byte[] encryptData) {
+                return key + new String(encryptData, StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String encrypt(final String key, final String data) {
+                return key + data;
+            }
+        };
+        assertThat(keyStringStrategy.prepareDecrypt("key-").decrypt(decryptedData.getBytes(StandardCharsets.UTF_8)), is("key-" + decryptedData));
+        assertThat(keyStringStrategy.prepareEncrypt("key-").encrypt(decryptedData), is("key-" + decryptedData));
+    }
+
+    @Test
+    public void testLargeData() throws Exception {
+        String largeData = StringUtils.repeat(decryptedData, 100);
+        byte[] encrypted = Base64.getMimeDecoder().decode(cryptorStrategy.encrypt(encKey, largeData));
+        assertThat(encrypted.length % 64, is(0));
+        assertThat(cryptorStrategy.decrypt(decKey, encrypted), is(largeData));
+    }
 }
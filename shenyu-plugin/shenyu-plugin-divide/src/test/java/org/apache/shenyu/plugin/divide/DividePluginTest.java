@@ -153,7 +153,7 @@ public final class DividePluginTest {
         dividePlugin.doExecute(exchange, chain, selectorData, ruleData);
         // hit `Objects.isNull(upstream)`
         MockedStatic<LoadBalancerFactory> loadBalancerFactoryMockedStatic = mockStatic(LoadBalancerFactory.class);
-        loadBalancerFactoryMockedStatic.when(() -> LoadBalancerFactory.selector(any(), any(), any()))
+        loadBalancerFactoryMockedStatic.when(() -> LoadBalancerFactory.selector(any(), any(), any(), any()))
                 .thenReturn(null);
         dividePlugin.doExecute(exchange, chain, selectorData, ruleData);
         // hit `assert shenyuContext != null`
@@ -85,7 +85,7 @@ public class AlibabaDubboGrayLoadBalanceTest {
         mockInvoker = new MockInvoker<>(URL.valueOf("localhost"));
         invokers = Collections.singletonList(mockInvoker);
         MockedStatic<LoadBalancerFactory> loadBalancerFactoryMockedStatic = mockStatic(LoadBalancerFactory.class);
-        loadBalancerFactoryMockedStatic.when(() -> LoadBalancerFactory.selector(any(), any(), any()))
+        loadBalancerFactoryMockedStatic.when(() -> LoadBalancerFactory.selector(any(), any(), any(), any()))
                 .thenReturn(upstream);
         when(invocation.getAttachment(Constants.DUBBO_SELECTOR_ID)).thenReturn(Constants.DUBBO_SELECTOR_ID);
         when(invocation.getAttachment(Constants.DUBBO_RULE_ID)).thenReturn(Constants.DUBBO_RULE_ID);
@@ -18,7 +18,7 @@
 package org.apache.shenyu.plugin.dubbo.common.param;
 
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.shenyu.plugin.api.utils.BodyParamUtils;
+import org.apache.shenyu.plugin.api.param.RpcParamBinder;
 
 /**
  * The type Default generic param resolve service.
@@ -27,6 +27,6 @@ public class DubboParamResolveServiceImpl implements DubboParamResolveService {
 
     @Override
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
-        return BodyParamUtils.buildParameters(body, parameterTypes);
+        return RpcParamBinder.bind(body, parameterTypes);
     }
 }
@@ -17,14 +17,20 @@
 
 package org.apache.shenyu.plugin.global.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.plugin.base.cache.MetaDataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * The Test Case For MetaDataCache.
@@ -57,4 +63,43 @@ public final class MetaDataCacheTest {
         metaDataCache.remove(this.metaData);
         assertNull(metaDataCache.obtain("/home"));
     }
+
+    @Test
+    public void testWildcardPath() {
+        assertNull(metaDataCache.obtain("/dubbo/user/findById"));
+        MetaData wildcard = MetaData.builder().id("2").path("/dubbo/**").build();
+        MetaData specific = MetaData.builder().id("3").path("/dubbo/user/*").build();
+        metaDataCache.cache(wildcard);
+        metaDataCache.cache(specific);
+        // the cached miss is cleaned by the new meta data, and the more specific path is matched first
+        assertEquals("/dubbo/user/*", metaDataCache.obtain("/dubbo/user/findById").getPath());
+        assertEquals("/dubbo/**", metaDataCache.obtain("/dubbo/order/findById").getPath());
+        assertNull(metaDataCache.obtain("/http/order/findById"));
+        metaDataCache.cache(MetaData.builder().id("3").path("/dubbo/order/*").build());
+        assertEquals("/dubbo/**", metaDataCache.obtain("/dubbo/user/findById").getPath());
+        metaDataCache.remove(wildcard);
+        metaDataCache.remove(specific);
+        assertNull(metaDataCache.obtain("/dubbo/user/findById"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMatchedPathsBounded() throws NoSuchFieldException, IllegalAccessException {
+        MetaData wildcard = MetaData.builder().id("4").path("/sofa/**").build();
+        metaDataCache.cache(wildcard);
+        for (int i = 0; i < (1 << 16) + 1024; i++) {
+            assertEquals("/sofa/**", metaDataCache.obtain("/sofa/" + i).getPath());
+        }
+        Field cacheField = MetaDataCache.class.getDeclaredField("CACHE");
+        cacheField.setAccessible(true);
+        Cache<String, MetaData> cache = (Cache<String, MetaData>) cacheField.get(null);
+        cache.cleanUp();
+        Field mappingField = MetaDataCache.class.getDeclaredField("MAPPING");
+        mappingField.setAccessible(true);
+        Set<String> paths = ((Map<String, Set<String>>) mappingField.get(null)).get("/sofa/**");
+        assertTrue(cache.estimatedSize() <= 1 << 16);
+        assertTrue(paths.size() <= 1 << 16);
+        metaDataCache.remove(wildcard);
+        assertNull(metaDataCache.obtain("/sofa/1"));
+    }
 }
@@ -29,7 +29,6 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
@@ -37,19 +36,27 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.grpc.cache.GrpcClientCache;
+import org.apache.shenyu.plugin.grpc.cache.GrpcDescriptorCache;
 import org.apache.shenyu.plugin.grpc.client.ShenyuGrpcClient;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * The type grpc plugin.
@@ -60,6 +67,8 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(GrpcPlugin.class);
 
+    private static final List<MediaType> PROTOBUF_MEDIA_TYPES = Arrays.asList(new MediaType("application", "x-protobuf"), new MediaType("application", "protobuf"));
+
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         final String param = exchange.getAttribute(Constants.PARAM_TRANSFORM);
@@ -74,7 +83,9 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         assert metaData != null;
-        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(param)) {
+        final MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        final boolean passthrough = isProtobuf(contentType);
+        if (!passthrough && StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(param)) {
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.GRPC_HAVE_BODY_PARAM);
             return WebFluxResultUtils.result(exchange, error);
@@ -87,13 +98,19 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
 
-        GrpcExtInfo extInfo = GsonUtils.getGson().fromJson(metaData.getRpcExt(), GrpcExtInfo.class);
+        GrpcExtInfo extInfo = GrpcDescriptorCache.getInstance().obtain(metaData).getExtInfo();
         CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(extInfo.timeout, TimeUnit.MILLISECONDS);
-        Map<String, Map<String, String>> rpcContext = exchange.getAttribute(Constants.GENERAL_CONTEXT);
-        Optional.ofNullable(rpcContext).map(context -> context.get(PluginEnum.GRPC.getName())).ifPresent(
-            context -> Context.current().withValue(RPC_CONTEXT_KEY, context).attach());
-        CompletableFuture<ShenyuGrpcResponse> result = client.call(metaData, callOptions, param, extInfo.methodType);
-        Context.current().detach(Context.ROOT);
+        if (passthrough) {
+            return passthrough(exchange, client, metaData, callOptions, contentType);
+        }
+        if (isStreaming(extInfo.methodType)) {
+            // the frames are written to the client as they arrive by the response plugin
+            Flux<Object> frames = callWithRpcContext(exchange, () -> client.stream(metaData, callOptions, param, extInfo.methodType));
+            exchange.getAttributes().put(Constants.RPC_RESULT, frames.onErrorMap(ShenyuException::new));
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+            return chain.execute(exchange);
+        }
+        CompletableFuture<ShenyuGrpcResponse> result = callWithRpcContext(exchange, () -> client.call(metaData, callOptions, param, extInfo.methodType));
 
         return Mono.fromFuture(result.thenApply(ret -> {
             exchange.getAttributes().put(Constants.RPC_RESULT, ret.getResults());
@@ -128,6 +145,48 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
         return PluginEnum.GRPC.getCode();
     }
 
+    /**
+     * the plain protobuf body is sent to the original service as one message, and the response messages are written back directly.
+     * the response is not handed to the rest of the chain, so the response plugin is skipped.
+     * {@code application/grpc} bodies are not passed through, because the grpc-status trailers can not be written here.
+     */
+    private Mono<Void> passthrough(final ServerWebExchange exchange, final ShenyuGrpcClient client, final MetaData metaData,
+                                   final CallOptions callOptions, final MediaType contentType) {
+        return DataBufferUtils.join(exchange.getRequest().getBody())
+                .map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    Flux<byte[]> responses = callWithRpcContext(exchange, () -> client.passthrough(metaData, callOptions, Collections.singletonList(body)));
+                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+                    exchange.getResponse().getHeaders().setContentType(contentType);
+                    return exchange.getResponse().writeAndFlushWith(responses.map(message -> Mono.just(exchange.getResponse().bufferFactory().wrap(message))));
+                })
+                .onErrorMap(ShenyuException::new);
+    }
+
+    private <T> T callWithRpcContext(final ServerWebExchange exchange, final Supplier<T> call) {
+        Map<String, Map<String, String>> rpcContext = exchange.getAttribute(Constants.GENERAL_CONTEXT);
+        Optional.ofNullable(rpcContext).map(context -> context.get(PluginEnum.GRPC.getName())).ifPresent(
+            context -> Context.current().withValue(RPC_CONTEXT_KEY, context).attach());
+        T result = call.get();
+        Context.current().detach(Context.ROOT);
+        return result;
+    }
+
+    private boolean isProtobuf(final MediaType contentType) {
+        return Objects.nonNull(contentType) && PROTOBUF_MEDIA_TYPES.stream().anyMatch(mediaType -> mediaType.isCompatibleWith(contentType));
+    }
+
+    private boolean isStreaming(final MethodDescriptor.MethodType methodType) {
+        return methodType == MethodDescriptor.MethodType.SERVER_STREAMING
+                || methodType == MethodDescriptor.MethodType.BIDI_STREAMING;
+    }
+
     private boolean checkMetaData(final MetaData metaData) {
         return Objects.nonNull(metaData)
                 && !StringUtils.isBlank(metaData.getMethodName())
@@ -147,24 +206,44 @@ public class GrpcPlugin extends AbstractShenyuPlugin {
     /**
      * The GrpcExt.
      */
-    static class GrpcExtInfo {
+    public static class GrpcExtInfo {
 
         private Integer timeout = 5000;
 
         private MethodDescriptor.MethodType methodType;
 
+        /**
+         * Gets timeout.
+         *
+         * @return the timeout
+         */
         public Integer getTimeout() {
             return timeout;
         }
 
+        /**
+         * Sets timeout.
+         *
+         * @param timeout the timeout
+         */
         public void setTimeout(final Integer timeout) {
             this.timeout = timeout;
         }
 
+        /**
+         * Gets method type.
+         *
+         * @return the method type
+         */
         public MethodDescriptor.MethodType getMethodType() {
             return methodType;
         }
 
+        /**
+         * Sets method type.
+         *
+         * @param methodType the method type
+         */
         public void setMethodType(final MethodDescriptor.MethodType methodType) {
             this.methodType = methodType;
         }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.MethodDescriptor;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.grpc.GrpcPlugin;
+import org.apache.shenyu.plugin.grpc.proto.ByteArrayMarshaller;
+import org.apache.shenyu.protocol.grpc.message.JsonMessage;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The descriptors of the grpc methods, cached by the path of the meta data.
+ * an entry is rebuilt once the service, method or rpc ext of the meta data is changed,
+ * and is invalidated when the meta data is removed.
+ */
+public final class GrpcDescriptorCache {
+
+    private static final GrpcDescriptorCache INSTANCE = new GrpcDescriptorCache();
+
+    private final Map<String, GrpcMethod> methods = new ConcurrentHashMap<>();
+
+    private GrpcDescriptorCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static GrpcDescriptorCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the grpc method of the meta data.
+     *
+     * @param metaData the meta data
+     * @return the grpc method
+     */
+    public GrpcMethod obtain(final MetaData metaData) {
+        GrpcMethod method = methods.get(metaData.getPath());
+        if (Objects.nonNull(method) && method.isBuiltFrom(metaData)) {
+            return method;
+        }
+        method = new GrpcMethod(metaData);
+        methods.put(metaData.getPath(), method);
+        return method;
+    }
+
+    /**
+     * Invalidate the grpc method of the path.
+     *
+     * @param path the meta data path
+     */
+    public void invalidate(final String path) {
+        methods.remove(path);
+    }
+
+    /**
+     * Invalidate all the grpc methods.
+     */
+    public void invalidateAll() {
+        methods.clear();
+    }
+
+    /**
+     * The descriptors of one grpc method, they are built on the first use.
+     */
+    public static final class GrpcMethod {
+
+        private final String serviceName;
+
+        private final String methodName;
+
+        private final String rpcExt;
+
+        private final GrpcPlugin.GrpcExtInfo extInfo;
+
+        private final Supplier<MethodDescriptor<DynamicMessage, DynamicMessage>> jsonMethodDescriptor;
+
+        private final Supplier<MethodDescriptor<byte[], byte[]>> rawMethodDescriptor;
+
+        private GrpcMethod(final MetaData metaData) {
+            this.serviceName = metaData.getServiceName();
+            this.methodName = metaData.getMethodName();
+            this.rpcExt = metaData.getRpcExt();
+            this.extInfo = Optional.ofNullable(GsonUtils.getGson().fromJson(rpcExt, GrpcPlugin.GrpcExtInfo.class))
+                    .orElseGet(GrpcPlugin.GrpcExtInfo::new);
+            this.jsonMethodDescriptor = Suppliers.memoize(() -> JsonMessage.buildJsonMarshallerMethodDescriptor(serviceName, methodName, extInfo.getMethodType()));
+            this.rawMethodDescriptor = Suppliers.memoize(() -> MethodDescriptor.<byte[], byte[]>newBuilder()
+                    .setType(Optional.ofNullable(extInfo.getMethodType()).orElse(MethodDescriptor.MethodType.UNARY))
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName, methodName))
+                    .setRequestMarshaller(ByteArrayMarshaller.INSTANCE)
+                    .setResponseMarshaller(ByteArrayMarshaller.INSTANCE)
+                    .build());
+        }
+
+        /**
+         * Gets the ext info.
+         *
+         * @return the ext info
+         */
+        public GrpcPlugin.GrpcExtInfo getExtInfo() {
+            return extInfo;
+        }
+
+        /**
+         * Gets the method descriptor of the json service, which converts the messages from and to json.
+         *
+         * @return the json method descriptor
+         */
+        public MethodDescriptor<DynamicMessage, DynamicMessage> getJsonMethodDescriptor() {
+            return jsonMethodDescriptor.get();
+        }
+
+        /**
+         * Gets the method descriptor of the original service, which passes the protobuf bytes through.
+         *
+         * @return the raw method descriptor
+         */
+        public MethodDescriptor<byte[], byte[]> getRawMethodDescriptor() {
+            return rawMethodDescriptor.get();
+        }
+
+        private boolean isBuiltFrom(final MetaData metaData) {
+            return Objects.equals(serviceName, metaData.getServiceName())
+                    && Objects.equals(methodName, metaData.getMethodName())
+                    && Objects.equals(rpcExt, metaData.getRpcExt());
+        }
+    }
+}
@@ -17,17 +17,23 @@
 
 package org.apache.shenyu.plugin.grpc.client;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.DynamicMessage;
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.Context;
 import io.grpc.ManagedChannel;
 import io.grpc.MethodDescriptor;
 import io.grpc.stub.StreamObserver;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.utils.GsonUtils;
+import org.apache.shenyu.plugin.grpc.cache.GrpcDescriptorCache;
 import org.apache.shenyu.plugin.grpc.exception.ShenyuGrpcException;
 import org.apache.shenyu.plugin.grpc.proto.CompleteObserver;
+import org.apache.shenyu.plugin.grpc.proto.FlowControlObserver;
 import org.apache.shenyu.plugin.grpc.proto.MessageWriter;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcCallRequest;
 import org.apache.shenyu.plugin.grpc.proto.ShenyuGrpcResponse;
@@ -35,11 +41,12 @@ import org.apache.shenyu.plugin.grpc.proto.CompositeStreamObserver;
 import org.apache.shenyu.protocol.grpc.message.JsonMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
 
 import java.io.Closeable;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 import static io.grpc.stub.ClientCalls.asyncServerStreamingCall;
 import static io.grpc.stub.ClientCalls.asyncUnaryCall;
@@ -72,40 +79,71 @@ public class ShenyuGrpcClient implements Closeable {
                                                       final CallOptions callOptions,
                                                       final String requestJsons,
                                                       final MethodDescriptor.MethodType methodType) {
-        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
-        DynamicMessage jsonResponse = JsonMessage.buildJsonMessage();
-        
-        MethodDescriptor<DynamicMessage, DynamicMessage> jsonMarshallerMethodDescriptor = JsonMessage.createJsonMarshallerMethodDescriptor(metaData.getServiceName(),
-                metaData.getMethodName(),
-                methodType,
-                jsonRequestList.get(0),
-                jsonResponse);
-        
         ShenyuGrpcResponse shenyuGrpcResponse = new ShenyuGrpcResponse();
-        StreamObserver<DynamicMessage> streamObserver = MessageWriter.newInstance(shenyuGrpcResponse);
-        
-        ShenyuGrpcCallRequest callParams = new ShenyuGrpcCallRequest();
-        callParams.setMethodDescriptor(jsonMarshallerMethodDescriptor);
-        callParams.setChannel(channel);
-        callParams.setCallOptions(callOptions);
-        callParams.setResponseObserver(streamObserver);
-        callParams.setRequests(jsonRequestList);
-        
-        try {
-            this.invoke(callParams).get();
-        } catch (InterruptedException e) {
-            // InterruptedExceptions should never be ignored in the code.
-            // InterruptedExceptions should either be rethrown - immediately or after cleaning up the method’s state -
-            // or the thread should be re-interrupted by calling Thread.interrupt() even if this is supposed to be a single-threaded application.
-            // Any other course of action risks delaying thread shutdown and loses the information
-            // that the thread was interrupted - probably without finishing its task.
-            LOG.error("Grpc plugin invoke method is exception, Will cause the thread to be interrupted");
-            Thread.currentThread().interrupt();
-            throw new ShenyuGrpcException("Caught exception while waiting for rpc :{ " + e.getMessage() + "}", e);
-        } catch (ExecutionException e) {
-            throw new ShenyuGrpcException("Caught exception while waiting for rpc :{ " + e.getMessage() + "}", e);
-        }
-        return CompletableFuture.completedFuture(shenyuGrpcResponse);
+        ShenyuGrpcCallRequest callParams = buildCallRequest(metaData, callOptions, requestJsons, MessageWriter.newInstance(shenyuGrpcResponse));
+        CompletableFuture<ShenyuGrpcResponse> result = new CompletableFuture<>();
+        // complete on the grpc callback thread, never wait for the response on the caller thread
+        Futures.addCallback(this.invoke(callParams), new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(final Void ignored) {
+                result.complete(shenyuGrpcResponse);
+            }
+            
+            @Override
+            public void onFailure(final Throwable t) {
+                result.completeExceptionally(new ShenyuGrpcException("Caught exception while waiting for rpc :{ " + t.getMessage() + "}", t));
+            }
+        }, MoreExecutors.directExecutor());
+        return result;
+    }
+    
+    /**
+     * Grpc streaming call, the response messages are emitted as soon as they arrive.
+     * the call is bound to the grpc context of the caller, and cancelled once the subscription is disposed.
+     *
+     * @param metaData     metadata
+     * @param callOptions  callOptions
+     * @param requestJsons requestJsons
+     * @param methodType   methodType
+     * @return Flux the response messages
+     */
+    public Flux<Object> stream(final MetaData metaData,
+                               final CallOptions callOptions,
+                               final String requestJsons,
+                               final MethodDescriptor.MethodType methodType) {
+        final Context context = Context.current();
+        return Flux.create(sink -> {
+            MessageWriter<DynamicMessage> messageWriter = MessageWriter.newInstance(message -> {
+                if (Objects.nonNull(message)) {
+                    sink.next(message);
+                }
+            });
+            ShenyuGrpcCallRequest callParams = buildCallRequest(metaData, callOptions, requestJsons, messageWriter);
+            // the response messages are requested as the subscriber demands
+            FlowControlObserver<DynamicMessage> responseObserver = FlowControlObserver.of(messageWriter, sink, callParams.getMethodDescriptor().getType());
+            callParams.setResponseObserver(responseObserver);
+            Context.CancellableContext cancellableContext = context.withCancellation();
+            sink.onDispose(() -> cancellableContext.cancel(null));
+            Context previous = cancellableContext.attach();
+            ListenableFuture<Void> future;
+            try {
+                future = this.invoke(callParams);
+            } finally {
+                cancellableContext.detach(previous);
+            }
+            responseObserver.start();
+            Futures.addCallback(future, new FutureCallback<Void>() {
+                @Override
+                public void onSuccess(final Void ignored) {
+                    sink.complete();
+                }
+                
+                @Override
+                public void onFailure(final Throwable t) {
+                    sink.error(new ShenyuGrpcException("Caught exception while streaming rpc :{ " + t.getMessage() + "}", t));
+                }
+            }, MoreExecutors.directExecutor());
+        });
     }
     
     /**
@@ -146,11 +184,91 @@ public class ShenyuGrpcClient implements Closeable {
         }
     }
     
+    /**
+     * Grpc passthrough call, the protobuf messages are sent to the original service without json conversion.
+     *
+     * @param metaData    metadata
+     * @param callOptions callOptions
+     * @param requests    the protobuf messages
+     * @return Flux the protobuf response messages
+     */
+    public Flux<byte[]> passthrough(final MetaData metaData,
+                                    final CallOptions callOptions,
+                                    final List<byte[]> requests) {
+        final MethodDescriptor<byte[], byte[]> methodDescriptor = GrpcDescriptorCache.getInstance().obtain(metaData).getRawMethodDescriptor();
+        final Context context = Context.current();
+        return Flux.create(sink -> {
+            StreamObserver<byte[]> rawObserver = new StreamObserver<byte[]>() {
+                @Override
+                public void onNext(final byte[] value) {
+                    sink.next(value);
+                }
+                
+                @Override
+                public void onError(final Throwable t) {
+                    sink.error(new ShenyuGrpcException("Caught exception while passing through rpc :{ " + t.getMessage() + "}", t));
+                }
+                
+                @Override
+                public void onCompleted() {
+                    sink.complete();
+                }
+            };
+            FlowControlObserver<byte[]> responseObserver = FlowControlObserver.of(rawObserver, sink, methodDescriptor.getType());
+            Context.CancellableContext cancellableContext = context.withCancellation();
+            sink.onDispose(() -> cancellableContext.cancel(null));
+            Context previous = cancellableContext.attach();
+            try {
+                ClientCall<byte[], byte[]> call = channel.newCall(methodDescriptor, callOptions);
+                // an empty body is the default instance of the request message
+                byte[] firstRequest = requests.isEmpty() ? new byte[0] : requests.get(0);
+                StreamObserver<byte[]> requestObserver;
+                switch (methodDescriptor.getType()) {
+                    case UNARY:
+                        asyncUnaryCall(call, firstRequest, responseObserver);
+                        break;
+                    case SERVER_STREAMING:
+                        asyncServerStreamingCall(call, firstRequest, responseObserver);
+                        break;
+                    case CLIENT_STREAMING:
+                        requestObserver = asyncClientStreamingCall(call, responseObserver);
+                        requests.forEach(requestObserver::onNext);
+                        requestObserver.onCompleted();
+                        break;
+                    default:
+                        requestObserver = asyncBidiStreamingCall(call, responseObserver);
+                        requests.forEach(requestObserver::onNext);
+                        requestObserver.onCompleted();
+                        break;
+                }
+            } finally {
+                cancellableContext.detach(previous);
+            }
+            responseObserver.start();
+        });
+    }
+    
     @Override
     public void close() {
         this.channel.shutdown();
     }
     
+    private ShenyuGrpcCallRequest buildCallRequest(final MetaData metaData,
+                                                   final CallOptions callOptions,
+                                                   final String requestJsons,
+                                                   final StreamObserver<DynamicMessage> streamObserver) {
+        List<DynamicMessage> jsonRequestList = JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(requestJsons));
+        MethodDescriptor<DynamicMessage, DynamicMessage> jsonMarshallerMethodDescriptor = GrpcDescriptorCache.getInstance().obtain(metaData).getJsonMethodDescriptor();
+        
+        ShenyuGrpcCallRequest callParams = new ShenyuGrpcCallRequest();
+        callParams.setMethodDescriptor(jsonMarshallerMethodDescriptor);
+        callParams.setChannel(channel);
+        callParams.setCallOptions(callOptions);
+        callParams.setResponseObserver(streamObserver);
+        callParams.setRequests(jsonRequestList);
+        return callParams;
+    }
+    
     private ClientCall<DynamicMessage, DynamicMessage> createCall(final ShenyuGrpcCallRequest callParams) {
         return callParams.getChannel().newCall(callParams.getMethodDescriptor(),
                 callParams.getCallOptions());
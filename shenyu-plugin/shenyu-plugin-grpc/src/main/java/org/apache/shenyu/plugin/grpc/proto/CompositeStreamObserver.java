@@ -18,14 +18,17 @@
 package org.apache.shenyu.plugin.grpc.proto;
 
 import com.google.common.collect.ImmutableList;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A which groups multiple observers and executes them all.
+ * the request stream is handed over to the observers which control the flow of the call.
  */
-public final class CompositeStreamObserver<T> implements StreamObserver<T> {
+public final class CompositeStreamObserver<T> implements ClientResponseObserver<Object, T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(CompositeStreamObserver.class);
 
@@ -48,6 +51,16 @@ public final class CompositeStreamObserver<T> implements StreamObserver<T> {
         return new CompositeStreamObserver<>(ImmutableList.of(observers, completeObserver));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void beforeStart(final ClientCallStreamObserver<Object> requestStream) {
+        for (StreamObserver<T> observer : observers) {
+            if (observer instanceof ClientResponseObserver) {
+                ((ClientResponseObserver<Object, T>) observer).beforeStart(requestStream);
+            }
+        }
+    }
+
     @Override
     public void onCompleted() {
         for (StreamObserver<T> observer : observers) {
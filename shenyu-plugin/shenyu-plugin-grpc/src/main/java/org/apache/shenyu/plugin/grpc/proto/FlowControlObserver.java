@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import reactor.core.publisher.FluxSink;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A observer which requests the response messages of a streaming call by the demand of the flux sink,
+ * instead of the automatic flow control of grpc, so a fast server stream can not outrun the subscriber.
+ * the call can only be requested once it has started, so the demand is kept until {@link #start()}.
+ */
+public final class FlowControlObserver<T> implements ClientResponseObserver<Object, T> {
+
+    private final StreamObserver<T> delegate;
+
+    private final FluxSink<?> sink;
+
+    private final boolean streaming;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private volatile ClientCallStreamObserver<Object> requestStream;
+
+    private volatile boolean started;
+
+    private FlowControlObserver(final StreamObserver<T> delegate, final FluxSink<?> sink, final boolean streaming) {
+        this.delegate = delegate;
+        this.sink = sink;
+        this.streaming = streaming;
+    }
+
+    /**
+     * Bind the response observer of the call to the demand of the sink, only the streaming responses are bound.
+     *
+     * @param delegate   the response observer
+     * @param sink       the sink which the response messages are emitted to
+     * @param methodType the method type of the call
+     * @param <T>        t
+     * @return the observer
+     */
+    public static <T> FlowControlObserver<T> of(final StreamObserver<T> delegate, final FluxSink<?> sink, final MethodDescriptor.MethodType methodType) {
+        return new FlowControlObserver<>(delegate, sink, !methodType.serverSendsOneMessage());
+    }
+
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<Object> requestStream) {
+        if (!streaming) {
+            return;
+        }
+        requestStream.disableAutoRequestWithInitial(0);
+        this.requestStream = requestStream;
+        sink.onRequest(this::request);
+    }
+
+    /**
+     * Forward the demand to the call, it must be invoked after the call has started,
+     * that is once {@code ClientCalls.asyncServerStreamingCall} or {@code ClientCalls.asyncBidiStreamingCall} returns.
+     */
+    public void start() {
+        started = true;
+        drain();
+    }
+
+    @Override
+    public void onNext(final T value) {
+        delegate.onNext(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        delegate.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        delegate.onCompleted();
+    }
+
+    private void request(final long n) {
+        // the demand is added before it is drained, so either this or the start drains it
+        pending.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+        drain();
+    }
+
+    private void drain() {
+        if (!started || Objects.isNull(requestStream)) {
+            return;
+        }
+        long n = pending.getAndSet(0);
+        if (n > 0) {
+            requestStream.request((int) Math.min(n, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.grpc.proto;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.protocol.grpc.message.JsonMessage;
@@ -40,10 +41,10 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
 
     private static final Gson GSON = new Gson();
 
-    private final ShenyuGrpcResponse grpcResponse;
+    private final Consumer<Object> resultConsumer;
 
-    private MessageWriter(final ShenyuGrpcResponse grpcResponse) {
-        this.grpcResponse = grpcResponse;
+    private MessageWriter(final Consumer<Object> resultConsumer) {
+        this.resultConsumer = resultConsumer;
     }
 
     /**
@@ -54,7 +55,18 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
      * @return message message
      */
     public static <T extends Message> MessageWriter<T> newInstance(final ShenyuGrpcResponse results) {
-        return new MessageWriter<>(results);
+        return new MessageWriter<>(result -> results.getResults().add(result));
+    }
+
+    /**
+     * New instance which hands over every message as soon as it arrives.
+     *
+     * @param resultConsumer the consumer of the converted message
+     * @param <T> t
+     * @return message message
+     */
+    public static <T extends Message> MessageWriter<T> newInstance(final Consumer<Object> resultConsumer) {
+        return new MessageWriter<>(resultConsumer);
     }
 
     @Override
@@ -64,12 +76,12 @@ public final class MessageWriter<T extends Message> implements StreamObserver<T>
             respData = respData.trim();
             if (StringUtils.startsWith(respData, "{") && StringUtils.endsWith(respData, "}")) {
                 // standardized json output.
-                grpcResponse.getResults().add(GSON.fromJson(respData,
+                resultConsumer.accept(GSON.fromJson(respData,
                         new TypeToken<HashMap<String, Object>>() {
                         }.getType()));
             }
         } else {
-            grpcResponse.getResults().add(respData);
+            resultConsumer.accept(respData);
         }
     }
 
@@ -40,18 +40,27 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +112,86 @@ public class GrpcPluginTest {
         StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
     }
 
+    @Test
+    @SuppressWarnings("all")
+    public void testDoExecuteStreaming() throws ClassNotFoundException, NoSuchFieldException, IllegalAccessException {
+        ServerWebExchange exchange = getServerWebExchange();
+        exchange.getAttributes().put(Constants.PARAM_TRANSFORM, "{message:1}");
+        MetaData metaData = getMetaData();
+        metaData.setRpcExt("{timeout:5000,methodType:SERVER_STREAMING}");
+        exchange.getAttributes().put(Constants.META_DATA, metaData);
+
+        Class<?> grpcClientCacheClass = Class.forName("org.apache.shenyu.plugin.grpc.cache.GrpcClientCache");
+        Field clientCacheField = grpcClientCacheClass.getDeclaredField("CLIENT_CACHE");
+        clientCacheField.setAccessible(true);
+        Map<String, ShenyuGrpcClient> clientCacheMap = (Map<String, ShenyuGrpcClient>) clientCacheField.get(grpcClientCacheClass);
+        ShenyuGrpcClient mockClient = mock(ShenyuGrpcClient.class);
+        when(mockClient.stream(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.just("first", "second"));
+        clientCacheMap.put("/grpc", mockClient);
+
+        when(chain.execute(Mockito.any())).thenReturn(Mono.empty());
+        RuleData data = mock(RuleData.class);
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
+        Mockito.verify(mockClient, Mockito.never()).call(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Object result = exchange.getAttribute(Constants.RPC_RESULT);
+        assertTrue(result instanceof Flux);
+        StepVerifier.create((Flux<Object>) result).expectNext("first", "second").verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    public void testDoExecutePassthrough() throws ClassNotFoundException, NoSuchFieldException, IllegalAccessException {
+        final byte[] request = new byte[]{10, 1, 49};
+        final byte[] response = new byte[]{10, 2, 111, 107};
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/grpc/echo")
+                .contentType(MediaType.parseMediaType("application/x-protobuf"))
+                .body(Flux.just(new DefaultDataBufferFactory().wrap(request))));
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.META_DATA, getMetaData());
+
+        Class<?> grpcClientCacheClass = Class.forName("org.apache.shenyu.plugin.grpc.cache.GrpcClientCache");
+        Field clientCacheField = grpcClientCacheClass.getDeclaredField("CLIENT_CACHE");
+        clientCacheField.setAccessible(true);
+        Map<String, ShenyuGrpcClient> clientCacheMap = (Map<String, ShenyuGrpcClient>) clientCacheField.get(grpcClientCacheClass);
+        ShenyuGrpcClient mockClient = mock(ShenyuGrpcClient.class);
+        when(mockClient.passthrough(Mockito.any(), Mockito.any(), Mockito.argThat(requests -> requests.size() == 1 && Arrays.equals(request, requests.get(0)))))
+                .thenReturn(Flux.just(response));
+        clientCacheMap.put("/grpc", mockClient);
+
+        RuleData data = mock(RuleData.class);
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
+        Mockito.verify(chain, Mockito.never()).execute(Mockito.any());
+        assertEquals(MediaType.parseMediaType("application/x-protobuf"), exchange.getResponse().getHeaders().getContentType());
+        StepVerifier.create(DataBufferUtils.join(((MockServerHttpResponse) exchange.getResponse()).getBody()).map(dataBuffer -> {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return bytes;
+        })).assertNext(bytes -> assertArrayEquals(response, bytes)).verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("all")
+    public void testDoExecuteGrpcContentTypeNotPassthrough() throws ClassNotFoundException, NoSuchFieldException, IllegalAccessException {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/grpc/echo")
+                .contentType(MediaType.parseMediaType("application/grpc"))
+                .body(Flux.just(new DefaultDataBufferFactory().wrap(new byte[]{0, 0, 0, 0, 1, 1}))));
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.META_DATA, getMetaData());
+
+        Class<?> grpcClientCacheClass = Class.forName("org.apache.shenyu.plugin.grpc.cache.GrpcClientCache");
+        Field clientCacheField = grpcClientCacheClass.getDeclaredField("CLIENT_CACHE");
+        clientCacheField.setAccessible(true);
+        Map<String, ShenyuGrpcClient> clientCacheMap = (Map<String, ShenyuGrpcClient>) clientCacheField.get(grpcClientCacheClass);
+        ShenyuGrpcClient mockClient = mock(ShenyuGrpcClient.class);
+        clientCacheMap.put("/grpc", mockClient);
+
+        RuleData data = mock(RuleData.class);
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, selector, data)).expectSubscription().verifyComplete();
+        Mockito.verify(mockClient, Mockito.never()).passthrough(Mockito.any(), Mockito.any(), Mockito.any());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.getResponse().getStatusCode());
+    }
+
     @Test
     public void testDoExecuteMetaDataError() {
         ServerWebExchange exchange = getServerWebExchange();
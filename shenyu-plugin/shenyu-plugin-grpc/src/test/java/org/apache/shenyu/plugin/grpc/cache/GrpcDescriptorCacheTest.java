@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.cache;
+
+import io.grpc.MethodDescriptor;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The Test Case For {@link GrpcDescriptorCache}.
+ */
+public class GrpcDescriptorCacheTest {
+
+    private final GrpcDescriptorCache cache = GrpcDescriptorCache.getInstance();
+
+    @AfterEach
+    public void tearDown() {
+        cache.invalidateAll();
+    }
+
+    @Test
+    public void testObtain() {
+        MetaData metaData = buildMetaData("{timeout:3000,methodType:SERVER_STREAMING}");
+        GrpcDescriptorCache.GrpcMethod method = cache.obtain(metaData);
+        assertSame(method, cache.obtain(buildMetaData("{timeout:3000,methodType:SERVER_STREAMING}")));
+        assertEquals(3000, method.getExtInfo().getTimeout());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, method.getExtInfo().getMethodType());
+        assertSame(method.getJsonMethodDescriptor(), method.getJsonMethodDescriptor());
+        assertEquals("echo.EchoService" + GrpcConstants.GRPC_JSON_SERVICE + "/echo", method.getJsonMethodDescriptor().getFullMethodName());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, method.getJsonMethodDescriptor().getType());
+        assertEquals("echo.EchoService/echo", method.getRawMethodDescriptor().getFullMethodName());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, method.getRawMethodDescriptor().getType());
+    }
+
+    @Test
+    public void testRebuildOnChange() {
+        GrpcDescriptorCache.GrpcMethod method = cache.obtain(buildMetaData("{timeout:3000,methodType:UNARY}"));
+        GrpcDescriptorCache.GrpcMethod changed = cache.obtain(buildMetaData("{timeout:5000,methodType:UNARY}"));
+        assertNotSame(method, changed);
+        assertEquals(5000, changed.getExtInfo().getTimeout());
+        assertSame(changed, cache.obtain(buildMetaData("{timeout:5000,methodType:UNARY}")));
+    }
+
+    @Test
+    public void testInvalidate() {
+        MetaData metaData = buildMetaData("{timeout:3000,methodType:UNARY}");
+        GrpcDescriptorCache.GrpcMethod method = cache.obtain(metaData);
+        cache.invalidate(metaData.getPath());
+        assertNotSame(method, cache.obtain(metaData));
+    }
+
+    private MetaData buildMetaData(final String rpcExt) {
+        return MetaData.builder()
+                .path("/grpc/echo")
+                .serviceName("echo.EchoService")
+                .methodName("echo")
+                .rpcExt(rpcExt)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.client;
+
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.plugin.grpc.cache.GrpcDescriptorCache;
+import org.apache.shenyu.plugin.grpc.proto.ByteArrayMarshaller;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Test Case For ShenyuGrpcClient, against an in-process grpc server.
+ */
+public class ShenyuGrpcClientTest {
+
+    private static final String SERVICE_NAME = "echo.EchoService";
+
+    private static final int MESSAGE_COUNT = 5;
+
+    private Server server;
+
+    private ShenyuGrpcClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        ServerServiceDefinition service = ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(rawMethod("serverStreaming", MethodDescriptor.MethodType.SERVER_STREAMING),
+                    ServerCalls.asyncServerStreamingCall(this::repeat))
+                .addMethod(rawMethod("bidiStreaming", MethodDescriptor.MethodType.BIDI_STREAMING),
+                    ServerCalls.asyncBidiStreamingCall(this::echo))
+                .build();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        ManagedChannel channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        client = new ShenyuGrpcClient(channel);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        client.close();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        GrpcDescriptorCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    public void testServerStreamingByDemand() {
+        StepVerifier.create(client.passthrough(metaData("serverStreaming", "SERVER_STREAMING"), CallOptions.DEFAULT,
+                Collections.singletonList(new byte[] {1})), 2)
+                .expectNextCount(2)
+                .thenRequest(MESSAGE_COUNT - 2)
+                .expectNextCount(MESSAGE_COUNT - 2)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void testBidiStreamingByDemand() {
+        StepVerifier.create(client.passthrough(metaData("bidiStreaming", "BIDI_STREAMING"), CallOptions.DEFAULT,
+                Arrays.asList(new byte[] {1}, new byte[] {2}, new byte[] {3})), 1)
+                .expectNextMatches(message -> message[0] == 1)
+                .thenRequest(2)
+                .expectNextMatches(message -> message[0] == 2)
+                .expectNextMatches(message -> message[0] == 3)
+                .expectComplete()
+                .verify();
+    }
+
+    private void repeat(final byte[] request, final StreamObserver<byte[]> responseObserver) {
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            responseObserver.onNext(request);
+        }
+        responseObserver.onCompleted();
+    }
+
+    private StreamObserver<byte[]> echo(final StreamObserver<byte[]> responseObserver) {
+        return new StreamObserver<byte[]>() {
+            @Override
+            public void onNext(final byte[] value) {
+                responseObserver.onNext(value);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                responseObserver.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private static MethodDescriptor<byte[], byte[]> rawMethod(final String methodName, final MethodDescriptor.MethodType methodType) {
+        return MethodDescriptor.<byte[], byte[]>newBuilder()
+                .setType(methodType)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, methodName))
+                .setRequestMarshaller(ByteArrayMarshaller.INSTANCE)
+                .setResponseMarshaller(ByteArrayMarshaller.INSTANCE)
+                .build();
+    }
+
+    private static MetaData metaData(final String methodName, final String methodType) {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/echo/" + methodName);
+        metaData.setServiceName(SERVICE_NAME);
+        metaData.setMethodName(methodName);
+        metaData.setRpcExt("{\"timeout\":5000,\"methodType\":\"" + methodType + "\"}");
+        return metaData;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.grpc.proto;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * The Test Case For FlowControlObserver.
+ */
+public class FlowControlObserverTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRequestByDemand() {
+        final ClientCallStreamObserver<Object> requestStream = mock(ClientCallStreamObserver.class);
+        final StreamObserver<String> delegate = mock(StreamObserver.class);
+        Flux<String> flux = Flux.create(sink -> {
+            FlowControlObserver<String> observer = FlowControlObserver.of(delegate, sink, MethodDescriptor.MethodType.SERVER_STREAMING);
+            CompositeStreamObserver.of(observer, new CompleteObserver<>()).beforeStart(requestStream);
+            // the demand before the call starts is kept
+            verify(requestStream, never()).request(anyInt());
+            observer.start();
+        });
+        StepVerifier.create(flux, 2).thenRequest(3).thenCancel().verify();
+        verify(requestStream).disableAutoRequestWithInitial(0);
+        ArgumentCaptor<Integer> requested = ArgumentCaptor.forClass(Integer.class);
+        verify(requestStream, atLeastOnce()).request(requested.capture());
+        assertEquals(5, requested.getAllValues().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSingleResponse() {
+        final ClientCallStreamObserver<Object> requestStream = mock(ClientCallStreamObserver.class);
+        final StreamObserver<String> delegate = mock(StreamObserver.class);
+        Flux.create(sink -> {
+            FlowControlObserver<String> observer = FlowControlObserver.of(delegate, sink, MethodDescriptor.MethodType.UNARY);
+            observer.beforeStart(requestStream);
+            observer.start();
+        }).subscribe();
+        verifyNoInteractions(requestStream);
+    }
+}
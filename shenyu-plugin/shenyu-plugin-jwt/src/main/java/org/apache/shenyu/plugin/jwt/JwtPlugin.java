@@ -32,6 +32,7 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.jwt.cache.VerifiedJwtCache;
 import org.apache.shenyu.plugin.jwt.config.JwtConfig;
 import org.apache.shenyu.plugin.jwt.exception.ThrowingFunction;
 import org.apache.shenyu.plugin.jwt.handle.JwtPluginDataHandler;
@@ -69,7 +70,7 @@ public class JwtPlugin extends AbstractShenyuPlugin {
 
         // compatible processing
         String finalAuthorization = compatible(token, authorization);
-        Map<String, Object> jwtBody = checkAuthorization(finalAuthorization, jwtConfig.getSecretKey());
+        Map<String, Object> jwtBody = verifyAuthorization(finalAuthorization, jwtConfig);
 
         if (Objects.isNull(jwtBody)) {
             Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.ERROR_TOKEN);
@@ -126,6 +127,14 @@ public class JwtPlugin extends AbstractShenyuPlugin {
         return authorization.contains(AUTH2_TOKEN);
     }
 
+    private Map<String, Object> verifyAuthorization(final String authorization, final JwtConfig jwtConfig) {
+        VerifiedJwtCache verifiedJwtCache = Singleton.INST.get(VerifiedJwtCache.class);
+        if (StringUtils.isEmpty(authorization) || jwtConfig.getVerifiedCacheTtl() <= 0 || Objects.isNull(verifiedJwtCache)) {
+            return checkAuthorization(authorization, jwtConfig.getSecretKey());
+        }
+        return verifiedJwtCache.get(authorization, token -> checkAuthorization(token, jwtConfig.getSecretKey()));
+    }
+
     /**
      * check Authorization.
      *
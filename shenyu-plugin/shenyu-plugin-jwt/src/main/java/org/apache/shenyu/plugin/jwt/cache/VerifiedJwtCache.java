@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The claims of the verified tokens, keyed by the sha256 of the token.
+ *
+ * <p>An entry lives until the {@code exp} of the token, at most for the ttl. Tokens which fail
+ * the verification are not cached.</p>
+ */
+public class VerifiedJwtCache {
+
+    private static final String EXPIRATION = "exp";
+
+    private final Cache<String, VerifiedJwt> cache;
+
+    /**
+     * Instantiates a new verified jwt cache.
+     *
+     * @param maximumSize the maximum count of the cached tokens
+     * @param ttl the maximum time a token is cached
+     */
+    public VerifiedJwtCache(final long maximumSize, final Duration ttl) {
+        final long ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedJwt>() {
+                    @Override
+                    public long expireAfterCreate(final String key, final VerifiedJwt value, final long currentTime) {
+                        return Math.min(ttlNanos, value.remainingNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final String key, final VerifiedJwt value, final long currentTime,
+                                                  final long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final String key, final VerifiedJwt value, final long currentTime,
+                                                final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Gets the claims of the token, verifying it when it is not cached.
+     *
+     * @param token the token
+     * @param verifier verifies the token, returning null when it is invalid
+     * @return the claims, or null when the token is invalid
+     */
+    public Map<String, Object> get(final String token, final Function<String, Map<String, Object>> verifier) {
+        VerifiedJwt verified = cache.get(DigestUtils.sha256Hex(token), key -> {
+            Map<String, Object> claims = verifier.apply(token);
+            return Objects.isNull(claims) ? null : new VerifiedJwt(claims);
+        });
+        return Objects.isNull(verified) ? null : verified.claims;
+    }
+
+    /**
+     * Gets the count of the cached tokens.
+     *
+     * @return the count of the tokens
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static final class VerifiedJwt {
+
+        private final Map<String, Object> claims;
+
+        private final long expiresAtMillis;
+
+        VerifiedJwt(final Map<String, Object> claims) {
+            this.claims = Collections.unmodifiableMap(claims);
+            Object expiration = claims.get(EXPIRATION);
+            this.expiresAtMillis = expiration instanceof Number ? TimeUnit.SECONDS.toMillis(((Number) expiration).longValue()) : Long.MAX_VALUE;
+        }
+
+        long remainingNanos() {
+            if (expiresAtMillis == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+    }
+}
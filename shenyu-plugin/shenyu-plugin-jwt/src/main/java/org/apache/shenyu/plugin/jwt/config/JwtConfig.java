@@ -29,6 +29,16 @@ public class JwtConfig implements Serializable {
      */
     private String secretKey;
 
+    /**
+     * the seconds a verified token is cached at most, 0 disables the cache.
+     */
+    private long verifiedCacheTtl = 300;
+
+    /**
+     * the maximum count of the cached verified tokens.
+     */
+    private long verifiedCacheSize = 10000;
+
     /**
      * Gets secret key.
      *
@@ -47,4 +57,40 @@ public class JwtConfig implements Serializable {
         this.secretKey = secretKey;
     }
 
+    /**
+     * Gets verified cache ttl.
+     *
+     * @return the verified cache ttl in seconds
+     */
+    public long getVerifiedCacheTtl() {
+        return verifiedCacheTtl;
+    }
+
+    /**
+     * Sets verified cache ttl.
+     *
+     * @param verifiedCacheTtl the verified cache ttl in seconds
+     */
+    public void setVerifiedCacheTtl(final long verifiedCacheTtl) {
+        this.verifiedCacheTtl = verifiedCacheTtl;
+    }
+
+    /**
+     * Gets verified cache size.
+     *
+     * @return the verified cache size
+     */
+    public long getVerifiedCacheSize() {
+        return verifiedCacheSize;
+    }
+
+    /**
+     * Sets verified cache size.
+     *
+     * @param verifiedCacheSize the verified cache size
+     */
+    public void setVerifiedCacheSize(final long verifiedCacheSize) {
+        this.verifiedCacheSize = verifiedCacheSize;
+    }
+
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.jwt.handle;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -27,10 +28,15 @@ import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.jwt.cache.VerifiedJwtCache;
 import org.apache.shenyu.plugin.jwt.config.JwtConfig;
 import org.apache.shenyu.plugin.jwt.rule.JwtRuleHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -41,13 +47,27 @@ public class JwtPluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, JwtRuleHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    private static final Logger LOG = LoggerFactory.getLogger(JwtPluginDataHandler.class);
+
+    private static final String VERIFIED_CACHE_TTL = "verifiedCacheTtl";
+
+    private static final String VERIFIED_CACHE_SIZE = "verifiedCacheSize";
+
     @Override
     public void handlerPlugin(final PluginData pluginData) {
         Map<String, String> configMap = GsonUtils.getInstance().toObjectMap(pluginData.getConfig(), String.class);
         String secretKey = Optional.ofNullable(configMap.get(Constants.SECRET_KEY)).orElse("");
         JwtConfig jwtConfig = new JwtConfig();
         jwtConfig.setSecretKey(secretKey);
+        jwtConfig.setVerifiedCacheTtl(parseLong(configMap, VERIFIED_CACHE_TTL, jwtConfig.getVerifiedCacheTtl()));
+        jwtConfig.setVerifiedCacheSize(parseLong(configMap, VERIFIED_CACHE_SIZE, jwtConfig.getVerifiedCacheSize()));
+        JwtConfig previous = Singleton.INST.get(JwtConfig.class);
         Singleton.INST.single(JwtConfig.class, jwtConfig);
+        if (Objects.nonNull(Singleton.INST.get(VerifiedJwtCache.class)) && isSameCache(previous, jwtConfig)) {
+            return;
+        }
+        // a new cache drops the tokens verified with the previous secret key
+        Singleton.INST.single(VerifiedJwtCache.class, new VerifiedJwtCache(jwtConfig.getVerifiedCacheSize(), Duration.ofSeconds(jwtConfig.getVerifiedCacheTtl())));
     }
 
     @Override
@@ -62,4 +82,24 @@ public class JwtPluginDataHandler implements PluginDataHandler {
     public String pluginNamed() {
         return PluginEnum.JWT.getName();
     }
+
+    private static long parseLong(final Map<String, String> configMap, final String key, final long defaultValue) {
+        String value = configMap.get(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("jwt plugin config {} is not a number: {}, use the default value {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static boolean isSameCache(final JwtConfig previous, final JwtConfig current) {
+        return Objects.nonNull(previous)
+                && Objects.equals(previous.getSecretKey(), current.getSecretKey())
+                && previous.getVerifiedCacheTtl() == current.getVerifiedCacheTtl()
+                && previous.getVerifiedCacheSize() == current.getVerifiedCacheSize();
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shenyu.plugin.jwt.rule;
 
 import java.util.List;
+import java.util.Objects;
 
 public class DefaultJwtRuleHandle extends JwtRuleHandle {
 
@@ -55,6 +56,11 @@ public class DefaultJwtRuleHandle extends JwtRuleHandle {
          */
         private String headerVal;
 
+        /**
+         * the path of jwtVal, split once.
+         */
+        private transient String[] jwtPath;
+
         /**
          * get jwtVal.
          *
@@ -71,6 +77,19 @@ public class DefaultJwtRuleHandle extends JwtRuleHandle {
          */
         public void setJwtVal(final String jwtVal) {
             this.jwtVal = jwtVal;
+            this.jwtPath = null;
+        }
+
+        /**
+         * get the path of jwtVal split by dot.
+         *
+         * @return jwtPath
+         */
+        public String[] getJwtPath() {
+            if (Objects.isNull(jwtPath)) {
+                jwtPath = jwtVal.split("\\.");
+            }
+            return jwtPath;
         }
 
         /**
@@ -31,7 +31,6 @@ import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Join
 public class DefaultJwtConvertStrategy implements JwtConvertStrategy {
@@ -88,7 +87,7 @@ public class DefaultJwtConvertStrategy implements JwtConvertStrategy {
             }
 
             if (converter.getJwtVal().contains(".")) {
-                headers.add(converter.getHeaderVal(), parse(body, converter.getJwtVal().split("\\."), new AtomicInteger(0)));
+                headers.add(converter.getHeaderVal(), parse(body, converter.getJwtPath()));
             }
             headers.add(converter.getHeaderVal(), String.valueOf(body.get(converter.getJwtVal())));
 
@@ -99,26 +98,18 @@ public class DefaultJwtConvertStrategy implements JwtConvertStrategy {
      * Parsing multi-level tokens.
      *
      * @param body  token
-     * @param split jwt of key
-     * @param deep  level default 0
+     * @param path  jwt of key split by dot
      * @return token of val
      */
-    private String parse(final Map<String, Object> body,
-                         final String[] split,
-                         final AtomicInteger deep) {
-        for (Map.Entry<String, Object> entry : body.entrySet()) {
-
-            if (deep.get() == split.length - 1) {
-                return String.valueOf(body.get(split[deep.get()]));
-            }
-
-            if (entry.getKey().equals(split[deep.get()])) {
-                if (entry.getValue() instanceof Map) {
-                    deep.incrementAndGet();
-                    return parse((Map<String, Object>) entry.getValue(), split, deep);
-                }
+    private String parse(final Map<String, Object> body, final String[] path) {
+        Map<String, Object> current = body;
+        for (int i = 0; i < path.length - 1; i++) {
+            Object value = current.get(path[i]);
+            if (!(value instanceof Map)) {
+                return String.valueOf(value);
             }
+            current = (Map<String, Object>) value;
         }
-        return String.valueOf(body.get(split[deep.get()]));
+        return String.valueOf(current.get(path[path.length - 1]));
     }
 }
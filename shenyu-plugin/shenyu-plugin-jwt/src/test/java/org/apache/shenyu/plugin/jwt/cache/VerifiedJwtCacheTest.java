@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.cache;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test case for {@link VerifiedJwtCache}.
+ */
+public final class VerifiedJwtCacheTest {
+
+    @Test
+    public void testGet() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(1));
+        AtomicInteger verified = new AtomicInteger();
+        Map<String, Object> claims = ImmutableMap.of("userId", "1");
+        assertEquals(claims, cache.get("token", token -> {
+            verified.incrementAndGet();
+            return claims;
+        }));
+        assertEquals(claims, cache.get("token", token -> {
+            verified.incrementAndGet();
+            return claims;
+        }));
+        assertEquals(1, verified.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidTokenIsNotCached() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(1));
+        assertNull(cache.get("invalid", token -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiredToken() {
+        VerifiedJwtCache cache = new VerifiedJwtCache(10, Duration.ofMinutes(1));
+        long exp = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - 1;
+        AtomicInteger verified = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            cache.get("expired", token -> {
+                verified.incrementAndGet();
+                return ImmutableMap.of("exp", exp);
+            });
+        }
+        assertEquals(2, verified.get());
+    }
+}
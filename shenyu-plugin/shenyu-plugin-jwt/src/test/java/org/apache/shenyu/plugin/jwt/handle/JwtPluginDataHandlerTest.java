@@ -23,6 +23,7 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.Singleton;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.jwt.cache.VerifiedJwtCache;
 import org.apache.shenyu.plugin.jwt.config.JwtConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test case for {@link JwtPluginDataHandler}.
@@ -52,6 +55,33 @@ public final class JwtPluginDataHandlerTest {
         assertEquals(jwtConfig.getSecretKey(), map.get("secretKey"));
     }
 
+    @Test
+    public void testHandlerPluginRenewsVerifiedCache() {
+        jwtPluginDataHandlerUnderTest.handlerPlugin(new PluginData("pluginId", "pluginName", "{\"secretKey\":\"shenyu\"}", "0", false, null));
+        VerifiedJwtCache verifiedJwtCache = Singleton.INST.get(VerifiedJwtCache.class);
+        jwtPluginDataHandlerUnderTest.handlerPlugin(new PluginData("pluginId", "pluginName",
+                "{\"secretKey\":\"other\",\"verifiedCacheTtl\":\"60\"}", "0", false, null));
+        assertNotSame(verifiedJwtCache, Singleton.INST.get(VerifiedJwtCache.class));
+        assertEquals(60, Singleton.INST.get(JwtConfig.class).getVerifiedCacheTtl());
+    }
+
+    @Test
+    public void testHandlerPluginKeepsVerifiedCache() {
+        jwtPluginDataHandlerUnderTest.handlerPlugin(new PluginData("pluginId", "pluginName", "{\"secretKey\":\"same\"}", "0", false, null));
+        VerifiedJwtCache verifiedJwtCache = Singleton.INST.get(VerifiedJwtCache.class);
+        jwtPluginDataHandlerUnderTest.handlerPlugin(new PluginData("pluginId", "pluginName", "{\"secretKey\":\"same\"}", "0", false, null));
+        assertSame(verifiedJwtCache, Singleton.INST.get(VerifiedJwtCache.class));
+    }
+
+    @Test
+    public void testHandlerPluginMalformedCacheConfig() {
+        jwtPluginDataHandlerUnderTest.handlerPlugin(new PluginData("pluginId", "pluginName",
+                "{\"secretKey\":\"shenyu\",\"verifiedCacheTtl\":\"1m\",\"verifiedCacheSize\":\"\"}", "0", false, null));
+        JwtConfig jwtConfig = Singleton.INST.get(JwtConfig.class);
+        assertEquals(new JwtConfig().getVerifiedCacheTtl(), jwtConfig.getVerifiedCacheTtl());
+        assertEquals(new JwtConfig().getVerifiedCacheSize(), jwtConfig.getVerifiedCacheSize());
+    }
+
     @Test
     public void testHandlerRule() {
         RuleData ruleData = new RuleData();
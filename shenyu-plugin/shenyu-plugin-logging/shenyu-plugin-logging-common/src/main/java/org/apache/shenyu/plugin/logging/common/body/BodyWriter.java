@@ -30,17 +30,39 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * bodyWriter is used to read Body.
+ * the bytes beyond the limit are counted but not kept, the body is dropped once it overflows the limit.
  */
 public class BodyWriter {
 
     private static final Logger LOG = LoggerFactory.getLogger(BodyWriter.class);
 
-    private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    private ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
-    private final WritableByteChannel channel = Channels.newChannel(stream);
+    private WritableByteChannel channel = Channels.newChannel(stream);
 
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
+    private final int limit;
+
+    private int size;
+
+    private boolean overflow;
+
+    /**
+     * Instantiates a new Body writer without limit.
+     */
+    public BodyWriter() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Instantiates a new Body writer.
+     *
+     * @param limit the max bytes to keep
+     */
+    public BodyWriter(final int limit) {
+        this.limit = limit;
+    }
 
     /**
      * write ByteBuffer.
@@ -48,6 +70,19 @@ public class BodyWriter {
      * @param buffer byte buffer
      */
     public void write(final ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        size = (int) Math.min((long) size + remaining, Integer.MAX_VALUE);
+        if (overflow) {
+            return;
+        }
+        if (size > limit) {
+            // stop the capture, and drop the stream to release the captured bytes
+            overflow = true;
+            stream = null;
+            channel = null;
+            isClosed.compareAndSet(false, true);
+            return;
+        }
         if (!isClosed.get()) {
             try {
                 channel.write(buffer);
@@ -64,16 +99,25 @@ public class BodyWriter {
      * @return true: stream is empty
      */
     public boolean isEmpty() {
-        return stream.size() == 0;
+        return size == 0;
     }
 
     /**
-     * get stream size.
+     * get the size of the body, including the bytes beyond the limit.
      *
-     * @return size of stream
+     * @return size of body
      */
     public int size() {
-        return stream.size();
+        return size;
+    }
+
+    /**
+     * judge the body overflows the limit.
+     *
+     * @return true: the body is not kept
+     */
+    public boolean isOverflow() {
+        return overflow;
     }
 
     /**
@@ -82,7 +126,7 @@ public class BodyWriter {
      * @return string of stream
      */
     public String output() {
-        if (isEmpty()) {
+        if (isEmpty() || overflow) {
             return "";
         }
         try {
@@ -46,19 +46,19 @@ public class LoggingServerHttpRequest<L extends ShenyuRequestLog> extends Server
     @Override
     @NonNull
     public Flux<DataBuffer> getBody() {
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxRequestBody());
+        final boolean capturable = LogCollectUtils.isCapturable(getHeaders());
         return super.getBody().doOnNext(dataBuffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
+            if (capturable) {
                 writer.write(dataBuffer.asByteBuffer().asReadOnlyBuffer());
             }
         }).doFinally(signal -> {
             int size = writer.size();
-            String body = writer.output();
-            boolean requestBodyTooLarge = LogCollectConfigUtils.isRequestBodyTooLarge(size);
+            boolean requestBodyTooLarge = writer.isOverflow() || LogCollectConfigUtils.isRequestBodyTooLarge(size);
             if (size == 0 || requestBodyTooLarge) {
                 return;
             }
-            logInfo.setRequestBody(body);
+            logInfo.setRequestBody(writer.output());
         });
     }
 }
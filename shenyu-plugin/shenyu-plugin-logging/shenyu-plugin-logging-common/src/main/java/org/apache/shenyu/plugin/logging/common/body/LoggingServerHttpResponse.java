@@ -129,10 +129,11 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setStatus(getStatusCode().value());
         }
         logInfo.setResponseHeader(LogCollectUtils.getHeaders(getHeaders()));
-        BodyWriter writer = new BodyWriter();
+        BodyWriter writer = new BodyWriter(LogCollectConfigUtils.getMaxResponseBody());
         logInfo.setTraceId(getTraceId());
+        final boolean capturable = LogCollectUtils.isCapturable(getHeaders());
         return Flux.from(body).doOnNext(buffer -> {
-            if (LogCollectUtils.isNotBinaryType(getHeaders())) {
+            if (capturable) {
                 writer.write(buffer.asByteBuffer().asReadOnlyBuffer());
             }
         }).doFinally(signal -> logResponse(shenyuContext, writer));
@@ -161,9 +162,8 @@ public class LoggingServerHttpResponse<L extends ShenyuRequestLog> extends Serve
             logInfo.setUpstreamIp(getUpstreamIp());
         }
         int size = writer.size();
-        String body = writer.output();
-        if (size > 0 && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
-            logInfo.setResponseBody(body);
+        if (size > 0 && !writer.isOverflow() && !LogCollectConfigUtils.isResponseBodyTooLarge(size)) {
+            logInfo.setResponseBody(writer.output());
         }
         // collect log
         if (Objects.nonNull(logCollector)) {
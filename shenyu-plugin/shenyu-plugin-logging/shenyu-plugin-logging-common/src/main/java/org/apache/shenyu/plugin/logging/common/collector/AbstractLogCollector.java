@@ -17,30 +17,37 @@
 
 package org.apache.shenyu.plugin.logging.common.collector;
 
-import org.apache.shenyu.common.concurrent.MemorySafeTaskQueue;
-import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
-import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
-import org.apache.shenyu.common.config.ShenyuConfig;
-import org.apache.shenyu.common.constant.Constants;
-import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.LiteTimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.LifecycleAware;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.TimeoutHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.overflow.LogOverflowPolicy;
 import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
 import org.apache.shenyu.plugin.logging.mask.api.matcher.KeyWordMatch;
+import org.apache.shenyu.spi.ExtensionLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.apache.shenyu.plugin.logging.mask.api.utils.DataMaskUtils.maskForBody;
 import static org.apache.shenyu.plugin.logging.mask.api.utils.DataMaskUtils.maskForSingleWord;
@@ -53,39 +60,72 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
+    private static final long DROPPED_LOG_INTERVAL = 10000;
+
     private int bufferSize;
 
-    private BlockingQueue<L> bufferQueue;
+    private volatile Disruptor<DataEvent<L>> disruptor;
+
+    private volatile RingBuffer<DataEvent<L>> ringBuffer;
+
+    private volatile LogOverflowPolicy overflowPolicy;
 
-    private long lastPushTime;
+    private final EventTranslatorOneArg<DataEvent<L>, L> translator = (event, sequence, log) -> event.setData(log);
 
-    private final AtomicBoolean started = new AtomicBoolean(true);
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * the logs collected after close are rejected.
+     */
+    private final AtomicBoolean started = new AtomicBoolean(false);
 
     @Override
-    public void start() {
-        bufferSize = LogCollectConfigUtils.getGenericGlobalConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
-        ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
-        final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
-        ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
-                sharedPool.getMaximumPoolSize(), sharedPool.getKeepAliveTime(), TimeUnit.MILLISECONDS,
-                new MemorySafeTaskQueue<>(Constants.THE_256_MB),
-                ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
-                new ThreadPoolExecutor.AbortPolicy());
+    public synchronized void start() {
+        GenericGlobalConfig globalConfig = LogCollectConfigUtils.getGenericGlobalConfig();
+        // the ring buffer size must be a power of 2
+        bufferSize = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(globalConfig.getBufferQueueSize(), 2) - 1));
+        overflowPolicy = ExtensionLoader.getExtensionLoader(LogOverflowPolicy.class).getJoin(globalConfig.getOverflowPolicy());
+        shutdown();
+        Disruptor<DataEvent<L>> newDisruptor = new Disruptor<>(new DisruptorEventFactory<>(), bufferSize,
+                DisruptorThreadFactory.create("shenyu_log_collector_" + getClass().getSimpleName(), true),
+                ProducerType.MULTI,
+                new LiteTimeoutBlockingWaitStrategy(Math.max(globalConfig.getConsumeLingerMs(), 1), TimeUnit.MILLISECONDS));
+        newDisruptor.handleEventsWith(new LogEventHandler(Math.max(globalConfig.getConsumeBatchSize(), 1),
+                TimeUnit.MILLISECONDS.toNanos(globalConfig.getConsumeLingerMs())));
+        ringBuffer = newDisruptor.start();
+        disruptor = newDisruptor;
         started.set(true);
-        threadExecutor.execute(this::consume);
+        PluginMetricRegistry.getInstance().register(PluginMetric.counter("shenyu_logging_dropped_total", "the count of the logs dropped as the buffer queue is congested",
+                "collector", getClass().getSimpleName(), droppedCount::sum));
     }
 
     @Override
     public void collect(final L log) {
-        if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
+        if (!started.get() || Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
+        RingBuffer<DataEvent<L>> buffer = ringBuffer;
+        if (Objects.isNull(buffer)) {
+            return;
+        }
+        // never wait for the consumer, the log is dropped when the buffer queue is full
+        if (!overflowPolicy.admit(buffer.remainingCapacity(), bufferSize) || !buffer.tryPublishEvent(translator, log)) {
+            droppedCount.increment();
+            if (droppedCount.sum() % DROPPED_LOG_INTERVAL == 1) {
+                LOG.warn("{} buffer queue is congested, {} logs dropped", getClass().getSimpleName(), droppedCount.sum());
+            }
         }
     }
 
+    /**
+     * get the count of the logs dropped as the buffer queue is congested.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
     @Override
     public void mask(final L logInfo, final KeyWordMatch keyWordMatch, final String dataMaskAlg) {
         this.maskShenyuRequestLog(logInfo, keyWordMatch, dataMaskAlg);
@@ -95,29 +135,32 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     /**
      * batch and async consume.
      */
-    private void consume() {
-        while (started.get()) {
-            int diffTimeMSForPush = 100;
-            try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
-                    AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
-                    if (Objects.nonNull(logCollectClient)) {
-                        logCollectClient.consume(logs);
-                    }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-                }
-            } catch (Exception e) {
-                LOG.error("DefaultLogCollector collect log error", e);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
+    private void consume(final List<L> logs) {
+        try {
+            AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
+            if (Objects.nonNull(logCollectClient)) {
+                logCollectClient.consume(logs);
             }
+        } catch (Exception e) {
+            LOG.error("DefaultLogCollector collect log error", e);
+        }
+    }
+
+    /**
+     * consume the pending logs and stop the consumer.
+     */
+    private void shutdown() {
+        Disruptor<DataEvent<L>> current = disruptor;
+        if (Objects.isNull(current)) {
+            return;
+        }
+        ringBuffer = null;
+        disruptor = null;
+        try {
+            current.shutdown(1, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("{} pending logs are not consumed in time, dropped", getClass().getSimpleName());
+            current.halt();
         }
     }
 
@@ -168,11 +211,68 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
     protected abstract void maskLog(L log, KeyWordMatch keyWordMatch, String dataMaskAlg);
 
     @Override
-    public void close() throws Exception {
+    public synchronized void close() throws Exception {
         started.set(false);
+        shutdown();
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (logCollectClient != null) {
             logCollectClient.close();
         }
     }
+
+    /**
+     * consume the logs in batches, a batch is consumed when it reaches the max batch size,
+     * or its first log has waited for the linger time.
+     */
+    private final class LogEventHandler implements EventHandler<DataEvent<L>>, TimeoutHandler, LifecycleAware {
+
+        private final int maxBatchSize;
+
+        private final long lingerNanos;
+
+        private final List<L> batch;
+
+        private long batchStartNanos;
+
+        LogEventHandler(final int maxBatchSize, final long lingerNanos) {
+            this.maxBatchSize = maxBatchSize;
+            this.lingerNanos = lingerNanos;
+            this.batch = new ArrayList<>(maxBatchSize);
+        }
+
+        @Override
+        public void onEvent(final DataEvent<L> event, final long sequence, final boolean endOfBatch) {
+            if (batch.isEmpty()) {
+                batchStartNanos = System.nanoTime();
+            }
+            batch.add(event.getData());
+            // help gc
+            event.setData(null);
+            if (batch.size() >= maxBatchSize || System.nanoTime() - batchStartNanos >= lingerNanos) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onTimeout(final long sequence) {
+            flush();
+        }
+
+        @Override
+        public void onStart() {
+        }
+
+        @Override
+        public void onShutdown() {
+            flush();
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            consume(new ArrayList<>(batch));
+            batch.clear();
+        }
+    }
 }
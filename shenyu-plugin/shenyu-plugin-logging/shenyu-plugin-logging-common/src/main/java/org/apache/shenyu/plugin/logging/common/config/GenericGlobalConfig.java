@@ -39,6 +39,21 @@ public class GenericGlobalConfig {
      */
     private int bufferQueueSize = 50000;
 
+    /**
+     * the max logs consumed in a batch, default 1000.
+     */
+    private int consumeBatchSize = 1000;
+
+    /**
+     * the max time a log waits in a batch, default 100ms.
+     */
+    private long consumeLingerMs = 100;
+
+    /**
+     * the policy when the buffer queue is congested, default drop.
+     */
+    private String overflowPolicy = "drop";
+
     /**
      * get sample rate.
      *
@@ -110,4 +125,58 @@ public class GenericGlobalConfig {
     public void setBufferQueueSize(final int bufferQueueSize) {
         this.bufferQueueSize = bufferQueueSize;
     }
+
+    /**
+     * get consume batch size.
+     *
+     * @return consume batch size
+     */
+    public int getConsumeBatchSize() {
+        return consumeBatchSize;
+    }
+
+    /**
+     * set consume batch size.
+     *
+     * @param consumeBatchSize consume batch size
+     */
+    public void setConsumeBatchSize(final int consumeBatchSize) {
+        this.consumeBatchSize = consumeBatchSize;
+    }
+
+    /**
+     * get consume linger ms.
+     *
+     * @return consume linger ms
+     */
+    public long getConsumeLingerMs() {
+        return consumeLingerMs;
+    }
+
+    /**
+     * set consume linger ms.
+     *
+     * @param consumeLingerMs consume linger ms
+     */
+    public void setConsumeLingerMs(final long consumeLingerMs) {
+        this.consumeLingerMs = consumeLingerMs;
+    }
+
+    /**
+     * get overflow policy.
+     *
+     * @return overflow policy
+     */
+    public String getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * set overflow policy.
+     *
+     * @param overflowPolicy overflow policy
+     */
+    public void setOverflowPolicy(final String overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.overflow;
+
+import org.apache.shenyu.spi.SPI;
+
+/**
+ * The policy of the log collector when its buffer queue is congested.
+ * the log is dropped when it is not admitted, or the buffer queue is full.
+ */
+@SPI
+public interface LogOverflowPolicy {
+
+    /**
+     * judge whether to admit the log into the buffer queue.
+     *
+     * @param remainingCapacity the remaining capacity of the buffer queue
+     * @param bufferSize the size of the buffer queue
+     * @return whether to admit the log
+     */
+    boolean admit(long remainingCapacity, int bufferSize);
+}
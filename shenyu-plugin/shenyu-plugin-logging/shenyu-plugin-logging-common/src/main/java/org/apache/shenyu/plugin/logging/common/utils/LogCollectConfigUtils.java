@@ -124,6 +124,24 @@ public final class LogCollectConfigUtils {
         return bodySize > genericGlobalConfig.getMaxResponseBody();
     }
 
+    /**
+     * get the max bytes of the request body to capture, unlimited without the global config.
+     *
+     * @return max request body
+     */
+    public static int getMaxRequestBody() {
+        return Objects.isNull(genericGlobalConfig) ? Integer.MAX_VALUE : genericGlobalConfig.getMaxRequestBody();
+    }
+
+    /**
+     * get the max bytes of the response body to capture, unlimited without the global config.
+     *
+     * @return max response body
+     */
+    public static int getMaxResponseBody() {
+        return Objects.isNull(genericGlobalConfig) ? Integer.MAX_VALUE : genericGlobalConfig.getMaxResponseBody();
+    }
+
     /**
      * get global log config.
      *
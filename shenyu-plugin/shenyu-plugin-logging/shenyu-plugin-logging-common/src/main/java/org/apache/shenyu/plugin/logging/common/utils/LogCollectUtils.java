@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.logging.common.utils;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.springframework.http.HttpHeaders;
 
@@ -34,6 +35,8 @@ public class LogCollectUtils {
     private static final List<String> BINARY_TYPE_LIST = Arrays.asList("image", "multipart", "cbor",
             "octet-stream", "pdf", "javascript", "css", "html");
 
+    private static final String IDENTITY_ENCODING = "identity";
+
     /**
      * judge whether is binary type.
      *
@@ -47,6 +50,20 @@ public class LogCollectUtils {
                 .orElse(true);
     }
 
+    /**
+     * judge whether the body should be captured, the binary and compressed bodies are not readable in the log.
+     *
+     * @param headers request or response header
+     * @return whether to capture the body
+     */
+    public static boolean isCapturable(final HttpHeaders headers) {
+        if (!isNotBinaryType(headers)) {
+            return false;
+        }
+        String encoding = Optional.ofNullable(headers).map(h -> h.getFirst(HttpHeaders.CONTENT_ENCODING)).orElse(null);
+        return StringUtils.isBlank(encoding) || IDENTITY_ENCODING.equalsIgnoreCase(encoding.trim());
+    }
+
     /**
      * get request header string.
      *
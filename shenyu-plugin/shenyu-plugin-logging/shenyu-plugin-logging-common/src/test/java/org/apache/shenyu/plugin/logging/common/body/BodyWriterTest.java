@@ -69,4 +69,15 @@ public class BodyWriterTest {
         String res = writer.output();
         Assertions.assertEquals(res, "hello, shenyu");
     }
+
+    @Test
+    public void testLimit() {
+        BodyWriter limitedWriter = new BodyWriter(20);
+        limitedWriter.write(byteBuffer.asReadOnlyBuffer());
+        Assertions.assertFalse(limitedWriter.isOverflow());
+        limitedWriter.write(ByteBuffer.wrap(sendString.getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(limitedWriter.isOverflow());
+        Assertions.assertEquals(limitedWriter.size(), 26);
+        Assertions.assertEquals(limitedWriter.output(), "");
+    }
 }
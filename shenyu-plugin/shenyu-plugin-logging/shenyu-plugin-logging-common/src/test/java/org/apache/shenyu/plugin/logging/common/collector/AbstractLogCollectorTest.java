@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.config.GenericGlobalConfig;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.common.utils.LogCollectConfigUtils;
+import org.apache.shenyu.plugin.logging.mask.api.matcher.KeyWordMatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Test Case For AbstractLogCollector.
+ */
+public final class AbstractLogCollectorTest {
+
+    private final TestLogConsumeClient client = new TestLogConsumeClient();
+
+    private final TestLogCollector collector = new TestLogCollector();
+
+    @AfterEach
+    public void close() throws Exception {
+        collector.close();
+        LogCollectConfigUtils.setGenericGlobalConfig(new GenericGlobalConfig());
+    }
+
+    @Test
+    public void testCollectInBatches() throws Exception {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setConsumeBatchSize(10);
+        config.setConsumeLingerMs(10);
+        startCollector(config);
+        client.release.countDown();
+        for (int i = 0; i < 25; i++) {
+            collector.collect(new ShenyuRequestLog());
+        }
+        client.awaitConsumed(25);
+        Assertions.assertEquals(0, collector.getDroppedCount());
+        Assertions.assertTrue(client.maxBatchSize.get() <= 10);
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setBufferQueueSize(4);
+        config.setConsumeBatchSize(1);
+        startCollector(config);
+        collector.collect(new ShenyuRequestLog());
+        // the consumer is blocked with the first log, which still takes a slot of the buffer queue
+        Assertions.assertTrue(client.consuming.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            collector.collect(new ShenyuRequestLog());
+        }
+        Assertions.assertEquals(2, collector.getDroppedCount());
+        PluginMetric dropped = PluginMetricRegistry.getInstance().getAll().stream()
+                .filter(metric -> "shenyu_logging_dropped_total".equals(metric.getName()) && TestLogCollector.class.getSimpleName().equals(metric.getLabelValue()))
+                .findFirst().orElseThrow(AssertionError::new);
+        Assertions.assertEquals(2, dropped.getValue());
+        client.release.countDown();
+        client.awaitConsumed(4);
+    }
+
+    @Test
+    public void testRejectAfterClose() throws Exception {
+        GenericGlobalConfig config = new GenericGlobalConfig();
+        config.setConsumeBatchSize(1);
+        startCollector(config);
+        client.release.countDown();
+        collector.collect(new ShenyuRequestLog());
+        client.awaitConsumed(1);
+        collector.close();
+        collector.collect(new ShenyuRequestLog());
+        Assertions.assertEquals(1, client.consumed.get());
+        Assertions.assertEquals(0, collector.getDroppedCount());
+    }
+
+    private void startCollector(final GenericGlobalConfig config) {
+        LogCollectConfigUtils.setGenericGlobalConfig(config);
+        client.initClient(config);
+        collector.start();
+    }
+
+    private final class TestLogCollector extends AbstractLogCollector<TestLogConsumeClient, ShenyuRequestLog> {
+
+        @Override
+        protected TestLogConsumeClient getLogConsumeClient() {
+            return client;
+        }
+
+        @Override
+        protected void maskLog(final ShenyuRequestLog log, final KeyWordMatch keyWordMatch, final String dataMaskAlg) {
+        }
+    }
+
+    private static final class TestLogConsumeClient extends AbstractLogConsumeClient<GenericGlobalConfig, ShenyuRequestLog> {
+
+        private final CountDownLatch consuming = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final AtomicInteger consumed = new AtomicInteger();
+
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+
+        @Override
+        public void initClient0(@NonNull final GenericGlobalConfig config) {
+        }
+
+        @Override
+        public void consume0(@NonNull final List<ShenyuRequestLog> logs) throws Exception {
+            consuming.countDown();
+            release.await();
+            consumed.addAndGet(logs.size());
+            maxBatchSize.accumulateAndGet(logs.size(), Math::max);
+        }
+
+        @Override
+        public void close0() {
+        }
+
+        private void awaitConsumed(final int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (consumed.get() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(count, consumed.get());
+        }
+    }
+}
@@ -118,6 +118,16 @@ public class LogCollectConfigUtilsTest {
         assertFalse(LogCollectConfigUtils.isResponseBodyTooLarge(524288));
     }
 
+    @Test
+    public void testGetMaxBody() {
+        LogCollectConfigUtils.setGenericGlobalConfig(null);
+        assertEquals(Integer.MAX_VALUE, LogCollectConfigUtils.getMaxRequestBody());
+        assertEquals(Integer.MAX_VALUE, LogCollectConfigUtils.getMaxResponseBody());
+        LogCollectConfigUtils.setGenericGlobalConfig(config);
+        assertEquals(524288, LogCollectConfigUtils.getMaxRequestBody());
+        assertEquals(524288, LogCollectConfigUtils.getMaxResponseBody());
+    }
+
     @Test
     public void testSetGlobalSampler() throws NoSuchFieldException, IllegalAccessException {
         LogCollectConfigUtils.setGlobalSampler("1");
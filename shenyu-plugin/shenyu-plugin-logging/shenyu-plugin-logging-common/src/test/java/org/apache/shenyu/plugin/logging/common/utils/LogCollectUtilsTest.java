@@ -22,6 +22,8 @@ import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -30,6 +32,7 @@ import org.springframework.web.server.ServerWebExchange;
 import java.net.InetSocketAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -58,6 +61,18 @@ public class LogCollectUtilsTest {
         assertTrue(LogCollectUtils.isNotBinaryType(request.getHeaders()));
     }
 
+    @Test
+    public void testIsCapturable() {
+        assertTrue(LogCollectUtils.isCapturable(request.getHeaders()));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        assertFalse(LogCollectUtils.isCapturable(headers));
+        headers.set(HttpHeaders.CONTENT_ENCODING, "identity");
+        assertTrue(LogCollectUtils.isCapturable(headers));
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        assertFalse(LogCollectUtils.isCapturable(headers));
+    }
+
     @Test
     public void testGetHeaders() {
         assertEquals(LogCollectUtils.getHeaders(request.getHeaders()), "{\"X-source\":\"mock test\"}");
@@ -19,17 +19,20 @@ package org.apache.shenyu.plugin.metrics;
 
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.DateUtils;
+import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.LabelValueLimiter;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -37,18 +40,31 @@ import java.util.Optional;
  */
 public class MetricsPlugin implements ShenyuPlugin {
     
+    /**
+     * the request which matches no route.
+     */
+    private static final String UNMATCHED_ROUTE = "unmatched";
+    
+    private static final String ROUTE_SEPARATOR = "/";
+    
+    private static final int MAX_ROUTES = 1000;
+    
+    private final LabelValueLimiter routeLimiter = new LabelValueLimiter(MAX_ROUTES);
+    
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         MetricsReporter.counterIncrement(LabelNames.REQUEST_TOTAL);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getPath(), shenyuContext.getRpcType()});
-        LocalDateTime startDateTime = Optional.of(shenyuContext).map(ShenyuContext::getStartDateTime).orElseGet(LocalDateTime::now);
+        final String rpcType = shenyuContext.getRpcType();
+        // the latency is measured from the start of the request, including the plugins before this one
+        final LocalDateTime startDateTime = Optional.ofNullable(shenyuContext.getStartDateTime()).orElseGet(LocalDateTime::now);
         return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startDateTime))
                 .doOnError(throwable -> {
                     MetricsReporter.counterIncrement(LabelNames.REQUEST_THROW_TOTAL);
                     responseCommitted(exchange, startDateTime);
-                });
+                })
+                .doFinally(signal -> MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{route(exchange), rpcType}));
     }
 
     @Override
@@ -61,6 +77,23 @@ public class MetricsPlugin implements ShenyuPlugin {
         return PluginEnum.METRICS.getName();
     }
     
+    /**
+     * the route of the request, the path of the meta data or the selector and rule matched by the plugins,
+     * instead of the raw path, which makes a new series for every distinct path.
+     */
+    private String route(final ServerWebExchange exchange) {
+        MetaData metaData = exchange.getAttribute(Constants.META_DATA);
+        if (Objects.nonNull(metaData) && Objects.nonNull(metaData.getPath())) {
+            return routeLimiter.limit(metaData.getPath());
+        }
+        String selectorId = exchange.getAttribute(Constants.MATCHED_SELECTOR_ID);
+        if (Objects.isNull(selectorId)) {
+            return UNMATCHED_ROUTE;
+        }
+        String ruleId = exchange.getAttribute(Constants.MATCHED_RULE_ID);
+        return routeLimiter.limit(Objects.isNull(ruleId) ? selectorId : selectorId + ROUTE_SEPARATOR + ruleId);
+    }
+    
     private void responseCommitted(final ServerWebExchange exchange, final LocalDateTime startDateTime) {
         ServerHttpResponse response = exchange.getResponse();
         if (response.isCommitted()) {
@@ -74,7 +107,6 @@ public class MetricsPlugin implements ShenyuPlugin {
     }
     
     private void recordTime(final LocalDateTime startDateTime) {
-        long millisBetween = DateUtils.acquireMillisBetween(startDateTime, LocalDateTime.now());
-        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, millisBetween);
+        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, Duration.between(startDateTime, LocalDateTime.now()).toMillis());
     }
 }
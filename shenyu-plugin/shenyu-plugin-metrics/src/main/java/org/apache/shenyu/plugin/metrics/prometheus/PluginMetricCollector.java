@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Prometheus collector of the metrics registered by the plugins, the metrics are only read at scrape time.
+ */
+public final class PluginMetricCollector extends Collector {
+
+    private static final String TOTAL_SUFFIX = "_total";
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        Map<String, List<PluginMetric>> families = new LinkedHashMap<>();
+        for (PluginMetric metric : PluginMetricRegistry.getInstance().getAll()) {
+            families.computeIfAbsent(metric.getName(), key -> new ArrayList<>()).add(metric);
+        }
+        List<MetricFamilySamples> result = new ArrayList<>(families.size());
+        for (List<PluginMetric> metrics : families.values()) {
+            PluginMetric first = metrics.get(0);
+            boolean counter = first.getType() == PluginMetric.Type.COUNTER;
+            // the counter family is named without the _total suffix of its samples
+            String familyName = counter && first.getName().endsWith(TOTAL_SUFFIX)
+                    ? first.getName().substring(0, first.getName().length() - TOTAL_SUFFIX.length()) : first.getName();
+            String sampleName = counter ? familyName + TOTAL_SUFFIX : familyName;
+            List<MetricFamilySamples.Sample> samples = new ArrayList<>(metrics.size());
+            for (PluginMetric metric : metrics) {
+                List<String> labelNames = Objects.isNull(metric.getLabelName()) ? Collections.emptyList() : Collections.singletonList(metric.getLabelName());
+                List<String> labelValues = Objects.isNull(metric.getLabelValue()) ? Collections.emptyList() : Collections.singletonList(metric.getLabelValue());
+                samples.add(new MetricFamilySamples.Sample(sampleName, labelNames, labelValues, metric.getValue()));
+            }
+            result.add(new MetricFamilySamples(familyName, counter ? Type.COUNTER : Type.GAUGE, first.getHelp(), samples));
+        }
+        return result;
+    }
+}
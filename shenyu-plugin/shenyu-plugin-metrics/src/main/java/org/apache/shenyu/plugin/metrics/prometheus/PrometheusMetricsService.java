@@ -108,6 +108,7 @@ public final class PrometheusMetricsService implements MetricsService {
                 DefaultExports.initialize();
             }
         }
+        new PluginMetricCollector().register();
         try {
             String jmxConfig = config.getJmxConfig();
             if (!"null".equals(jmxConfig) && StringUtils.isNotEmpty(jmxConfig)) {
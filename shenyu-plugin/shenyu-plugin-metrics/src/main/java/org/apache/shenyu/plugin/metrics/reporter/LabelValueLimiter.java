@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Label value limiter, bounds the distinct values of a label, so the series of a metric are bounded.
+ * the values beyond the limit are reported as {@link #OVERFLOW}.
+ */
+public final class LabelValueLimiter {
+    
+    /**
+     * The label value of the values beyond the limit.
+     */
+    public static final String OVERFLOW = "overflow";
+    
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+    
+    private final AtomicInteger admitted = new AtomicInteger();
+    
+    private final int maxValues;
+    
+    /**
+     * Instantiates a new Label value limiter.
+     *
+     * @param maxValues the max distinct values
+     */
+    public LabelValueLimiter(final int maxValues) {
+        this.maxValues = maxValues;
+    }
+    
+    /**
+     * Limit the label value.
+     *
+     * @param value the label value
+     * @return the value, or {@link #OVERFLOW} when the limit is reached
+     */
+    public String limit(final String value) {
+        if (values.contains(value)) {
+            return value;
+        }
+        if (admitted.get() >= maxValues || admitted.incrementAndGet() > maxValues) {
+            return OVERFLOW;
+        }
+        if (!values.add(value)) {
+            // admitted by another thread at the same time
+            admitted.decrementAndGet();
+        }
+        return value;
+    }
+}
@@ -18,11 +18,16 @@
 package org.apache.shenyu.plugin.metrics;
 
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +36,13 @@ import org.mockito.Mockito;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
 
 /**
  * The Test Case For MetricsPlugin.
@@ -48,6 +55,8 @@ public class MetricsPluginTest {
 
     private ShenyuPluginChain chain;
 
+    private ShenyuContext shenyuContext;
+
     @BeforeEach
     public void setUp() {
         this.metricsPlugin = new MetricsPlugin();
@@ -64,10 +73,15 @@ public class MetricsPluginTest {
         };
         Mockito.lenient().when(context.getBean(RemoteAddressResolver.class)).thenReturn(remoteAddressResolver);
         this.exchange = Mockito.spy(MockServerWebExchange.from(request));
-        ShenyuContext shenyuContext = Mockito.mock(ShenyuContext.class);
+        this.shenyuContext = Mockito.mock(ShenyuContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, shenyuContext);
     }
 
+    @AfterEach
+    public void tearDown() {
+        ReflectionTestUtils.setField(MetricsReporter.class, "metricsRegister", null);
+    }
+
     @Test
     public void testDoExecute() {
         Mockito.when(chain.execute(ArgumentMatchers.any())).thenReturn(Mono.empty());
@@ -75,6 +89,47 @@ public class MetricsPluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testDoExecuteWithMetaData() {
+        exchange.getAttributes().put(Constants.META_DATA, MetaData.builder().path("/dubbo/findById").build());
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenReturn(Mono.error(new RuntimeException()));
+        Mono<Void> result = metricsPlugin.execute(exchange, chain);
+        StepVerifier.create(result).expectSubscription().verifyError(RuntimeException.class);
+    }
+
+    @Test
+    public void testRouteOfMatchedSelectorAndRule() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        Mockito.when(shenyuContext.getRpcType()).thenReturn("websocket");
+        exchange.getAttributes().put(Constants.MATCHED_SELECTOR_ID, "selectorId");
+        exchange.getAttributes().put(Constants.MATCHED_RULE_ID, "ruleId");
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenReturn(Mono.empty());
+        StepVerifier.create(metricsPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        Mockito.verify(metricsRegister).counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"selectorId/ruleId", "websocket"}, 1);
+    }
+
+    @Test
+    public void testRouteOfUnmatchedRequest() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        Mockito.when(shenyuContext.getRpcType()).thenReturn("http");
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenReturn(Mono.empty());
+        StepVerifier.create(metricsPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        Mockito.verify(metricsRegister).counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"unmatched", "http"}, 1);
+    }
+
+    @Test
+    public void testLatencyFromContextStart() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        MetricsReporter.register(metricsRegister);
+        Mockito.when(shenyuContext.getStartDateTime()).thenReturn(LocalDateTime.now().minusSeconds(2));
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenReturn(Mono.empty());
+        StepVerifier.create(metricsPlugin.execute(exchange, chain)).expectSubscription().verifyComplete();
+        StepVerifier.create(exchange.getResponse().setComplete()).expectSubscription().verifyComplete();
+        Mockito.verify(metricsRegister).recordTime(ArgumentMatchers.eq(LabelNames.EXECUTE_LATENCY_NAME), ArgumentMatchers.isNull(), ArgumentMatchers.longThat(millis -> millis >= 2000));
+    }
+
     @Test
     public void testGetOrder() {
         Assertions.assertEquals(metricsPlugin.getOrder(), PluginEnum.METRICS.getCode());
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.prometheus;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The Test Case For PluginMetricCollector.
+ */
+public final class PluginMetricCollectorTest {
+
+    @AfterEach
+    public void clean() {
+        PluginMetricRegistry.getInstance().clean();
+    }
+
+    @Test
+    public void testCollect() {
+        AtomicLong dropped = new AtomicLong(3);
+        PluginMetricRegistry.getInstance().register(PluginMetric.counter("shenyu_test_dropped_total", "dropped", "collector", "kafka", dropped::get));
+        PluginMetricRegistry.getInstance().register(PluginMetric.counter("shenyu_test_dropped_total", "dropped", "collector", "aliyun", () -> 1));
+        PluginMetricRegistry.getInstance().register(PluginMetric.gauge("shenyu_test_size_bytes", "size", () -> 1024));
+        dropped.incrementAndGet();
+        List<MetricFamilySamples> samples = new PluginMetricCollector().collect();
+        Assertions.assertEquals(2, samples.size());
+        MetricFamilySamples droppedSamples = samples.stream().filter(family -> "shenyu_test_dropped".equals(family.name)).findFirst().orElse(null);
+        Assertions.assertNotNull(droppedSamples);
+        Assertions.assertEquals(Collector.Type.COUNTER, droppedSamples.type);
+        MetricFamilySamples.Sample kafka = droppedSamples.samples.stream().filter(sample -> sample.labelValues.contains("kafka")).findFirst().orElse(null);
+        Assertions.assertNotNull(kafka);
+        Assertions.assertEquals("shenyu_test_dropped_total", kafka.name);
+        Assertions.assertEquals(4.0, kafka.value);
+        MetricFamilySamples size = samples.stream().filter(family -> "shenyu_test_size_bytes".equals(family.name)).findFirst().orElse(null);
+        Assertions.assertNotNull(size);
+        Assertions.assertEquals(1024.0, size.samples.get(0).value);
+    }
+
+    @Test
+    public void testCollectPluginStatistics() {
+        PluginMetricRegistry.getInstance().obtainStatistics("sign").recordExecute(2_000_000_000L, true);
+        PluginMetricRegistry.getInstance().obtainStatistics("waf").recordSkip();
+        List<MetricFamilySamples> samples = new PluginMetricCollector().collect();
+        Assertions.assertEquals(4, samples.size());
+        MetricFamilySamples selfTime = samples.stream().filter(family -> "shenyu_plugin_self_seconds".equals(family.name)).findFirst().orElse(null);
+        Assertions.assertNotNull(selfTime);
+        Assertions.assertEquals(Collector.Type.COUNTER, selfTime.type);
+        MetricFamilySamples.Sample sign = selfTime.samples.stream().filter(sample -> sample.labelValues.contains("sign")).findFirst().orElse(null);
+        Assertions.assertNotNull(sign);
+        Assertions.assertEquals("plugin", sign.labelNames.get(0));
+        Assertions.assertEquals(2.0, sign.value);
+        MetricFamilySamples skip = samples.stream().filter(family -> "shenyu_plugin_skip".equals(family.name)).findFirst().orElse(null);
+        Assertions.assertNotNull(skip);
+        MetricFamilySamples.Sample waf = skip.samples.stream().filter(sample -> sample.labelValues.contains("waf")).findFirst().orElse(null);
+        Assertions.assertNotNull(waf);
+        Assertions.assertEquals(1.0, waf.value);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Test Case For LabelValueLimiter.
+ */
+public final class LabelValueLimiterTest {
+
+    @Test
+    public void testLimit() {
+        LabelValueLimiter limiter = new LabelValueLimiter(2);
+        Assertions.assertEquals("/a", limiter.limit("/a"));
+        Assertions.assertEquals("/b", limiter.limit("/b"));
+        Assertions.assertEquals(LabelValueLimiter.OVERFLOW, limiter.limit("/c"));
+        // the admitted values are kept
+        Assertions.assertEquals("/a", limiter.limit("/a"));
+        Assertions.assertEquals("/b", limiter.limit("/b"));
+    }
+}
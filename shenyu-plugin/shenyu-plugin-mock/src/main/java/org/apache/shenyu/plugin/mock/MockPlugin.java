@@ -24,12 +24,10 @@ import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.base.utils.ServerWebExchangeUtils;
 import org.apache.shenyu.plugin.mock.api.MockRequest;
 import org.apache.shenyu.plugin.mock.generator.GeneratorFactory;
 import org.apache.shenyu.plugin.mock.handler.MockPluginHandler;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -51,9 +49,8 @@ public class MockPlugin extends AbstractShenyuPlugin {
         exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
         exchange.getResponse().setStatusCode(HttpStatus.valueOf(mockHandle.getHttpStatusCode()));
 
-        return DataBufferUtils.join(exchange.getRequest().getBody())
-                .switchIfEmpty(Mono.just(DefaultDataBufferFactory.sharedInstance.allocateBuffer(0)))
-                .map(dataBuffer -> dealRule(dataBuffer, mockHandle.getResponseContent(), exchange.getRequest()))
+        return ServerWebExchangeUtils.cacheRequestBody(exchange, -1)
+                .map(cached -> dealRule(ServerWebExchangeUtils.getCachedRequestBody(cached).getBytes(), mockHandle.getResponseContent(), exchange.getRequest()))
                 .flatMap(bytes -> exchange.getResponse().writeWith(Mono.just(exchange.getResponse()
                         .bufferFactory().wrap(bytes))
                         .doOnNext(data -> exchange.getResponse().getHeaders()
@@ -70,10 +67,7 @@ public class MockPlugin extends AbstractShenyuPlugin {
         return PluginEnum.MOCK.getName();
     }
 
-    private byte[] dealRule(final DataBuffer requestBodyBuffer, final String response, final ServerHttpRequest serverHttpRequest) {
-        byte[] originalBody = new byte[requestBodyBuffer.readableByteCount()];
-        requestBodyBuffer.read(originalBody);
-        DataBufferUtils.release(requestBodyBuffer);
+    private byte[] dealRule(final byte[] originalBody, final String response, final ServerHttpRequest serverHttpRequest) {
         MockRequest mockRequest = buildMockRequest(originalBody, serverHttpRequest);
         return GeneratorFactory.dealRule(response, mockRequest).getBytes(StandardCharsets.UTF_8);
     }
@@ -30,9 +30,9 @@ import org.apache.shenyu.common.dto.convert.plugin.MotanRegisterConfig;
 import org.apache.shenyu.common.enums.PluginEnum;
 import org.apache.shenyu.common.enums.ResultEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
 import org.apache.shenyu.common.utils.Singleton;
+import org.apache.shenyu.plugin.api.param.RpcParamBinder;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.motan.cache.ApplicationConfigCache;
 import org.slf4j.Logger;
@@ -91,10 +91,10 @@ public class MotanProxyService {
         } else {
             int num = motanParamInfo.getParamTypes().length;
             params = new Object[num];
-            Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
+            Map<String, Object> bodyMap = RpcParamBinder.parse(body);
             ParamCheckUtils.checkParamsLength(bodyMap.size(), motanParamInfo.getParamNames().length);
             for (int i = 0; i < num; i++) {
-                params[i] = bodyMap.get(motanParamInfo.getParamNames()[i]).toString();
+                params[i] = RpcParamBinder.toValue(bodyMap.get(motanParamInfo.getParamNames()[i])).toString();
             }
         }
         ResponseFuture responseFuture;
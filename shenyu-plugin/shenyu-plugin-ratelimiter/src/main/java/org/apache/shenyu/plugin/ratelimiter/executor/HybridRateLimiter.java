@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * HybridRateLimiter, leases chunks of tokens from redis and serves the requests from the local lease.
+ *
+ * <p>A lease of {@code burstCapacity * leaseRatio} tokens is taken with one script call of the token bucket
+ * or the leaky bucket algorithm, and is dropped once it expires. The larger the ratio and the lease time, the
+ * fewer redis calls are made and the more tokens a node may hold back from the others. When redis can no longer
+ * grant a whole lease, the requests of the next lease time are checked against redis one by one, so the tokens
+ * refilled in the meantime are still granted, and a whole lease is asked for again after it.</p>
+ */
+public class HybridRateLimiter implements RateLimiterExecutor {
+
+    /**
+     * The mode of the rule handle which selects this limiter.
+     */
+    public static final String MODE = "hybrid";
+
+    private final RedisRateLimiter redisRateLimiter;
+
+    private final long leaseNanos;
+
+    private final Cache<String, Lease> leases;
+
+    private final LongAdder leaseRefills = new LongAdder();
+
+    private final LongAdder leaseDenials = new LongAdder();
+
+    /**
+     * Instantiates a new hybrid rate limiter whose leases last 1 second.
+     *
+     * @param redisRateLimiter the redis rate limiter
+     */
+    public HybridRateLimiter(final RedisRateLimiter redisRateLimiter) {
+        this(redisRateLimiter, Duration.ofSeconds(1), 100_000);
+    }
+
+    /**
+     * Instantiates a new hybrid rate limiter.
+     *
+     * @param redisRateLimiter the redis rate limiter
+     * @param leaseTime the time after which the unused tokens of a lease are dropped
+     * @param maximumKeys the maximum count of the leased keys
+     */
+    public HybridRateLimiter(final RedisRateLimiter redisRateLimiter, final Duration leaseTime, final long maximumKeys) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.leaseNanos = leaseTime.toNanos();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(leaseTime.multipliedBy(2))
+                .executor(Runnable::run)
+                .build();
+        PluginMetricRegistry registry = PluginMetricRegistry.getInstance();
+        registry.register(PluginMetric.counter("shenyu_ratelimiter_lease_refills_total", "the count of the rate limiter leases granted by redis", leaseRefills::sum));
+        registry.register(PluginMetric.counter("shenyu_ratelimiter_lease_denials_total", "the count of the rate limiter leases redis could not grant", leaseDenials::sum));
+    }
+
+    @Override
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        long requested = (long) Math.ceil(limiterHandle.getRequestCount());
+        long leaseSize = (long) (limiterHandle.getBurstCapacity() * limiterHandle.getLeaseRatio());
+        if (!isLeasable(limiterHandle.getAlgorithmName()) || leaseSize <= requested) {
+            return redisRateLimiter.isAllowed(id, limiterHandle);
+        }
+        Lease lease = leases.get(limiterHandle.getAlgorithmName() + ".{" + id + "}", key -> new Lease());
+        long now = System.nanoTime();
+        if (lease.tryTake(requested, now)) {
+            return Mono.just(new RateLimiterResponse(true, lease.remaining(), Collections.emptyList()));
+        }
+        if (lease.isDenied(now)) {
+            return redisRateLimiter.isAllowed(id, limiterHandle);
+        }
+        return lease.refill(() -> redisRateLimiter.isAllowed(id, limiterHandle, leaseSize)
+                .doOnNext(response -> {
+                    if (response.isAllowed()) {
+                        leaseRefills.increment();
+                        lease.reset(leaseSize, System.nanoTime() + leaseNanos);
+                    } else {
+                        leaseDenials.increment();
+                        lease.deny(System.nanoTime() + leaseNanos);
+                    }
+                }))
+                .flatMap(response -> {
+                    if (!response.isAllowed()) {
+                        return redisRateLimiter.isAllowed(id, limiterHandle);
+                    }
+                    if (lease.tryTake(requested, System.nanoTime())) {
+                        return Mono.just(new RateLimiterResponse(true, lease.remaining(), Collections.emptyList()));
+                    }
+                    return Mono.just(new RateLimiterResponse(false, lease.remaining(), Collections.emptyList()));
+                });
+    }
+
+    @Override
+    public void release(final RateLimiterHandle limiterHandle, final RateLimiterResponse response) {
+        redisRateLimiter.release(limiterHandle, response);
+    }
+
+    /**
+     * Gets the count of the leases granted by redis.
+     *
+     * @return the count of the lease refills
+     */
+    public long getLeaseRefills() {
+        return leaseRefills.sum();
+    }
+
+    /**
+     * Gets the count of the leases redis could not grant.
+     *
+     * @return the count of the lease denials
+     */
+    public long getLeaseDenials() {
+        return leaseDenials.sum();
+    }
+
+    private static boolean isLeasable(final String algorithmName) {
+        return Objects.isNull(algorithmName) || "tokenBucket".equals(algorithmName) || "leakyBucket".equals(algorithmName);
+    }
+
+    /**
+     * The tokens leased by this node for one key.
+     */
+    private static final class Lease {
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private final AtomicReference<Mono<RateLimiterResponse>> pending = new AtomicReference<>();
+
+        private volatile long expiresAt;
+
+        private volatile long deniedUntil;
+
+        private volatile boolean denied;
+
+        boolean tryTake(final long requested, final long now) {
+            if (now - expiresAt > 0) {
+                return false;
+            }
+            for (;;) {
+                long current = tokens.get();
+                if (current < requested) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - requested)) {
+                    return true;
+                }
+            }
+        }
+
+        long remaining() {
+            return tokens.get();
+        }
+
+        void reset(final long size, final long expiresAt) {
+            tokens.set(size);
+            this.expiresAt = expiresAt;
+            this.denied = false;
+        }
+
+        boolean isDenied(final long now) {
+            return denied && now - deniedUntil < 0;
+        }
+
+        void deny(final long deniedUntil) {
+            this.deniedUntil = deniedUntil;
+            this.denied = true;
+        }
+
+        /**
+         * Share one refill between the requests which find the lease empty at the same time.
+         */
+        Mono<RateLimiterResponse> refill(final Supplier<Mono<RateLimiterResponse>> supplier) {
+            for (;;) {
+                Mono<RateLimiterResponse> current = pending.get();
+                if (Objects.nonNull(current)) {
+                    return current;
+                }
+                Mono<RateLimiterResponse> created = Mono.defer(supplier).doFinally(signalType -> pending.set(null)).cache();
+                if (pending.compareAndSet(null, created)) {
+                    return created;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * LocalRateLimiter, judges the requests in the memory of this gateway node.
+ *
+ * <p>It implements the same algorithms as the redis scripts, keeping lock free state per key
+ * in a bounded map whose idle keys expire.</p>
+ */
+public class LocalRateLimiter implements RateLimiterExecutor {
+
+    /**
+     * The mode of the rule handle which selects this limiter.
+     */
+    public static final String MODE = "local";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Cache<String, LimiterState> states;
+
+    /**
+     * Instantiates a new local rate limiter holding at most 100000 keys idle for at most 10 minutes.
+     */
+    public LocalRateLimiter() {
+        this(100_000, Duration.ofMinutes(10));
+    }
+
+    /**
+     * Instantiates a new local rate limiter.
+     *
+     * @param maximumKeys the maximum count of the limited keys
+     * @param expireAfterAccess the idle time after which the state of a key is dropped
+     */
+    public LocalRateLimiter(final long maximumKeys, final Duration expireAfterAccess) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        String algorithmName = Objects.isNull(limiterHandle.getAlgorithmName()) ? "" : limiterHandle.getAlgorithmName();
+        String key = algorithmName + ".{" + id + "}";
+        LimiterState state = states.get(key, k -> newState(algorithmName));
+        long result = state.tryAcquire(limiterHandle.getReplenishRate(), limiterHandle.getBurstCapacity(),
+                limiterHandle.getRequestCount(), System.nanoTime());
+        boolean allowed = result >= 0;
+        return Mono.just(new RateLimiterResponse(allowed, allowed ? result : ~result, Collections.singletonList(key)));
+    }
+
+    @Override
+    public void release(final RateLimiterHandle limiterHandle, final RateLimiterResponse response) {
+        List<String> keys = response.getKeys();
+        if (Objects.isNull(keys) || keys.isEmpty()) {
+            return;
+        }
+        LimiterState state = states.getIfPresent(keys.get(0));
+        if (Objects.nonNull(state)) {
+            state.release();
+        }
+    }
+
+    /**
+     * Gets the count of the limited keys.
+     *
+     * @return the count of the keys
+     */
+    public long size() {
+        states.cleanUp();
+        return states.estimatedSize();
+    }
+
+    private static LimiterState newState(final String algorithmName) {
+        switch (algorithmName) {
+            case "slidingWindow":
+                return new SlidingWindowState();
+            case "leakyBucket":
+                return new LeakyBucketState();
+            case "concurrent":
+                return new ConcurrentState();
+            default:
+                return new TokenBucketState();
+        }
+    }
+
+    private static double elapsedSeconds(final long timestamp, final long now) {
+        return Math.max(0, now - timestamp) / (double) NANOS_PER_SECOND;
+    }
+
+    private static long result(final boolean allowed, final double remaining) {
+        long value = (long) Math.max(0, remaining);
+        return allowed ? value : ~value;
+    }
+
+    /**
+     * The state of one limited key.
+     */
+    private interface LimiterState {
+
+        /**
+         * Try to acquire the requested permits.
+         *
+         * @param rate the replenish rate per second
+         * @param capacity the burst capacity
+         * @param requested the requested permits
+         * @param now the current nano time
+         * @return the value reported by the algorithm, or its bitwise complement when denied
+         */
+        long tryAcquire(double rate, double capacity, double requested, long now);
+
+        /**
+         * Release a permit held by a finished request.
+         */
+        default void release() {
+        }
+    }
+
+    /**
+     * An immutable level with the nano time it was computed at.
+     */
+    private static final class Level {
+
+        private final double value;
+
+        private final long timestamp;
+
+        Level(final double value, final long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Token bucket, the tokens refill at the rate up to the capacity.
+     */
+    private static final class TokenBucketState implements LimiterState {
+
+        private final AtomicReference<Level> level = new AtomicReference<>();
+
+        @Override
+        public long tryAcquire(final double rate, final double capacity, final double requested, final long now) {
+            for (;;) {
+                Level current = level.get();
+                double filled = Objects.isNull(current) ? capacity
+                        : Math.min(capacity, current.value + elapsedSeconds(current.timestamp, now) * rate);
+                boolean allowed = filled >= requested;
+                double tokens = allowed ? filled - requested : filled;
+                if (level.compareAndSet(current, new Level(tokens, now))) {
+                    return result(allowed, tokens);
+                }
+            }
+        }
+    }
+
+    /**
+     * Leaky bucket, the water leaks at the rate and the requests are denied once it would overflow the capacity.
+     */
+    private static final class LeakyBucketState implements LimiterState {
+
+        private final AtomicReference<Level> level = new AtomicReference<>();
+
+        @Override
+        public long tryAcquire(final double rate, final double capacity, final double requested, final long now) {
+            for (;;) {
+                Level current = level.get();
+                double water = Objects.isNull(current) ? 0
+                        : Math.max(0, current.value - elapsedSeconds(current.timestamp, now) * rate);
+                double filled = water + requested;
+                boolean allowed = filled <= capacity;
+                if (level.compareAndSet(current, new Level(allowed ? filled : water, now))) {
+                    return result(allowed, filled);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sliding window of capacity / rate seconds, estimated from the counts of the current and the previous window.
+     */
+    private static final class SlidingWindowState implements LimiterState {
+
+        private final AtomicReference<Window> window = new AtomicReference<>();
+
+        @Override
+        public long tryAcquire(final double rate, final double capacity, final double requested, final long now) {
+            double size = Math.max(1, capacity / rate * NANOS_PER_SECOND);
+            for (;;) {
+                Window current = window.get();
+                Window rolled = roll(current, size, now);
+                double weight = 1 - (now - rolled.start) / size;
+                double count = rolled.previous * Math.max(0, weight) + rolled.current;
+                boolean allowed = count < capacity;
+                Window next = allowed ? new Window(rolled.start, rolled.previous, rolled.current + 1) : rolled;
+                if (next == current || window.compareAndSet(current, next)) {
+                    return result(allowed, capacity - count);
+                }
+            }
+        }
+
+        private static Window roll(final Window current, final double size, final long now) {
+            if (Objects.isNull(current)) {
+                return new Window(now, 0, 0);
+            }
+            double elapsed = now - current.start;
+            if (elapsed < size) {
+                return current;
+            }
+            if (elapsed < 2 * size) {
+                return new Window(current.start + (long) size, current.current, 0);
+            }
+            return new Window(now, 0, 0);
+        }
+    }
+
+    /**
+     * An immutable pair of fixed windows.
+     */
+    private static final class Window {
+
+        private final long start;
+
+        private final long previous;
+
+        private final long current;
+
+        Window(final long start, final long previous, final long current) {
+            this.start = start;
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    /**
+     * Concurrent, at most capacity requests in flight.
+     */
+    private static final class ConcurrentState implements LimiterState {
+
+        private final AtomicLong inFlight = new AtomicLong();
+
+        @Override
+        public long tryAcquire(final double rate, final double capacity, final double requested, final long now) {
+            for (;;) {
+                long count = inFlight.get();
+                if (count >= capacity) {
+                    return result(false, count);
+                }
+                if (inFlight.compareAndSet(count, count + 1)) {
+                    return result(true, count + 1);
+                }
+            }
+        }
+
+        @Override
+        public void release() {
+            inFlight.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * The rate limiter executor, which decides whether a request may pass.
+ */
+public interface RateLimiterExecutor {
+
+    /**
+     * Judge whether the request identified by the id is allowed.
+     *
+     * @param id the rule id with the resolved key
+     * @param limiterHandle the limiter handle
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    Mono<RateLimiterResponse> isAllowed(String id, RateLimiterHandle limiterHandle);
+
+    /**
+     * Release what an allowed request holds once it is finished.
+     *
+     * @param limiterHandle the limiter handle
+     * @param response the response of {@link #isAllowed(String, RateLimiterHandle)}
+     */
+    default void release(final RateLimiterHandle limiterHandle, final RateLimiterResponse response) {
+    }
+}
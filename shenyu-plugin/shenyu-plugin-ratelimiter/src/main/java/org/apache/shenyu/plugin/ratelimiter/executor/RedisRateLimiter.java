@@ -37,7 +37,7 @@ import java.util.List;
 /**
  * RedisRateLimiter.
  */
-public class RedisRateLimiter {
+public class RedisRateLimiter implements RateLimiterExecutor {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisRateLimiter.class);
     
@@ -48,11 +48,23 @@ public class RedisRateLimiter {
      * @param limiterHandle the limiter handle
      * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
      */
-    @SuppressWarnings("unchecked")
+    @Override
     public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle) {
+        return isAllowed(id, limiterHandle, limiterHandle.getRequestCount());
+    }
+
+    /**
+     * Verify using different current limiting algorithm scripts, requesting the given count of tokens.
+     *
+     * @param id is rule id
+     * @param limiterHandle the limiter handle
+     * @param requestCount the count of the requested tokens
+     * @return {@code Mono<RateLimiterResponse>} to indicate when request processing is complete
+     */
+    @SuppressWarnings("unchecked")
+    public Mono<RateLimiterResponse> isAllowed(final String id, final RateLimiterHandle limiterHandle, final double requestCount) {
         double replenishRate = limiterHandle.getReplenishRate();
         double burstCapacity = limiterHandle.getBurstCapacity();
-        double requestCount = limiterHandle.getRequestCount();
         RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
         RedisScript<?> script = rateLimiterAlgorithm.getScript();
         List<String> keys = rateLimiterAlgorithm.getKeys(id);
@@ -73,6 +85,12 @@ public class RedisRateLimiter {
                 });
     }
     
+    @Override
+    public void release(final RateLimiterHandle limiterHandle, final RateLimiterResponse response) {
+        RateLimiterAlgorithm<?> rateLimiterAlgorithm = RateLimiterAlgorithmFactory.newInstance(limiterHandle.getAlgorithmName());
+        rateLimiterAlgorithm.callback(rateLimiterAlgorithm.getScript(), response.getKeys(), null);
+    }
+
     private String doubleToString(final double param) {
         return String.valueOf(param);
     }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.api.stats.PluginMetric;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HybridRateLimiter test.
+ */
+public final class HybridRateLimiterTest {
+
+    private static final String DEFAULT_TEST_ID = "testId";
+
+    private RedisRateLimiter redisRateLimiter;
+
+    private HybridRateLimiter hybridRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @BeforeEach
+    public void setUp() {
+        this.redisRateLimiter = mock(RedisRateLimiter.class);
+        this.hybridRateLimiter = new HybridRateLimiter(redisRateLimiter, Duration.ofMinutes(1), 100);
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setReplenishRate(10);
+        rateLimiterHandle.setBurstCapacity(100);
+        rateLimiterHandle.setMode(HybridRateLimiter.MODE);
+    }
+
+    @Test
+    public void leaseTest() {
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), eq(10.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(true, 90, Collections.emptyList())));
+        for (int i = 9; i >= 0; i--) {
+            RateLimiterResponse response = isAllowed();
+            assertTrue(response.isAllowed());
+            assertEquals(i, response.getTokensRemaining());
+        }
+        verify(redisRateLimiter, times(1)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        assertTrue(isAllowed().isAllowed());
+        verify(redisRateLimiter, times(2)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        assertEquals(2, hybridRateLimiter.getLeaseRefills());
+        verify(redisRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class));
+    }
+
+    @Test
+    public void leaseDeniedTest() {
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), eq(10.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(false, 5, Collections.emptyList())));
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class)))
+                .thenReturn(Mono.just(new RateLimiterResponse(true, 4, Collections.emptyList())));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(isAllowed().isAllowed());
+        }
+        // the partial refill of redis is still granted, the requests are checked one by one until the next lease window
+        verify(redisRateLimiter, times(1)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        verify(redisRateLimiter, times(5)).isAllowed(anyString(), any(RateLimiterHandle.class));
+        assertEquals(1, hybridRateLimiter.getLeaseDenials());
+        assertEquals(0, hybridRateLimiter.getLeaseRefills());
+    }
+
+    @Test
+    public void leaseDeniedWindowTest() throws InterruptedException {
+        this.hybridRateLimiter = new HybridRateLimiter(redisRateLimiter, Duration.ofMillis(100), 100);
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), eq(10.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(false, 5, Collections.emptyList())));
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class)))
+                .thenReturn(Mono.just(new RateLimiterResponse(false, 0, Collections.emptyList())));
+        assertFalse(isAllowed().isAllowed());
+        assertFalse(isAllowed().isAllowed());
+        verify(redisRateLimiter, times(1)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        Thread.sleep(150);
+        // every window lasts one lease time, also after the denials in a row
+        assertFalse(isAllowed().isAllowed());
+        verify(redisRateLimiter, times(2)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), eq(10.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(true, 90, Collections.emptyList())));
+        Thread.sleep(150);
+        assertTrue(isAllowed().isAllowed());
+        verify(redisRateLimiter, times(3)).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+        assertEquals(2, hybridRateLimiter.getLeaseDenials());
+        assertEquals(1, hybridRateLimiter.getLeaseRefills());
+    }
+
+    @Test
+    public void leaseMetricsTest() {
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class), eq(10.0)))
+                .thenReturn(Mono.just(new RateLimiterResponse(true, 90, Collections.emptyList())));
+        assertTrue(isAllowed().isAllowed());
+        PluginMetric refills = PluginMetricRegistry.getInstance().getAll().stream()
+                .filter(metric -> "shenyu_ratelimiter_lease_refills_total".equals(metric.getName()))
+                .findFirst().orElseThrow(AssertionError::new);
+        assertEquals(1, refills.getValue());
+    }
+
+    @Test
+    public void notLeasableTest() {
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        when(redisRateLimiter.isAllowed(anyString(), any(RateLimiterHandle.class)))
+                .thenReturn(Mono.just(new RateLimiterResponse(false, 100, Collections.emptyList())));
+        assertFalse(isAllowed().isAllowed());
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        rateLimiterHandle.setLeaseRatio(0);
+        assertFalse(isAllowed().isAllowed());
+        verify(redisRateLimiter, never()).isAllowed(anyString(), any(RateLimiterHandle.class), anyDouble());
+    }
+
+    private RateLimiterResponse isAllowed() {
+        return hybridRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle).block();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.ratelimiter.executor;
+
+import org.apache.shenyu.common.dto.convert.rule.RateLimiterHandle;
+import org.apache.shenyu.plugin.ratelimiter.response.RateLimiterResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LocalRateLimiter test.
+ */
+public final class LocalRateLimiterTest {
+
+    private static final String DEFAULT_TEST_ID = "testId";
+
+    private LocalRateLimiter localRateLimiter;
+
+    private RateLimiterHandle rateLimiterHandle;
+
+    @BeforeEach
+    public void setUp() {
+        this.localRateLimiter = new LocalRateLimiter();
+        rateLimiterHandle = new RateLimiterHandle();
+        rateLimiterHandle.setReplenishRate(0);
+        rateLimiterHandle.setBurstCapacity(3);
+        rateLimiterHandle.setMode(LocalRateLimiter.MODE);
+    }
+
+    @Test
+    public void tokenBucketTest() {
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        assertAllowedThenDenied(2, 1, 0);
+    }
+
+    @Test
+    public void leakyBucketTest() {
+        rateLimiterHandle.setAlgorithmName("leakyBucket");
+        assertAllowedThenDenied(1, 2, 3);
+    }
+
+    @Test
+    public void slidingWindowTest() {
+        rateLimiterHandle.setAlgorithmName("slidingWindow");
+        assertAllowedThenDenied(3, 2, 1);
+    }
+
+    @Test
+    public void concurrentTest() {
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        assertAllowedThenDenied(1, 2, 3);
+        RateLimiterResponse response = isAllowed();
+        assertFalse(response.isAllowed());
+        localRateLimiter.release(rateLimiterHandle, response);
+        assertTrue(isAllowed().isAllowed());
+        assertFalse(isAllowed().isAllowed());
+    }
+
+    @Test
+    public void keysTest() {
+        rateLimiterHandle.setAlgorithmName("tokenBucket");
+        isAllowed();
+        localRateLimiter.isAllowed("otherId", rateLimiterHandle).block();
+        rateLimiterHandle.setAlgorithmName("concurrent");
+        isAllowed();
+        assertEquals(3, localRateLimiter.size());
+    }
+
+    @Test
+    public void boundedTest() {
+        LocalRateLimiter limiter = new LocalRateLimiter(10, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) {
+            limiter.isAllowed(DEFAULT_TEST_ID + i, rateLimiterHandle).block();
+        }
+        assertEquals(10, limiter.size(), String.valueOf(limiter.size()));
+    }
+
+    private void assertAllowedThenDenied(final long... remaining) {
+        for (long each : remaining) {
+            RateLimiterResponse response = isAllowed();
+            assertTrue(response.isAllowed());
+            assertEquals(each, response.getTokensRemaining());
+        }
+        assertFalse(isAllowed().isAllowed());
+    }
+
+    private RateLimiterResponse isAllowed() {
+        return localRateLimiter.isAllowed(DEFAULT_TEST_ID, rateLimiterHandle).block();
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shenyu.plugin.api.result.ShenyuResultWrap;
 import org.apache.shenyu.plugin.api.utils.WebFluxResultUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -46,7 +47,8 @@ public class RPCMessageWriter implements MessageWriter {
                 Object error = ShenyuResultWrap.error(exchange, ShenyuResultEnum.SERVICE_RESULT_ERROR);
                 return WebFluxResultUtils.result(exchange, error);
             }
-            Mono<Void> responseMono = WebFluxResultUtils.result(exchange, result);
+            Mono<Void> responseMono = result instanceof Flux
+                    ? WebFluxResultUtils.streamResult(exchange, (Flux<?>) result) : WebFluxResultUtils.result(exchange, result);
             exchange.getAttributes().put(Constants.RESPONSE_MONO, responseMono);
             // watcher httpStatus
             final Consumer<HttpStatus> consumer = exchange.getAttribute(Constants.WATCHER_HTTP_STATUS);
@@ -31,12 +31,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +76,15 @@ public class RPCMessageWriterTest {
         StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testExecuteWithStreamResult() {
+        exchange.getAttributes().put(Constants.RPC_RESULT, Flux.just("first", "second"));
+        StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
+        assertEquals(MediaType.APPLICATION_NDJSON, exchange.getResponse().getHeaders().getContentType());
+        StepVerifier.create(((MockServerHttpResponse) exchange.getResponse()).getBodyAsString())
+                .expectNext("first\nsecond\n").verifyComplete();
+    }
+
     @Test
     public void testExecuteWithNoResult() {
         StepVerifier.create(rpcMessageWriter.writeWith(exchange, chain)).expectSubscription().verifyComplete();
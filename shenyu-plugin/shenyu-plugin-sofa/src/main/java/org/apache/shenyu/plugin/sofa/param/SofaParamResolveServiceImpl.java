@@ -21,12 +21,14 @@ import com.alipay.hessian.generic.model.GenericCollection;
 import com.alipay.hessian.generic.model.GenericMap;
 import com.alipay.hessian.generic.model.GenericObject;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.plugin.api.param.RpcParamBinder;
+import org.apache.shenyu.plugin.api.param.RpcParameterTypes;
 import org.springframework.lang.NonNull;
 
 import java.util.ArrayList;
@@ -41,17 +43,17 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
     @Override
     @NonNull
     public Pair<String[], Object[]> buildParameter(final String body, final String parameterTypes) {
-        final String[] parameterTypeStrings = StringUtils.split(parameterTypes, ",");
-        List<String> parameterTypeArr = new ArrayList<>(parameterTypeStrings.length);
-        List<Object> values = new ArrayList<>();
-        final List<Object> params = new ArrayList<>(GsonUtils.getInstance().toObjectMap(body).values());
-        for (int paramIndex = 0; paramIndex < parameterTypeStrings.length; paramIndex++) {
-            ParamCheckUtils.checkParamsLength(params.size(), parameterTypeStrings.length);
-            final String[] parameter = StringUtils.split(parameterTypeStrings[paramIndex], "#");
-            parameterTypeArr.add(parameter[0]);
-            values.add(convertToParameterValue(params.get(paramIndex), parameter));
+        final String[][] parameterTypeArr = RpcParameterTypes.of(parameterTypes).getGenericTypes();
+        final List<Object> params = new ArrayList<>(RpcParamBinder.parse(body).values());
+        ParamCheckUtils.checkParamsLength(params.size(), parameterTypeArr.length);
+        final String[] types = new String[parameterTypeArr.length];
+        final Object[] values = new Object[parameterTypeArr.length];
+        for (int paramIndex = 0; paramIndex < parameterTypeArr.length; paramIndex++) {
+            final String[] parameter = parameterTypeArr[paramIndex];
+            types[paramIndex] = parameter[0];
+            values[paramIndex] = convertToParameterValue(params.get(paramIndex), parameter);
         }
-        return new ImmutablePair<>(parameterTypeArr.toArray(new String[0]), values.toArray());
+        return new ImmutablePair<>(types, values);
     }
 
     /**
@@ -68,7 +70,7 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
             return value;
         }
         if (value instanceof JsonObject && parameterType[0].contains("Map")) {
-            final Map<String, Object> mapValue = GsonUtils.getInstance().convertToMap(value.toString());
+            final Map<String, Object> mapValue = GsonUtils.getInstance().convertTreeToMap((JsonObject) value);
             if (parameterType.length == 1) {
                 // no generic info
                 return mapValue;
@@ -86,7 +88,7 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
         if (value instanceof JsonArray) {
             if (parameterType.length == 1) {
                 // no generic info
-                return GsonUtils.getInstance().fromList(value.toString(), Object.class);
+                return GsonUtils.getInstance().treeToList((JsonArray) value, Object.class);
             }
             // generic collection
             final GenericCollection genericCollection = new GenericCollection(parameterType[1]);
@@ -109,7 +111,8 @@ public class SofaParamResolveServiceImpl implements SofaParamResolveService {
         if (isSingleType(paramType)) {
             return paramValue;
         }
-        final Map<String, Object> mapValue = GsonUtils.getInstance().convertToMap(paramValue.toString());
+        final Map<String, Object> mapValue = paramValue instanceof JsonElement
+                ? GsonUtils.getInstance().convertTreeToMap((JsonElement) paramValue) : GsonUtils.getInstance().convertToMap(paramValue.toString());
         GenericObject genericObject = new GenericObject(paramType);
         mapValue.forEach(genericObject::putField);
         return genericObject;
@@ -18,8 +18,8 @@
 package org.apache.shenyu.plugin.tars.util;
 
 import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ParamCheckUtils;
+import org.apache.shenyu.plugin.api.param.RpcParamBinder;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -143,7 +143,7 @@ public final class PrxInfoUtil {
      * @return the param to invoke
      */
     public static Object[] getParamArray(final Class<?>[] paramTypes, final String[] paramNames, final String body) {
-        Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
+        Map<String, Object> bodyMap = RpcParamBinder.parse(body);
         ParamCheckUtils.checkParamsLength(bodyMap.size(), paramNames.length);
         Object[] param = new Object[paramNames.length];
         for (int i = 0; i < paramNames.length; i++) {
@@ -152,7 +152,7 @@ public final class PrxInfoUtil {
             if (PRIMITIVE_TYPE.containsKey(paramType.getName())) {
                 param[i] = PRIMITIVE_TYPE.get(paramType.getName()).getFunc().apply(bodyMap.get(paramName));
             } else {
-                param[i] = bodyMap.get(paramName);
+                param[i] = RpcParamBinder.toValue(bodyMap.get(paramName));
             }
         }
         return param;
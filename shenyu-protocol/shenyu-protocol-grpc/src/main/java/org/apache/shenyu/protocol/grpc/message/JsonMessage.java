@@ -48,6 +48,15 @@ public class JsonMessage {
      */
     private static final Map<String, MethodDescriptor<DynamicMessage, DynamicMessage>> METHOD_DESCRIPTOR_CACHE = Maps.newConcurrentMap();
 
+    /**
+     * the descriptor of the json message never changes, build it only once.
+     */
+    private static final Descriptors.Descriptor JSON_DESCRIPTOR = buildJsonMarshallerDescriptor();
+
+    private static final Descriptors.FieldDescriptor JSON_FIELD_DESCRIPTOR = JSON_DESCRIPTOR.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+
+    private static final DynamicMessage EMPTY_JSON_MESSAGE = DynamicMessage.newBuilder(JSON_DESCRIPTOR).build();
+
     /**
      * Dynamic build JsonMarshaller Descriptor.
      *
@@ -102,10 +111,9 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage(final String jsonParam) {
-        // build Descriptor and set request param
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        jsonDynamicMessage.setField(jsonDescriptor.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME), jsonParam);
+        // set request param
+        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(JSON_DESCRIPTOR);
+        jsonDynamicMessage.setField(JSON_FIELD_DESCRIPTOR, jsonParam);
         return jsonDynamicMessage.build();
     }
 
@@ -115,9 +123,7 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage() {
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        return jsonDynamicMessage.build();
+        return EMPTY_JSON_MESSAGE;
     }
 
     /**
@@ -169,6 +175,25 @@ public class JsonMessage {
         return methodDescriptor;
     }
 
+    /**
+     * Build json marshaller MethodDescriptor, without touching the shared cache.
+     *
+     * @param serviceName service name
+     * @param methodName  method name
+     * @param methodType  methodType
+     * @return MethodDescriptor
+     */
+    public static MethodDescriptor<DynamicMessage, DynamicMessage> buildJsonMarshallerMethodDescriptor(final String serviceName,
+                                                                                                       final String methodName,
+                                                                                                       final MethodDescriptor.MethodType methodType) {
+        return MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                .setType(getMethodType(methodType))
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName + GrpcConstants.GRPC_JSON_SERVICE, methodName))
+                .setRequestMarshaller(new DynamicMessageMarshaller(JSON_DESCRIPTOR))
+                .setResponseMarshaller(new DynamicMessageMarshaller(JSON_DESCRIPTOR))
+                .build();
+    }
+
     /**
      * getMethodType.
      *
@@ -101,7 +101,7 @@ public class JsonMessageTest {
     }
 
     @Test
-    public void testGetDataFromDynamicMessage() {
+    public void testGetDataFromDynamicMessage() throws NoSuchMethodException {
         String jsonParam = "{\"text\":\"hello world\"}";
 
         DynamicMessage jsonMessage = JsonMessage.buildJsonMessage(jsonParam);
@@ -120,10 +120,25 @@ public class JsonMessageTest {
 
         try (MockedStatic<Descriptors.FileDescriptor> descriptorMockedStatic = mockStatic(Descriptors.FileDescriptor.class)) {
             descriptorMockedStatic.when(() -> Descriptors.FileDescriptor.buildFrom(any(), any(Descriptors.FileDescriptor[].class))).thenThrow(Descriptors.DescriptorValidationException.class);
-            assertThrows(RuntimeException.class, () -> JsonMessage.buildJsonMessage());
+            Method buildJsonMarshallerDescriptor = JsonMessage.class.getDeclaredMethod("buildJsonMarshallerDescriptor");
+            buildJsonMarshallerDescriptor.setAccessible(true);
+            InvocationTargetException exception = assertThrows(InvocationTargetException.class, () -> buildJsonMarshallerDescriptor.invoke(null));
+            assertTrue(exception.getCause() instanceof RuntimeException);
         }
     }
 
+    @Test
+    public void testBuildJsonMarshallerMethodDescriptor() {
+        MethodDescriptor<DynamicMessage, DynamicMessage> echo = JsonMessage.buildJsonMarshallerMethodDescriptor("echo.service",
+                "echo",
+                MethodDescriptor.MethodType.SERVER_STREAMING);
+
+        assertEquals("echo.service" + GrpcConstants.GRPC_JSON_SERVICE + "/echo", echo.getFullMethodName());
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, echo.getType());
+        DynamicMessage request = JsonMessage.buildJsonMessage("{\"text\":\"hello\"}");
+        assertEquals(request, echo.parseRequest(echo.streamRequest(request)));
+    }
+
     @Test
     public void testCreateJsonMarshallerMethodDescriptor() {
         DynamicMessage jsonMessage = JsonMessage.buildJsonMessage();
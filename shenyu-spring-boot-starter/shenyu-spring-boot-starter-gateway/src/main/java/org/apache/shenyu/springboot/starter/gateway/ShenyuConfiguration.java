@@ -18,6 +18,7 @@
 package org.apache.shenyu.springboot.starter.gateway;
 
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.enums.TrieTypeEnum;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.RpcParamTransformPlugin;
@@ -25,8 +26,11 @@ import org.apache.shenyu.plugin.base.cache.CommonMetaDataSubscriber;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.CompactShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieRuleListener;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrieSelectorListener;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.apache.shenyu.web.configuration.ErrorHandlerConfiguration;
@@ -269,6 +273,9 @@ public class ShenyuConfiguration {
      */
     @Bean
     public ShenyuTrie shenyuTrie(final ShenyuConfig shenyuConfig) {
+        if (TrieTypeEnum.COMPACT.getType().equals(shenyuConfig.getTrie().getType())) {
+            return new CompactShenyuTrie(shenyuConfig.getTrie().getMatchMode());
+        }
         return new ShenyuTrie(shenyuConfig.getTrie().getChildrenSize(), shenyuConfig.getTrie().getPathRuleCacheSize(),
                 shenyuConfig.getTrie().getPathVariableSize(), shenyuConfig.getTrie().getMatchMode());
     }
@@ -282,4 +289,24 @@ public class ShenyuConfiguration {
     public ShenyuTrieRuleListener shenyuTrieRuleListener() {
         return new ShenyuTrieRuleListener();
     }
+
+    /**
+     * shenyu selector trie.
+     *
+     * @return ShenyuSelectorTrie
+     */
+    @Bean
+    public ShenyuSelectorTrie shenyuSelectorTrie() {
+        return new ShenyuSelectorTrie();
+    }
+
+    /**
+     * shenyu trie selector listener.
+     *
+     * @return ShenyuTrieSelectorListener
+     */
+    @Bean
+    public ShenyuTrieSelectorListener shenyuTrieSelectorListener() {
+        return new ShenyuTrieSelectorListener();
+    }
 }
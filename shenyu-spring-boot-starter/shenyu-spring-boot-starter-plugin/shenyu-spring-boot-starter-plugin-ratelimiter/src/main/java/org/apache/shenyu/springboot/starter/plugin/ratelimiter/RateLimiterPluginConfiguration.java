@@ -20,6 +20,8 @@ package org.apache.shenyu.springboot.starter.plugin.ratelimiter;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.ratelimiter.RateLimiterPlugin;
+import org.apache.shenyu.plugin.ratelimiter.executor.HybridRateLimiter;
+import org.apache.shenyu.plugin.ratelimiter.executor.LocalRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.executor.RedisRateLimiter;
 import org.apache.shenyu.plugin.ratelimiter.handler.RateLimiterPluginDataHandler;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -40,7 +42,8 @@ public class RateLimiterPluginConfiguration {
      */
     @Bean
     public ShenyuPlugin rateLimiterPlugin() {
-        return new RateLimiterPlugin(new RedisRateLimiter());
+        RedisRateLimiter redisRateLimiter = new RedisRateLimiter();
+        return new RateLimiterPlugin(redisRateLimiter, new LocalRateLimiter(), new HybridRateLimiter(redisRateLimiter));
     }
     
     /**
@@ -30,9 +30,11 @@ import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.common.utils.JsonUtils;
 import org.apache.shenyu.common.utils.UUIDUtils;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
+import org.apache.shenyu.plugin.base.trie.ShenyuSelectorTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.slf4j.Logger;
@@ -97,6 +99,7 @@ public class LocalPluginController {
         List<SelectorData> selectorData = BaseDataCache.getInstance().obtainSelectorData(name);
         final List<String> selectorIds = selectorData.stream().map(SelectorData::getId).collect(Collectors.toList());
         BaseDataCache.getInstance().removeSelectDataByPluginName(name);
+        SpringBeanUtils.getInstance().getBean(ShenyuSelectorTrie.class).removePlugin(name);
         MatchDataCache.getInstance().removeSelectorData(name);
         MatchDataCache.getInstance().removeRuleData(name);
         for (String selectorId : selectorIds) {
@@ -172,6 +175,16 @@ public class LocalPluginController {
         return Mono.just(JsonUtils.toJson(pluginData));
     }
 
+    /**
+     * Find the statistics of the plugins in the plugin chain, recorded when the metrics plugin chain is enabled.
+     *
+     * @return the mono
+     */
+    @GetMapping("/plugin/statistics")
+    public Mono<String> statistics() {
+        return Mono.just(JsonUtils.toJson(PluginMetricRegistry.getInstance().getStatistics()));
+    }
+
     /**
      * Save selector mono.
      *
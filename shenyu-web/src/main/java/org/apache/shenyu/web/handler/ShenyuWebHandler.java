@@ -24,6 +24,8 @@ import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.apache.shenyu.plugin.api.stats.PluginStatistics;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -44,6 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +71,8 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
 
     private final boolean scheduled;
 
+    private final boolean instrumented;
+
     private Scheduler scheduler;
 
     /**
@@ -82,6 +88,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         this.shenyuLoaderService = shenyuLoaderService;
         ShenyuConfig.Scheduler config = shenyuConfig.getScheduler();
         this.scheduled = config.getEnabled();
+        this.instrumented = shenyuConfig.getMetrics().getPluginChain();
         if (scheduled) {
             if (Objects.equals(config.getType(), "fixed")) {
                 this.scheduler = Schedulers.newParallel("shenyu-work-threads", config.getThreads());
@@ -99,7 +106,8 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
-        Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        ShenyuPluginChain chain = instrumented ? new InstrumentedShenyuPluginChain(plugins) : new DefaultShenyuPluginChain(plugins);
+        Mono<Void> execute = chain.execute(exchange);
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
@@ -235,4 +243,103 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
             });
         }
     }
+
+    /**
+     * The plugin chain which records the self time, skip and error count of each plugin into {@link PluginMetricRegistry}.
+     * the self time of a plugin is the time from its subscription to its termination, minus the time of the plugins
+     * executed through it, so the time of a plugin waiting for the upstream is its own.
+     */
+    private static class InstrumentedShenyuPluginChain implements ShenyuPluginChain {
+
+        /**
+         * the attribute of the last error counted by a plugin.
+         */
+        private static final String COUNTED_ERROR = "pluginCountedError";
+
+        private int index;
+
+        private final List<ShenyuPlugin> plugins;
+
+        /**
+         * Instantiates a new Instrumented shenyu plugin chain.
+         *
+         * @param plugins the plugins
+         */
+        InstrumentedShenyuPluginChain(final List<ShenyuPlugin> plugins) {
+            this.plugins = plugins;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange) {
+            return Mono.defer(() -> {
+                if (this.index < plugins.size()) {
+                    ShenyuPlugin plugin = plugins.get(this.index++);
+                    PluginStatistics statistics = PluginMetricRegistry.getInstance().obtainStatistics(plugin.named());
+                    if (plugin.skip(exchange)) {
+                        statistics.recordSkip();
+                        return this.execute(exchange);
+                    }
+                    final AtomicLong childNanos = new AtomicLong();
+                    final AtomicBoolean failed = new AtomicBoolean();
+                    final long start = System.nanoTime();
+                    return plugin.execute(exchange, new TimedShenyuPluginChain(this, childNanos))
+                            .doOnError(throwable -> failed.set(markFailed(exchange, throwable)))
+                            .doFinally(signal -> statistics.recordExecute(System.nanoTime() - start - childNanos.get(), failed.get()));
+                }
+                return Mono.empty();
+            });
+        }
+
+        /**
+         * Mark the error as counted, an error propagates through all the plugins before the one it starts from,
+         * and it is only counted at the plugin it starts from.
+         *
+         * @param exchange  the exchange
+         * @param throwable the error
+         * @return whether the error is not counted by another plugin yet
+         */
+        private static boolean markFailed(final ServerWebExchange exchange, final Throwable throwable) {
+            if (exchange.getAttribute(COUNTED_ERROR) == throwable) {
+                return false;
+            }
+            exchange.getAttributes().put(COUNTED_ERROR, throwable);
+            return true;
+        }
+    }
+
+    /**
+     * The chain seen by a plugin of the {@link InstrumentedShenyuPluginChain}, it adds the time of the plugins executed
+     * through it to the child time of the plugin, before the termination reaches the plugin.
+     */
+    private static class TimedShenyuPluginChain implements ShenyuPluginChain {
+
+        private final ShenyuPluginChain chain;
+
+        private final AtomicLong childNanos;
+
+        /**
+         * Instantiates a new Timed shenyu plugin chain.
+         *
+         * @param chain      the chain
+         * @param childNanos the child time of the plugin
+         */
+        TimedShenyuPluginChain(final ShenyuPluginChain chain, final AtomicLong childNanos) {
+            this.chain = chain;
+            this.childNanos = childNanos;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange) {
+            return Mono.defer(() -> {
+                final long start = System.nanoTime();
+                final AtomicBoolean recorded = new AtomicBoolean();
+                final Runnable record = () -> {
+                    if (recorded.compareAndSet(false, true)) {
+                        childNanos.addAndGet(System.nanoTime() - start);
+                    }
+                };
+                return chain.execute(exchange).doOnTerminate(record).doOnCancel(record);
+            });
+        }
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.plugin.api.stats.PluginMetricRegistry;
+import org.apache.shenyu.plugin.api.stats.PluginStatistics;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
 import org.apache.shenyu.web.loader.ShenyuLoaderService;
@@ -40,7 +42,9 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -110,6 +114,65 @@ public final class ShenyuWebHandlerTest {
         assertNotNull(handle2);
     }
 
+    @Test
+    public void instrumentedTest() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getMetrics().setPluginChain(true);
+        PluginMetricRegistry.getInstance().clean();
+        ShenyuWebHandler instrumentedHandler = new ShenyuWebHandler(listPlugins, shenyuLoaderService, shenyuConfig);
+        StepVerifier.create(instrumentedHandler.handle(exchange)).expectSubscription().verifyComplete();
+        PluginStatistics statistics1 = PluginMetricRegistry.getInstance().obtainStatistics(plugin1.named());
+        assertEquals(1, statistics1.getExecuteCount());
+        assertEquals(0, statistics1.getErrorCount());
+        assertTrue(statistics1.getSelfNanos() > 0);
+        PluginStatistics statistics2 = PluginMetricRegistry.getInstance().obtainStatistics(plugin2.named());
+        assertEquals(0, statistics2.getExecuteCount());
+        assertEquals(1, statistics2.getSkipCount());
+    }
+
+    @Test
+    public void instrumentedSelfTimeTest() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getMetrics().setPluginChain(true);
+        PluginMetricRegistry.getInstance().clean();
+        ShenyuPlugin parent = new DelayPlugin("test-delay-parent", 1, Duration.ofMillis(20));
+        ShenyuPlugin child = new DelayPlugin("test-delay-child", 2, Duration.ofMillis(100));
+        ShenyuWebHandler instrumentedHandler = new ShenyuWebHandler(Arrays.asList(parent, child), shenyuLoaderService, shenyuConfig);
+        final long start = System.nanoTime();
+        StepVerifier.create(instrumentedHandler.handle(exchange)).expectSubscription().verifyComplete();
+        final long inclusiveNanos = System.nanoTime() - start;
+        long parentSelfNanos = PluginMetricRegistry.getInstance().obtainStatistics(parent.named()).getSelfNanos();
+        long childSelfNanos = PluginMetricRegistry.getInstance().obtainStatistics(child.named()).getSelfNanos();
+        assertTrue(childSelfNanos >= Duration.ofMillis(200).toNanos());
+        assertTrue(parentSelfNanos >= Duration.ofMillis(40).toNanos());
+        assertTrue(parentSelfNanos < inclusiveNanos - childSelfNanos);
+    }
+
+    @Test
+    public void instrumentedErrorTest() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getMetrics().setPluginChain(true);
+        PluginMetricRegistry.getInstance().clean();
+        ShenyuPlugin outer = new DelayPlugin("test-error-outer", 1, Duration.ZERO);
+        ShenyuPlugin middle = new DelayPlugin("test-error-middle", 2, Duration.ZERO);
+        ShenyuPlugin inner = new ErrorPlugin("test-error-inner", 3);
+        ShenyuWebHandler instrumentedHandler = new ShenyuWebHandler(Arrays.asList(outer, middle, inner), shenyuLoaderService, shenyuConfig);
+        StepVerifier.create(instrumentedHandler.handle(exchange)).expectSubscription().verifyError(IllegalStateException.class);
+        assertEquals(1, PluginMetricRegistry.getInstance().obtainStatistics(inner.named()).getErrorCount());
+        assertEquals(0, PluginMetricRegistry.getInstance().obtainStatistics(middle.named()).getErrorCount());
+        assertEquals(0, PluginMetricRegistry.getInstance().obtainStatistics(outer.named()).getErrorCount());
+        assertEquals(1, PluginMetricRegistry.getInstance().obtainStatistics(outer.named()).getExecuteCount());
+    }
+
     @Test
     public void testOnApplicationEvent() {
         PluginData pluginData1 = PluginData.builder().id("1")
@@ -221,4 +284,61 @@ public final class ShenyuWebHandlerTest {
             return ShenyuPlugin.super.skip(exchange);
         }
     }
+
+    static class DelayPlugin implements ShenyuPlugin {
+
+        private final String name;
+
+        private final int order;
+
+        private final Duration delay;
+
+        DelayPlugin(final String name, final int order, final Duration delay) {
+            this.name = name;
+            this.order = order;
+            this.delay = delay;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return Mono.delay(delay).then(chain.execute(exchange)).then(Mono.delay(delay)).then();
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return name;
+        }
+    }
+
+    static class ErrorPlugin implements ShenyuPlugin {
+
+        private final String name;
+
+        private final int order;
+
+        ErrorPlugin(final String name, final int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return Mono.error(new IllegalStateException(name));
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return name;
+        }
+    }
 }